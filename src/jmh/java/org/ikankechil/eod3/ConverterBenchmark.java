@@ -0,0 +1,133 @@
+/**
+ * ConverterBenchmark.java  v0.1  17 October 2026 11:15:44 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.ikankechil.eod3.sources.Quandl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for <code>Converter</code>'s line parsing and file merging.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ConverterBenchmark {
+
+  // not a constant, to prevent constant folding
+  private String              line   = "INTC,20151204,34.11,35.03,34.00,34.94,24484400";
+
+  private static final String SYMBOL = "INTC";
+  private static final String OHLCV  = ",34.11,35.03,34.00,34.94,24484400";
+
+  /**
+   * An existing price history and an update file overlapping its latest
+   * half.
+   */
+  @State(Scope.Thread)
+  public static class MergeFiles {
+
+    @Param({ "250", "5000" })   // a year and 20 years of daily prices
+    public int        rows;
+
+    @Param({ "5", "250" })      // a week and a year of updates
+    public int        updates;
+
+    private Converter converter;
+    private Path      directory;
+    private Path      history;
+    private Path      update;
+    File              src;
+    File              target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      converter = new Converter(new Quandl());
+      directory = Files.createTempDirectory(ConverterBenchmark.class.getSimpleName());
+
+      final Calendar latest = Calendar.getInstance();
+      latest.clear();
+      latest.set(2015, Calendar.DECEMBER, 31);
+      history = Files.write(directory.resolve("history"), lines(latest, rows), StandardCharsets.UTF_8);
+
+      latest.add(Calendar.DATE, updates / 2);
+      update = Files.write(directory.resolve("update"), lines(latest, updates), StandardCharsets.UTF_8);
+
+      src = directory.resolve(SYMBOL + "_20151201-20160131.csv").toFile();
+      target = directory.resolve(SYMBOL + ".csv").toFile();
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() throws IOException {
+      // merging overwrites target
+      Files.copy(history, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      Files.copy(update, src.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+      converter.stop();
+      for (final Path path : new Path[] { src.toPath(), target.toPath(), update, history, directory }) {
+        Files.deleteIfExists(path);
+      }
+    }
+
+    private static final List<String> lines(final Calendar latest, final int count) {
+      final DateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", Locale.US);
+      final Calendar date = (Calendar) latest.clone();
+      final List<String> lines = new ArrayList<>(count);
+      for (int i = 0; i < count; ++i) {
+        lines.add(SYMBOL + ',' + dateFormat.format(date.getTime()) + OHLCV);
+        date.add(Calendar.DATE, -1);
+      }
+      return lines;
+    }
+
+  }
+
+  @Benchmark
+  public Entry<String, String> extractSymbolAndDate() {
+    return Converter.extractSymbolAndDate(line);
+  }
+
+  @Benchmark
+  public File merge(final MergeFiles files) throws IOException {
+    return files.converter.merge(files.src, files.target);
+  }
+
+}
@@ -0,0 +1,78 @@
+/**
+ * FilenameConventionBenchmark.java  v0.1  17 October 2026 11:02:09 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark for <code>FilenameConvention</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class FilenameConventionBenchmark {
+
+  private final Interval      sinceInception = Interval.SINCE_INCEPTION;
+  private final Interval      weekly         = new Interval(newCalendar(2001, Calendar.JANUARY, 1),
+                                                            newCalendar(2015, Calendar.DECEMBER, 31),
+                                                            Frequencies.WEEKLY);
+
+  private final String[]      filenames      = { "INTC.csv",
+                                                 "INTC_w.csv",
+                                                 "INTC_20010101-20151231.csv",
+                                                 "INTC_20010101-20151231_m.csv" };
+
+  private static final String SYMBOL         = "INTC";
+
+  @Benchmark
+  public String getFilename() {
+    return FilenameConvention.getFilename(SYMBOL, sinceInception);
+  }
+
+  @Benchmark
+  public String getFilenameWithDates() {
+    return FilenameConvention.getFilename(SYMBOL, weekly);
+  }
+
+  @Benchmark
+  public String getFilenameWithNewInterval() {
+    // defeats suffix caching, as when every update has its own interval
+    return FilenameConvention.getFilename(SYMBOL, Interval.of(weekly.start(), weekly.end(), Frequencies.WEEKLY));
+  }
+
+  @Benchmark
+  public void getFrequencyFrom(final Blackhole blackhole) {
+    for (final String filename : filenames) {
+      blackhole.consume(FilenameConvention.getFrequencyFrom(filename));
+    }
+  }
+
+  private static final Calendar newCalendar(final int year, final int month, final int date) {
+    final Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(year, month, date);
+    return calendar;
+  }
+
+}
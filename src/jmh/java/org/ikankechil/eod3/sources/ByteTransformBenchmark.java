@@ -0,0 +1,116 @@
+/**
+ * ByteTransformBenchmark.java  v0.1  17 October 2026 10:47:50 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.sources;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.ikankechil.eod3.io.ByteStreamTransformer;
+import org.ikankechil.eod3.io.ByteTransform;
+import org.ikankechil.io.TextTransform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark comparing the <code>String</code> and byte-level streaming
+ * paths of sources supporting <code>Source.newByteTransform(String)</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ByteTransformBenchmark {
+
+  @Param({ "Kdb", "Morningstar", "Netfonds", "Quandl", "QuoteMedia", "YahooFinance" })
+  public String                       sourceName;
+
+  @Param({ "250", "5000" })
+  public int                          rows;
+
+  private Source                      source;
+  private TextTransform               transform;
+  private ByteTransform               byteTransform;
+  private byte[]                      payload;
+
+  private final ByteStreamTransformer transformer = new ByteStreamTransformer();
+
+  @Setup
+  public void setUp() throws Exception {
+    source = (Source) Class.forName(Source.class.getPackage().getName() + '.' + sourceName).newInstance();
+    transform = source.newTransform(TransformBenchmark.SYMBOL);
+    byteTransform = source.newByteTransform(TransformBenchmark.SYMBOL);
+    payload = TransformBenchmark.toBytes(TransformBenchmark.payload(sourceName, source, rows));
+  }
+
+  @Benchmark
+  public void streamLines(final Blackhole blackhole) throws IOException {
+    try (final BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(payload),
+                                                                            StandardCharsets.UTF_8))) {
+      for (int r = source.skippedRows(); (r > 0) && (br.readLine() != null); --r) { /* do nothing */ }
+
+      String line;
+      while ((line = br.readLine()) != null) {
+        blackhole.consume(transform.transform(line).getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  @Benchmark
+  public long streamBytes(final Blackhole blackhole) throws IOException {
+    try (final InputStream is = new ByteArrayInputStream(payload)) {
+      return transformer.transform(is, source.skippedRows(), byteTransform, new BlackholeChannel(blackhole));
+    }
+  }
+
+  private static final class BlackholeChannel implements WritableByteChannel {
+
+    private final Blackhole blackhole;
+
+    BlackholeChannel(final Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+      final int remaining = src.remaining();
+      blackhole.consume(src.get(src.limit() - 1));
+      src.position(src.limit());
+      return remaining;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() { /* do nothing */ }
+
+  }
+
+}
@@ -0,0 +1,128 @@
+/**
+ * TransformBenchmark.java  v0.1  17 October 2026 10:32:18 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.sources;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.ikankechil.io.TextTransform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark for <code>Source.newTransform(String)</code>, run on the
+ * sample payloads recorded in each source's JUnit test.
+ * <p>
+ * Data rows of streamable sources are repeated up to <code>rows</code> to
+ * approximate a full price history; the other sources' payloads are used as
+ * recorded.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class TransformBenchmark {
+
+  @Param({ "FinancialContent",
+           "FXHistoricalData",
+           "GoogleFinance",
+           "Kdb",
+           "Morningstar",
+           "MotleyFool",
+           "MSNMoney",
+           "Netfonds",
+           "Quandl",
+           "QuoteMedia",
+           "StockNod",
+           "Stooq",
+           "WallStreetJournal",
+           "YahooFinance" })
+  public String               sourceName;
+
+  @Param({ "250", "5000" })   // a year and 20 years of daily prices
+  public int                  rows;
+
+  private Source              source;
+  private TextTransform       transform;
+  private List<String>        lines;
+
+  static final String         SYMBOL  = SourceTest.SYMBOL;
+
+  private static final String PACKAGE = Source.class.getPackage().getName() + '.';
+  private static final String TEST    = "Test";
+  private static final String CRLF    = "\r\n";
+
+  @Setup
+  public void setUp() throws Exception {
+    source = (Source) Class.forName(PACKAGE + sourceName).newInstance();
+    transform = source.newTransform(SYMBOL);
+    lines = payload(sourceName, source, rows);
+  }
+
+  @Benchmark
+  public List<String> transformLines() {
+    return source.newTransformer(transform).transform(new ArrayList<>(lines));
+  }
+
+  @Benchmark
+  public void transformLineByLine(final Blackhole blackhole) {
+    for (final String line : lines.subList(source.skippedRows(), lines.size())) {
+      blackhole.consume(transform.transform(line));
+    }
+  }
+
+  /**
+   * @return the sample payload recorded in <code>sourceName</code>'s JUnit
+   *         test, with data rows repeated up to <code>rows</code> if
+   *         <code>source</code> is streamable
+   */
+  static final List<String> payload(final String sourceName, final Source source, final int rows)
+      throws ReflectiveOperationException {
+    final SourceTest test = (SourceTest) Class.forName(PACKAGE + sourceName + TEST).newInstance();
+    final List<String> recorded = test.originalLines;
+    if (!source.isStreamable()) {
+      return new ArrayList<>(recorded);
+    }
+
+    final int skippedRows = source.skippedRows();
+    final List<String> data = recorded.subList(skippedRows, recorded.size());
+    final List<String> payload = new ArrayList<>(skippedRows + rows);
+    payload.addAll(recorded.subList(0, skippedRows));
+    for (int i = 0; i < rows; ++i) {
+      payload.add(data.get(i % data.size()));
+    }
+    return payload;
+  }
+
+  /**
+   * @return <code>lines</code> as a UTF-8 encoded download
+   */
+  static final byte[] toBytes(final List<String> lines) {
+    final StringBuilder sb = new StringBuilder();
+    for (final String line : lines) {
+      sb.append(line).append(CRLF);
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+}
@@ -0,0 +1,282 @@
+/**
+ * Adjuster.java  v0.1  18 October 2026 6:48:20 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.ikankechil.eod3.FilenameConvention.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ikankechil.eod3.CorporateActions.Action;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Derives split- and dividend-adjusted series from daily MetaStock CSV data
+ * files and their recorded <code>CorporateActions</code>.
+ * <p>
+ * Prices are adjusted backwards: each row is scaled by the cumulative factor
+ * of all actions after it, so that the most recent prices are as published.
+ * A split of ratio <i>r</i> divides earlier prices by <i>r</i> and multiplies
+ * earlier volumes by <i>r</i>.  A dividend <i>D</i> multiplies earlier prices
+ * by 1 - <i>D</i> / <i>C</i>, <i>C</i> being the close before its ex-date.
+ * <p>
+ * Adjustment is incremental.  Rows dated after the latest adjusted row are
+ * adjusted for the actions between them, and earlier adjusted rows are only
+ * rescaled, once, by the cumulative factor of new actions.  Without new
+ * actions, they are copied as they are, byte for byte.  Symbols without
+ * corporate actions are not adjusted at all.  Actions recorded with ex-dates
+ * at or before the latest adjusted row are therefore not applied unless the
+ * adjusted file is deleted.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class Adjuster {
+
+  private static final char   COMMA  = ',';
+  private static final int    SCALE  = 6;   // decimal places of adjusted prices
+
+  // column indices
+  private static final int    DATE   = 1;
+  private static final int    OPEN   = 2;
+  private static final int    CLOSE  = 5;
+  private static final int    VOLUME = 6;
+
+  private static final Logger logger = LoggerFactory.getLogger(Adjuster.class);
+
+  /**
+   * Adjusts <code>daily</code> into a file named by
+   * <code>FilenameConvention.getAdjustedFilename</code> in the same directory,
+   * unless its symbol has no corporate actions and so needs no adjusting.
+   *
+   * @param daily a daily data file
+   * @param actions the corporate actions of <code>daily</code>'s directory
+   * @return the adjusted file, or <code>daily</code> itself if it needs no
+   *         adjusting
+   * @throws IOException if <code>daily</code> is empty or an I/O error occurs
+   */
+  public File adjust(final File daily, final CorporateActions actions) throws IOException {
+    if (!isAdjustable(daily, actions)) {
+      logger.debug("No corporate actions: {}", daily);
+      return daily;
+    }
+    final String filename = daily.getName();
+    final String symbol = getSymbolFrom(filename);
+    final File target = adjustedFile(daily);
+
+    final String first = firstLine(target); // latest adjusted row
+    final TradingDate latest = (first == null) ? null : date(split(first));
+
+    final List<String> recent = readAfter(daily, latest);
+    if (recent.isEmpty()) {
+      if (latest == null) {
+        throw new IOException("Empty file: " + daily);
+      }
+      logger.debug("Nothing to adjust: {} -> {}", daily, target);
+      return target;
+    }
+
+    // actions beyond the data are left for when it catches up
+    final List<Action> pending = actions.between(symbol, latest, date(split(recent.get(0))));
+    final Factor factor = new Factor();
+
+    // replace atomically, so that a crash cannot leave target truncated
+    final Path tmp = Converter.newTempFile(target.toPath());
+    try {
+      try (
+        final OutputStream os = Files.newOutputStream(tmp);
+        final BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+      ) {
+        int a = 0;
+        for (final String line : recent) {
+          final String[] columns = split(line);
+          a = factor.apply(pending, a, columns);
+          write(factor.scale(columns, line), bw);
+        }
+
+        // the latest adjusted row is as published, having no known actions
+        // after it, so earlier rows are copied as they are unless rescaled by
+        // new actions
+        if (first != null) {
+          factor.apply(pending, a, split(first));
+          if (factor.isIdentity()) {
+            bw.flush();
+            Files.copy(target.toPath(), os);
+          }
+          else {
+            rescale(target, factor, bw);
+          }
+        }
+      }
+      Converter.replace(tmp, target.toPath());
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    logger.info("Adjusted {} new rows for {} new corporate actions: {} -> {}",
+                recent.size(),
+                pending.size(),
+                daily,
+                target);
+    return target;
+  }
+
+  /**
+   * @param daily a daily data file
+   * @param actions the corporate actions of <code>daily</code>'s directory
+   * @return <code>true</code> if <code>daily</code>'s symbol has corporate
+   *         actions or has been adjusted before
+   */
+  public boolean isAdjustable(final File daily, final CorporateActions actions) {
+    return actions.contains(getSymbolFrom(daily.getName())) || adjustedFile(daily).isFile();
+  }
+
+  private static final File adjustedFile(final File daily) {
+    return new File(daily.getParentFile(), getAdjustedFilename(daily.getName()));
+  }
+
+  /**
+   * @return the first non-empty line of <code>file</code>, or
+   *         <code>null</code> if there is none or no such file
+   */
+  private static final String firstLine(final File file) throws IOException {
+    if (!file.isFile()) {
+      return null;
+    }
+    try (final BufferedReader br = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null && line.isEmpty()) { /* skip */ }
+      return line;
+    }
+  }
+
+  /**
+   * Rescales every row of <code>adjusted</code> by <code>factor</code>.
+   */
+  private static final void rescale(final File adjusted, final Factor factor, final BufferedWriter bw)
+      throws IOException {
+    try (final BufferedReader br = Files.newBufferedReader(adjusted.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (!line.isEmpty()) {
+          write(factor.scale(split(line), line), bw);
+        }
+      }
+    }
+  }
+
+  private static final void write(final String line, final BufferedWriter bw) throws IOException {
+    bw.write(line);
+    bw.newLine();
+  }
+
+  /**
+   * @return lines of <code>daily</code> dated after <code>latest</code>, or
+   *         all lines if <code>latest</code> is <code>null</code>
+   */
+  private static final List<String> readAfter(final File daily, final TradingDate latest) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    try (final BufferedReader br = Files.newBufferedReader(daily.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        if (latest != null && !date(split(line)).isAfter(latest)) {
+          break;  // reverse chronological order
+        }
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+  private static final String[] split(final String line) {
+    final String[] columns = line.split(String.valueOf(COMMA));
+    if (columns.length <= CLOSE) {
+      throw new IllegalArgumentException("Malformed line: " + line);
+    }
+    return columns;
+  }
+
+  private static final TradingDate date(final String[] columns) {
+    return TradingDate.valueOf(Integer.parseInt(columns[DATE]));
+  }
+
+  /**
+   * Cumulative adjustment factors of the actions applied so far.
+   */
+  private static final class Factor {
+
+    double price  = 1;
+    double volume = 1;
+
+    /**
+     * Applies actions with ex-dates after the row <code>columns</code>.
+     *
+     * @param actions most recent first
+     * @param from index of the next action to apply
+     * @param columns an unadjusted row
+     * @return index of the next action to apply
+     */
+    int apply(final List<Action> actions, final int from, final String[] columns) {
+      int a = from;
+      if (a < actions.size()) {
+        final TradingDate date = date(columns);
+        for (; a < actions.size() && actions.get(a).date.isAfter(date); ++a) {
+          final Action action = actions.get(a);
+          if (action.dividend != 0) {
+            price *= 1 - action.dividend / Double.parseDouble(columns[CLOSE]);
+          }
+          price /= action.split;
+          volume *= action.split;
+        }
+      }
+      return a;
+    }
+
+    boolean isIdentity() {
+      return price == 1 && volume == 1;
+    }
+
+    String scale(final String[] columns, final String line) {
+      if (isIdentity()) {
+        return line;
+      }
+      final StringBuilder sb = new StringBuilder(line.length() + 16);
+      sb.append(columns[0]).append(COMMA).append(columns[DATE]);
+      for (int c = OPEN; c <= CLOSE; ++c) {
+        sb.append(COMMA).append(format(Double.parseDouble(columns[c]) * price));
+      }
+      if (columns.length > VOLUME) {
+        sb.append(COMMA).append(Math.round(Double.parseDouble(columns[VOLUME]) * volume));
+      }
+      return sb.toString();
+    }
+
+    private static final String format(final double value) {
+      return BigDecimal.valueOf(value)
+                       .setScale(SCALE, RoundingMode.HALF_UP)
+                       .stripTrailingZeros()
+                       .toPlainString();
+    }
+
+  }
+
+}
@@ -0,0 +1,150 @@
+/**
+ * ConcurrencyLimiter.java  v0.1  18 October 2026 5:31:17 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of requests in flight to a source, adapting the limit to
+ * how the source responds.
+ * <p>
+ * The limit grows by one for every request that completes within the latency
+ * limit while the current limit is at least half used (additive increase),
+ * and halves whenever a request is throttled, fails with a server error, times
+ * out or exceeds the latency limit (multiplicative decrease).  Other failures,
+ * such as unknown symbols, say nothing about the source's capacity and leave
+ * the limit as is.
+ * <p>
+ * The limit halves at most once per round of requests in flight: the
+ * requests still in flight when it halves were sent under the higher limit,
+ * so their failures, which typically come in bursts, do not halve it again.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class ConcurrencyLimiter {
+
+  private final int           maxLimit;
+  private final long          latencyLimit;   // nanoseconds
+
+  private final ReentrantLock lock      = new ReentrantLock();
+  private final Condition     available = lock.newCondition();
+
+  private int                 limit;
+  private int                 inFlight;
+  private int                 recovering;  // requests in flight at the last decrease still to complete
+
+  private static final int    MIN_LIMIT = 1;
+  private static final double BACKOFF   = 0.5;
+
+  private static final Logger logger    = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+  enum Outcome {
+    SUCCESS,
+    IGNORED,
+    DROPPED;
+  }
+
+  /**
+   * @param initialLimit
+   * @param maxLimit
+   * @param latencyLimit milliseconds beyond which a request is deemed to have
+   *          been dropped
+   */
+  ConcurrencyLimiter(final int initialLimit, final int maxLimit, final long latencyLimit) {
+    if (maxLimit < MIN_LIMIT) {
+      throw new IllegalArgumentException("Maximum limit less than " + MIN_LIMIT + ": " + maxLimit);
+    }
+    if (latencyLimit <= 0) {
+      throw new IllegalArgumentException("Non-positive latency limit: " + latencyLimit);
+    }
+    this.maxLimit = maxLimit;
+    this.latencyLimit = TimeUnit.MILLISECONDS.toNanos(latencyLimit);
+    limit = Math.max(MIN_LIMIT, Math.min(initialLimit, maxLimit));
+  }
+
+  /**
+   * Waits until fewer requests than the limit are in flight.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void acquire() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (inFlight >= limit) {
+        available.await();
+      }
+      ++inFlight;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Records the completion of a request acquired earlier.
+   *
+   * @param latency nanoseconds taken by the request
+   * @param outcome
+   */
+  void release(final long latency, final Outcome outcome) {
+    lock.lock();
+    try {
+      --inFlight;
+      final int previous = limit;
+      // completions are attributed to the last round before newer requests
+      final boolean sentBeforeDecrease = recovering > 0;
+      if (sentBeforeDecrease) {
+        --recovering;
+      }
+      if (outcome == Outcome.DROPPED || latency > latencyLimit) {
+        if (!sentBeforeDecrease) {
+          limit = Math.max(MIN_LIMIT, (int) (limit * BACKOFF));
+          recovering = inFlight;
+        }
+      }
+      else if (outcome == Outcome.SUCCESS && (inFlight + 1) * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + 1);
+      }
+
+      if (limit != previous) {
+        logger.debug("Concurrency limit changed: {} -> {}", previous, limit);
+      }
+      if (inFlight < limit) {
+        available.signalAll();
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  int limit() {
+    lock.lock();
+    try {
+      return limit;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  int inFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+}
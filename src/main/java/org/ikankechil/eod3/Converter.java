@@ -9,53 +9,85 @@ import static org.ikankechil.eod3.Converter.PoolSize.*;
 import static org.ikankechil.eod3.FilenameConvention.*;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
-import java.text.DateFormat;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
-
+import java.util.regex.Pattern;
+
+import org.ikankechil.eod3.io.ByteStreamTransformer;
+import org.ikankechil.eod3.ConcurrencyLimiter.Outcome;
+import org.ikankechil.eod3.io.ByteTransform;
+import org.ikankechil.eod3.io.HttpResponseException;
+import org.ikankechil.eod3.io.PooledHttpTransport;
+import org.ikankechil.eod3.io.PriceWriter;
 import org.ikankechil.eod3.io.SymbolsReader;
+import org.ikankechil.eod3.io.SymbolsWriter;
+import org.ikankechil.eod3.io.TextPriceWriter;
+import org.ikankechil.eod3.io.Transport;
 import org.ikankechil.eod3.sources.Exchanges;
 import org.ikankechil.eod3.sources.Source;
-import org.ikankechil.io.CompletionServiceFileVisitor;
 import org.ikankechil.io.TextReader;
+import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextWriter;
-import org.ikankechil.io.URLInputStreamFactory;
-import org.ikankechil.synchronous.TaskHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,35 +112,89 @@ public class Converter {
   // 8. [DONE] Other-than-daily update and merge functions
   // 9. [DONE] Support stock symbols with numbers in them (to update regexs)
   // 10. [DONE] Abstract file-naming details away (v2.6)
-  // 11. Handle share splits / reverse-splits
+  // 11. [DONE] Handle share splits / reverse-splits (Quandl only)
   // 12. [DONE] v2.8 keep date formatting to a minimum during file updates
-  // 13. Retry on failure
+  // 13. [DONE] Retry on failure
 
   private final Source                         source;
   private final TextReader                     reader;
+  private final boolean                        plainText;     // read over the transport rather than by reader
   private final TextWriter                     writer;
+  private final PriceWriter                    priceWriter;
+  private final PriceWriter                    textWriter;    // update and merge are CSV-only
+  private final Transport                      transport;
 
   private final SymbolsReader                  symbolsReader;
+  private final SymbolsWriter                  symbolsWriter;
+
+  private final boolean                        streaming;
+  private final boolean                        resampling;
+  private final Resampler                      resampler;
+  private final boolean                        adjusting;     // recording corporate actions
+  private final Adjuster                       adjuster;
+  private final int                            compactionThreshold;
+
+  private final ConcurrencyLimiter             limiter;
+  private final int                            retries;
+  private final long                           retryDelay;
 
   private final Map<PoolSize, ExecutorService> threadPools    = new EnumMap<>(PoolSize.class);
 
+  // per-directory indices of data files, saved after every batch
+  private final ConcurrentMap<Path, UpdateManifest> manifests = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Path, CorporateActions> corporateActions = new ConcurrentHashMap<>();
+
+  // cancels tasks that overrun their deadlines
+  private final ScheduledThreadPoolExecutor    timer;
+  private final long                           taskTimeout;
+  private final ThreadLocal<TimedTask<?>>      timedTask      = new ThreadLocal<>();
+
+  // metrics of the source and exchange of the task in progress
+  private final Metrics                        metrics        = new Metrics();
+  private final ThreadLocal<Metrics.Scope>     metricsScope   = new ThreadLocal<>();
+  private final boolean                        summarising;
+  private final Tracer                         tracer;
+
+  // reusable buffers, kept for at most as many requests as may be in flight
+  private final BlockingQueue<ByteStreamTransformer> byteStreamTransformers;
+
+  // pipeline stages downstream of the network
+  private final Stage                          transforming;
+  private final Stage                          writing;
+
   // Actions
-  private final Action<File>                   convert        = new Action<File>() {
+  // conversions only hold on to the concurrency limit while reading, handing
+  // transformation and writing over to their own stages
+  private final Action<File>                   streamed       = limit(new Action<File>() {
     @Override
     public File execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
         throws IOException {
-      return convert(symbol, exchange, interval, outputParentDirectory);
+      return stream(symbol, exchange, interval, outputParentDirectory);
     }
-  };
-  private final Action<File>                   download       = new Action<File>() {
+  });
+  private final Action<File>                   convert        = retry(new Action<File>() {
+    @Override
+    public File execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
+        throws IOException {
+      return (streaming && priceWriter == textWriter) ? streamed.execute(symbol, exchange, interval, outputParentDirectory)
+                                                      : convert(symbol, exchange, interval, outputParentDirectory);
+    }
+  });
+  private final Action<File>                   update         = retry(new Action<File>() {
+    @Override
+    public File execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
+        throws IOException {
+      return streaming ? streamed.execute(symbol, exchange, interval, outputParentDirectory)
+                       : convert(symbol, exchange, interval, outputParentDirectory, textWriter);
+    }
+  });
+  private final Action<File>                   download       = retry(limit(new Action<File>() {
     @Override
     public File execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
         throws IOException {
       return download(symbol, exchange, interval, outputParentDirectory);
     }
-  };
-
-  final DateFormat                             dateFormat     = new SimpleDateFormat("yyyyMMdd", Locale.US);
+  }));
 
   // Text-related constants
   private static final char                    COMMA          = ',';
@@ -116,21 +202,180 @@ public class Converter {
   private static final char                    SPACE          = ' ';
   private static final char                    TAB            = '\t';
   private static final char                    LF             = '\n';
+  private static final String                  EMPTY          = "";
 
   // File-related constants
   private static final String                  SYNTAX         = "regex:";
+  private static final String                  TMP            = ".tmp";
+  private static final Frequencies[]           RESAMPLED      = { Frequencies.WEEKLY, Frequencies.MONTHLY };
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.streaming
+   * <p>
+   * transform and write lines as they are read, default: false
+   */
+  private static final String                  STREAMING      = Converter.class.getName() + ".streaming";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.compactionThreshold
+   * <p>
+   * number of update files a data file accumulates before merging, default: 1
+   */
+  private static final String                  COMPACTION     = Converter.class.getName() + ".compactionThreshold";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.priceWriter
+   * <p>
+   * fully-qualified class name of the <code>PriceWriter</code> that converted
+   * files are written with, default: org.ikankechil.eod3.io.TextPriceWriter
+   */
+  private static final String                  PRICE_WRITER   = Converter.class.getName() + ".priceWriter";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.transport
+   * <p>
+   * fully-qualified class name of the <code>Transport</code> that source data
+   * is downloaded with, default: org.ikankechil.eod3.io.PooledHttpTransport
+   */
+  private static final String                  TRANSPORT      = Converter.class.getName() + ".transport";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.maxConcurrency
+   * <p>
+   * maximum number of requests in flight to the source, and of connections to
+   * each of its hosts on the default transport, default: 25 per processor
+   */
+  private static final String                  CONCURRENCY    = Converter.class.getName() + ".maxConcurrency";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.latencyLimit
+   * <p>
+   * milliseconds beyond which a request counts against the source's capacity,
+   * default: 15000
+   */
+  private static final String                  LATENCY_LIMIT  = Converter.class.getName() + ".latencyLimit";
+
+  // throttling and server errors as reported by HttpURLConnection
+  private static final Pattern                 OVERLOADED     = Pattern.compile(".*HTTP response code: (429|5\\d\\d).*");
+  private static final int                     THROTTLED      = 429;
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.retries
+   * <p>
+   * number of times a symbol is retried after a transient failure, default: 3
+   */
+  private static final String                  RETRIES        = Converter.class.getName() + ".retries";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.virtualThreads
+   * <p>
+   * run each network-bound task on its own virtual thread where supported,
+   * bounded by the concurrency limit rather than a thread pool, default: false
+   * <p>
+   * A custom transport may bound connections further (e.g. per host).
+   */
+  private static final String                  VIRTUAL        = Converter.class.getName() + ".virtualThreads";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.resample
+   * <p>
+   * derive weekly and monthly data files from daily ones rather than updating
+   * them from the source, default: false
+   */
+  private static final String                  RESAMPLE       = Converter.class.getName() + ".resample";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.adjust
+   * <p>
+   * record dividends and splits from sources publishing them, from which
+   * adjusted data files are derived, default: false
+   */
+  private static final String                  ADJUST         = Converter.class.getName() + ".adjust";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.writers
+   * <p>
+   * number of files written at a time, default: 5
+   */
+  private static final String                  WRITERS        = Converter.class.getName() + ".writers";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.retryDelay
+   * <p>
+   * milliseconds before the first retry, doubling with every retry thereafter,
+   * default: 1000
+   */
+  private static final String                  RETRY_DELAY    = Converter.class.getName() + ".retryDelay";
+  /**
+   * System property: org.ikankechil.eod3.Converter.metrics
+   * <p>
+   * write a JSON summary of metrics (Metrics.json) to the output directory
+   * after every bulk operation, default: false
+   */
+  private static final String                  METRICS        = Converter.class.getName() + ".metrics";
+  /**
+   * System property: org.ikankechil.eod3.Converter.trace
+   * <p>
+   * write a Chrome trace-event JSON file (Trace.json) of the spans of every
+   * task to the output directory after every bulk operation, default: false
+   */
+  private static final String                  TRACE          = Converter.class.getName() + ".trace";
+  private static final long                    RETRY_CEILING  = TimeUnit.MINUTES.toMillis(1);
+
+  // symbols that failed in the last run, in symbols file format
+  static final String                          FAILURES       = "Failures.csv";
+
+  // operations journalled
+  private static final String                  CONVERT        = "Convert";
+  private static final String                  DOWNLOAD       = "Download";
+
+  private static final String                  EMPTY_URL      = "Empty URL: ";
+
+  // Metric names
+  private static final String                  QUEUE_WAIT     = "queueWait";       // waiting for a pooled thread
+  private static final String                  LIMIT_WAIT     = "limitWait";       // waiting for the concurrency and rate limits
+  private static final String                  FIRST_BYTE     = "timeToFirstByte"; // including connecting
+  private static final String                  TRANSFORM_CPU  = "transformCpu";    // including reading when streamed
+  private static final String                  WRITE          = "write";
+  private static final String                  REQUESTS       = "requests";
+  private static final String                  BYTES          = "bytes";
+  private static final String                  ROWS           = "rows";
+  private static final String                  RETRIED        = "retries";
+  private static final String                  FAILURES_BY    = "failures.";       // by cause
+  private static final ThreadMXBean            THREADS        = ManagementFactory.getThreadMXBean();
+
+  // Span names
+  private static final String                  QUEUED         = "queued";
+  private static final String                  URL_BUILD      = "url";
+  private static final String                  REQUEST        = "request";    // to the first byte
+  private static final String                  READ           = "read";
+  private static final String                  STREAM         = "stream";     // read, transform and write
+  private static final String                  TRANSFER       = "transfer";
+  private static final String                  TRANSFORM      = "transform";
+  private static final String                  MERGE          = "merge";
+  private static final String                  RESAMPLE_SPAN  = "resample";
+  private static final String                  ADJUST_SPAN    = "adjust";
+
+  /**
+   * System property: org.ikankechil.eod3.Converter.taskTimeout
+   * <p>
+   * milliseconds a network-bound task may run from its first request, retries
+   * included, before it is cancelled, default: 120000.  Requests connect and
+   * read with timeouts no longer than the time left, or those of the transport
+   * (e.g. org.ikankechil.eod3.io.PooledHttpTransport.connectTimeout and
+   * org.ikankechil.eod3.io.PooledHttpTransport.readTimeout) if shorter.  Local
+   * tasks (e.g. merging, resampling and adjusting) have no deadline.
+   */
+  private static final String                  TASK_TIMEOUT   = Converter.class.getName() + ".taskTimeout";
 
   // Multi-threading constants
-  private static final int                     TIME_OUT       = Short.MAX_VALUE;
   private static final TimeUnit                TIME_OUT_UNIT  = TimeUnit.MILLISECONDS;
   private static final int                     PROCESSORS     = Runtime.getRuntime().availableProcessors();
 
   private static final Comparator<String>      REVERSE_CHRONO = new Comparator<String>() { // reverse chronological order
     @Override
     public int compare(final String o1, final String o2) {
-      final String date1 = extractSymbolAndDate(o1).getValue();
-      final String date2 = extractSymbolAndDate(o2).getValue();
-      return date2.compareTo(date1);
+      return compareDates(o2, o1);
     }
   };
 
@@ -146,6 +391,32 @@ public class Converter {
   }
 
   public Converter(final Source source, final TextReader reader) {
+    this(source, reader, null);
+  }
+
+  /**
+   * @param source
+   * @param reader defaults to that of <code>source</code> if <code>null</code>
+   * @param priceWriter defaults to that named by system property
+   *          org.ikankechil.eod3.Converter.priceWriter if <code>null</code>
+   */
+  public Converter(final Source source, final TextReader reader, final PriceWriter priceWriter) {
+    this(source, reader, priceWriter, null);
+  }
+
+  /**
+   * @param source
+   * @param reader defaults to that of <code>source</code> if <code>null</code>,
+   *          otherwise opens its own streams rather than the transport's
+   * @param priceWriter defaults to that named by system property
+   *          org.ikankechil.eod3.Converter.priceWriter if <code>null</code>
+   * @param transport defaults to that named by system property
+   *          org.ikankechil.eod3.Converter.transport if <code>null</code>
+   */
+  public Converter(final Source source,
+                   final TextReader reader,
+                   final PriceWriter priceWriter,
+                   final Transport transport) {
     if (source == null) {
       throw new NullPointerException("Null source");
     }
@@ -153,20 +424,232 @@ public class Converter {
 
     this.source = source;
     this.reader = (reader == null) ? source.newReader() : reader;
+    plainText = (reader == null) && source.isPlainText();
     writer = new TextWriter();
+    textWriter = new TextPriceWriter();
+    this.priceWriter = (priceWriter == null) ? newInstance(PRICE_WRITER, PriceWriter.class, textWriter) : priceWriter;
+    logger.debug("Price writer: {}", this.priceWriter.getClass().getName());
+    // as many connections to the source as requests may be in flight, so that
+    // the concurrency limit is the only bound on them
+    final int maxConcurrency = Math.max(1, Integer.getInteger(CONCURRENCY, PROCESSORS * NETWORK.loadMultiplier));
+    this.transport = (transport == null) ? newInstance(TRANSPORT, Transport.class, new PooledHttpTransport(metrics, maxConcurrency))
+                                         : transport;
+    logger.debug("Transport: {}", this.transport.getClass().getName());
 
     // use a different TextReader instance as source data might be encoded
     symbolsReader = new SymbolsReader();
+    symbolsWriter = new SymbolsWriter();
+
+    streaming = Boolean.getBoolean(STREAMING);
+    logger.debug("Streaming: {}", streaming);
+    resampling = Boolean.getBoolean(RESAMPLE);
+    resampler = new Resampler();
+    logger.debug("Resampling: {}", resampling);
+    adjusting = Boolean.getBoolean(ADJUST) && this.source.hasCorporateActions();
+    adjuster = new Adjuster();
+    logger.debug("Recording corporate actions: {}", adjusting);
+    compactionThreshold = Math.max(1, Integer.getInteger(COMPACTION, 1));
+    logger.debug("Compaction threshold: {}", compactionThreshold);
+    retries = Math.max(0, Integer.getInteger(RETRIES, 3));
+    retryDelay = Math.max(1, Long.getLong(RETRY_DELAY, 1000L));
+    logger.debug("Retries: {} (initial delay: {}ms)", retries, retryDelay);
+    summarising = Boolean.getBoolean(METRICS);
+    metrics.register(Converter.class.getSimpleName(), this.source.directory());
+    logger.debug("Metrics summarised: {}", summarising);
+    tracer = new Tracer(Boolean.getBoolean(TRACE));
+    logger.debug("Tracing: {}", tracer.isEnabled());
+
+    // start with as many requests in flight as processors and adapt
+    limiter = new ConcurrencyLimiter(PROCESSORS, maxConcurrency, Long.getLong(LATENCY_LIMIT, 15000L));
+    logger.debug("Maximum concurrency: {}", maxConcurrency);
+    byteStreamTransformers = new ArrayBlockingQueue<>(maxConcurrency);
 
     // initialise thread pools
+    // on virtual threads, network-bound tasks wait on the concurrency limiter
+    // rather than for a pooled thread; the default transport's connections per
+    // host are sized from maxConcurrency, so that raising it raises both
+    final ExecutorService virtualThreads = Boolean.getBoolean(VIRTUAL) ? VirtualThreads.newExecutor() : null;
     for (final PoolSize size : PoolSize.values()) {
-      threadPools.put(size, Executors.newFixedThreadPool(PROCESSORS * size.loadMultiplier));
+      threadPools.put(size, (size == NETWORK && virtualThreads != null) ?
+                            virtualThreads :
+                            Executors.newFixedThreadPool((size == NETWORK) ? maxConcurrency
+                                                                           : PROCESSORS * size.loadMultiplier));
+    }
+    logger.debug("Thread pools created: {} (virtual threads: {})", threadPools.size(), virtualThreads != null);
+
+    taskTimeout = Math.max(1, Long.getLong(TASK_TIMEOUT, 120000L));
+    timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, "deadlines");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    timer.setRemoveOnCancelPolicy(true);  // most tasks finish in time
+    logger.debug("Task timeout: {}ms", taskTimeout);
+    if (cpuTime() < 0) {
+      logger.info("CPU time unavailable: {} not recorded", TRANSFORM_CPU);
     }
-    logger.debug("Thread pools created: {}", threadPools.size());
+
+    // transformation is CPU-bound: one worker per processor
+    transforming = new Stage("transform", PROCESSORS, PROCESSORS * SMALL.loadMultiplier);
+    final int writers = Math.max(1, Integer.getInteger(WRITERS, SMALL.loadMultiplier));
+    writing = new Stage("write", writers, writers * SMALL.loadMultiplier);
 
     logger.info("Initialisation completed");
   }
 
+  /**
+   * Wraps <code>action</code> so that it waits its turn under the concurrency
+   * limit and the source's rate limit, if any, and reports how the source
+   * responded.
+   */
+  private final <V> Action<V> limit(final Action<V> action) {
+    return new Action<V>() {
+      @Override
+      public V execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
+          throws IOException {
+        return limit(symbol, new Stage.Task<V>() {
+          @Override
+          public V call() throws IOException {
+            return action.execute(symbol, exchange, interval, outputParentDirectory);
+          }
+        });
+      }
+    };
+  }
+
+  private final <V> V limit(final String symbol, final Stage.Task<V> request) throws IOException {
+    final long queued = System.nanoTime();
+    // wait for a token before taking a slot, so that no slot is held idle
+    // while waiting for the rate limit
+    try {
+      final RateLimiter rateLimiter = source.rateLimiter();
+      if (rateLimiter != null) {
+        rateLimiter.acquire();
+      }
+      limiter.acquire();
+    }
+    catch (final InterruptedException iE) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting to request: " + symbol);
+    }
+
+    final long start = System.nanoTime();
+    Outcome outcome = Outcome.IGNORED;
+    try {
+      scope().time(LIMIT_WAIT, start - queued);
+      tracer.complete(LIMIT_WAIT, task(), queued, start);
+      final TimedTask<?> task = timedTask.get();
+      if (task != null) {
+        task.startDeadline(); // time spent waiting to request does not count
+      }
+      final V result = request.call();
+      outcome = Outcome.SUCCESS;
+      return result;
+    }
+    catch (final IOException ioE) {
+      outcome = classify(ioE);
+      throw ioE;
+    }
+    finally {
+      limiter.release(System.nanoTime() - start, outcome);
+    }
+  }
+
+  /**
+   * Wraps <code>action</code> so that transient failures are retried after
+   * exponentially increasing, jittered delays.
+   */
+  private final <V> Action<V> retry(final Action<V> action) {
+    return new Action<V>() {
+      @Override
+      public V execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
+          throws IOException {
+        return retry(symbol, new Stage.Task<V>() {
+          @Override
+          public V call() throws IOException {
+            return action.execute(symbol, exchange, interval, outputParentDirectory);
+          }
+        });
+      }
+    };
+  }
+
+  private final <V> V retry(final String symbol, final Stage.Task<V> task) throws IOException {
+    for (int retry = 0; ; ++retry) {
+      try {
+        return task.call();
+      }
+      catch (final IOException ioE) {
+        if (retry >= retries || !isRetryable(ioE)) {
+          throw ioE;
+        }
+        final long delay = backoff(retry);
+        scope().count(RETRIED, 1);
+        logger.info("Retrying {} in {}ms ({} of {}): {}", symbol, delay, retry + 1, retries, ioE.getMessage());
+        try {
+          TimeUnit.MILLISECONDS.sleep(delay);
+        }
+        catch (final InterruptedException iE) {
+          Thread.currentThread().interrupt();
+          ioE.addSuppressed(iE);
+          throw ioE;
+        }
+      }
+    }
+  }
+
+  /**
+   * @param retry 0 for the first retry
+   * @return a delay between half and all of the exponential backoff
+   */
+  final long backoff(final int retry) {
+    final long ceiling = Math.min(RETRY_CEILING, retryDelay << Math.min(retry, 30));
+    final long floor = ceiling >>> 1;
+    return floor + ThreadLocalRandom.current().nextLong(ceiling - floor + 1);
+  }
+
+  /**
+   * Timeouts, dropped connections, throttling, server errors and empty
+   * responses are transient.
+   */
+  static final boolean isRetryable(final IOException ioE) {
+    final String message = ioE.getMessage();
+    return (classify(ioE) == Outcome.DROPPED) ||
+           (ioE instanceof SocketException) ||
+           (message != null && message.startsWith(EMPTY_URL));
+  }
+
+  static final Outcome classify(final IOException ioE) {
+    if (ioE instanceof SocketTimeoutException) {
+      return Outcome.DROPPED;
+    }
+    if (ioE instanceof HttpResponseException) {
+      final int responseCode = ((HttpResponseException) ioE).responseCode();
+      return (responseCode == THROTTLED || responseCode >= HttpURLConnection.HTTP_INTERNAL_ERROR) ? Outcome.DROPPED
+                                                                                                         : Outcome.IGNORED;
+    }
+    final String message = ioE.getMessage();
+    return (message != null && OVERLOADED.matcher(message).matches()) ? Outcome.DROPPED : Outcome.IGNORED;
+  }
+
+  private static final <T> T newInstance(final String property, final Class<T> type, final T defaultInstance) {
+    final String className = System.getProperty(property);
+    if (className != null) {
+      try {
+        return type.cast(Class.forName(className)
+                              .getConstructor()
+                              .newInstance());
+      }
+      catch (final ReflectiveOperationException | ClassCastException e) {
+        logger.warn("Bad {}: {}", type.getSimpleName(), className, e);
+      }
+    }
+    return defaultInstance;
+  }
+
   /**
    * Converts data of all symbols specified in <code>symbolsFile</code> from
    * source format to target format.
@@ -203,13 +686,21 @@ public class Converter {
    */
   public File convert(final File symbolsFile, final Interval interval, final File outputParentDirectory)
       throws FileNotFoundException, IOException, InterruptedException {
-    return execute(symbolsFile, interval, outputParentDirectory, convert);
+    return execute(symbolsFile, interval, outputParentDirectory, convert, CONVERT);
   }
 
+  /**
+   * Executes <code>action</code> on every symbol in <code>symbolsFile</code>,
+   * journalling progress so that a run cut short resumes where it left off
+   * rather than starting over.  The journal is discarded once every symbol has
+   * been attempted, whether or not some failed, so that the next run redoes
+   * them all.  Failed symbols are recorded in {@value #FAILURES} instead.
+   */
   private <V> File execute(final File symbolsFile,
                            final Interval interval,
                            final File outputParentDirectory,
-                           final Action<V> action)
+                           final Action<V> action,
+                           final String operation)
       throws FileNotFoundException, IOException, InterruptedException {
     if (interval == null) {
       throw new NullPointerException("Null interval");
@@ -227,38 +718,131 @@ public class Converter {
     }
     logger.info("Writing for source: {}", provider);
 
-    // submit tasks
-    final Map<Future<V>, String> futures = new HashMap<>();
-    final CompletionService<V> completionService = new ExecutorCompletionService<>(threadPools.get(LARGE));
-    for (final Entry<String, Set<String>> market : markets.entrySet()) { // Map<Exchange, Set<Symbol>>
-      // create sub-directory for each exchange
-      final String exchange = market.getKey();
-      final File subdir = new File(directory, exchange);
-      subdir.mkdir();
-      logger.debug("Created folder: {}", subdir);
-
-      // create and submit tasks
-      final Set<String> symbols = market.getValue();
-      final Map<Future<V>, String> tasks = submitTasks(completionService,
-                                                       symbols,
-                                                       Exchanges.toExchange(exchange),
-                                                       interval,
-                                                       subdir,
-                                                       action);
-      futures.putAll(tasks);
-      logger.info("Tasks submitted for {}: {}", exchange, tasks.size());
+    final RunJournal journal = RunJournal.open(directory.toPath(),
+                                               operation + COMMA +
+                                               symbolsFile.getAbsolutePath() + COMMA +
+                                               getSuffixFrom(interval));
+    boolean completed = false;
+    try {
+      // submit tasks, skipping symbols written before the run was cut short
+      final Map<Future<V>, TimedTask<V>> futures = new HashMap<>();
+      final CompletionService<V> completionService = new ExecutorCompletionService<>(threadPools.get(NETWORK));
+      for (final Entry<String, Set<String>> market : markets.entrySet()) { // Map<Exchange, Set<Symbol>>
+        // create sub-directory for each exchange
+        final String exchange = market.getKey();
+        final File subdir = new File(directory, exchange);
+        subdir.mkdir();
+        logger.debug("Created folder: {}", subdir);
+
+        final Set<String> symbols = new LinkedHashSet<>();
+        for (final String symbol : market.getValue()) {
+          if (!journal.isWritten(exchange, symbol)) {
+            symbols.add(symbol);
+          }
+        }
+        if (symbols.size() < market.getValue().size()) {
+          logger.info("Symbols already written for {}: {}", exchange, market.getValue().size() - symbols.size());
+        }
+
+        // create and submit tasks
+        final Map<Future<V>, TimedTask<V>> tasks = submitTasks(completionService,
+                                                               exchange,
+                                                               symbols,
+                                                               Exchanges.toExchange(exchange),
+                                                               interval,
+                                                               subdir,
+                                                               journal(action, journal, exchange));
+        futures.putAll(tasks);
+        logger.info("Tasks submitted for {}: {}", exchange, tasks.size());
+      }
+      final int numberOfTasks = futures.size();
+      logger.info("Tasks submitted: {}", numberOfTasks);
+
+      // retrieve results
+      final Map<String, Throwable> failures = newMap(numberOfTasks);
+      final List<V> destinations = retriveResults(completionService, futures, failures);
+      completed = true;  // failures included
+
+      logger.info("Conversion completed: {}", symbolsFile);
+      report(destinations, failures);
+      recordFailures(markets, failures, directory);
+      saveManifests();
+      summarise(directory);
+    }
+    finally {
+      if (completed) {
+        journal.delete();
+      }
+      else {
+        journal.close();  // for the next run to resume
+      }
     }
-    final int numberOfTasks = futures.size();
-    logger.info("Tasks submitted: {}", numberOfTasks);
 
-    // retrieve results
-    final Map<String, Throwable> failures = newMap(numberOfTasks);
-    final List<V> destinations = retriveResults(completionService, futures, failures);
+    return directory;
+  }
 
-    logger.info("Conversion completed: {}", symbolsFile);
-    report(destinations, failures);
+  /**
+   * Journals <code>action</code> as written on completion.
+   */
+  private final <V> Action<V> journal(final Action<V> action, final RunJournal journal, final String market) {
+    return new Action<V>() {
+      @Override
+      public V execute(final String symbol, final Exchanges exchange, final Interval interval, final File outputParentDirectory)
+          throws IOException {
+        final V destination = action.execute(symbol, exchange, interval, outputParentDirectory);
+        final Runnable record = new Runnable() {
+          @Override
+          public void run() {
+            journal.record(market, symbol);
+          }
+        };
+        final TimedTask<?> task = timedTask.get();
+        if (task != null) {
+          task.onCompletion(record);  // once written
+        }
+        else {
+          record.run();
+        }
+        return destination;
+      }
+    };
+  }
 
-    return directory;
+  /**
+   * Writes failed symbols to a symbols file in <code>directory</code> for a
+   * later run to resume from, or removes that of an earlier run if none
+   * failed.
+   */
+  private final void recordFailures(final Map<String, Set<String>> markets,
+                                    final Map<String, Throwable> failures,
+                                    final File directory) {
+    final File manifest = new File(directory, FAILURES);
+    try {
+      if (failures.isEmpty()) {
+        if (Files.deleteIfExists(manifest.toPath())) {
+          logger.info("Failures cleared: {}", manifest);
+        }
+        return;
+      }
+
+      final Map<String, Set<String>> failed = new LinkedHashMap<>(); // Map<Exchange, Set<Symbol>>
+      for (final Entry<String, Set<String>> market : markets.entrySet()) {
+        final Set<String> symbols = new TreeSet<>();
+        for (final String symbol : market.getValue()) {
+          if (failures.containsKey(failureKey(market.getKey(), symbol))) {
+            symbols.add(symbol);
+          }
+        }
+        if (!symbols.isEmpty()) {
+          failed.put(market.getKey(), symbols);
+        }
+      }
+      symbolsWriter.write(failed, manifest);
+      logger.info("Failures recorded: {}", manifest);
+    }
+    catch (final IOException ioE) {
+      logger.warn("Failures not recorded: {}", manifest, ioE);
+    }
   }
 
   /**
@@ -289,15 +873,16 @@ public class Converter {
       throw new NullPointerException("Null interval");
     }
     logger.info("Conversion commencing");
-    final CompletionService<V> completionService = new ExecutorCompletionService<>(threadPools.get(LARGE));
+    final CompletionService<V> completionService = new ExecutorCompletionService<>(threadPools.get(NETWORK));
 
     // create and submit tasks
-    final Map<Future<V>, String> futures = submitTasks(completionService,
-                                                       symbols,
-                                                       exchange,
-                                                       interval,
-                                                       outputParentDirectory,
-                                                       action);
+    final Map<Future<V>, TimedTask<V>> futures = submitTasks(completionService,
+                                                             null,
+                                                             symbols,
+                                                             exchange,
+                                                             interval,
+                                                             outputParentDirectory,
+                                                             action);
     final int numberOfTasks = futures.size();
     logger.info("Tasks submitted: {}", numberOfTasks);
 
@@ -307,62 +892,229 @@ public class Converter {
 
     logger.info("Conversion completed");
     report(destinations, failures);
+    saveManifests();
 
     return destinations;
   }
 
-  private static final <V> Map<Future<V>, String> submitTasks(final CompletionService<V> completionService,
-                                                              final Collection<String> symbols,
-                                                              final Exchanges exchange,
-                                                              final Interval interval,
-                                                              final File outputParentDirectory,
-                                                              final Action<V> action) {
-    final Map<Future<V>, String> futures = newMap(symbols.size());
+  /**
+   * @param market the exchange as read from a symbols file, by which failures
+   *          are keyed along with their symbols, or <code>null</code> to key
+   *          them by symbol alone
+   */
+  private final <V> Map<Future<V>, TimedTask<V>> submitTasks(final CompletionService<V> completionService,
+                                                             final String market,
+                                                             final Collection<String> symbols,
+                                                             final Exchanges exchange,
+                                                             final Interval interval,
+                                                             final File outputParentDirectory,
+                                                             final Action<V> action) {
+    final Map<Future<V>, TimedTask<V>> futures = newMap(symbols.size());
 
     for (final String symbol : symbols) {
-      final Future<V> future = completionService.submit(new Callable<V>() {
+      submit(completionService, symbol, failureKey(market, symbol), measure(exchange, new Callable<V>() {
         @Override
         public V call() throws Exception {
           return action.execute(symbol, exchange, interval, outputParentDirectory);
         }
-      });
-      futures.put(future, symbol);
+      }), futures);
     }
 
     return futures;
   }
 
+  /**
+   * Wraps <code>callable</code> so that the stages within it record metrics of
+   * the source and <code>exchange</code>, including how long it waited to
+   * start and why it failed, if it did.
+   */
+  private final <V> Callable<V> measure(final Exchanges exchange, final Callable<V> callable) {
+    return new Callable<V>() {
+      @Override
+      public V call() throws Exception {
+        final Metrics.Scope scope = metrics.scope(source.directory(), exchange);
+        final TimedTask<?> task = timedTask.get();
+        if (task != null) {
+          scope.time(QUEUE_WAIT, task.queueWait);
+        }
+        metricsScope.set(scope);
+        try {
+          return callable.call();
+        }
+        catch (final Exception e) {
+          scope.count(FAILURES_BY + cause(e), 1);
+          throw e;
+        }
+        finally {
+          metricsScope.remove();
+        }
+      }
+    };
+  }
+
+  /**
+   * @return metrics of the source and exchange of the task in progress, or of
+   *         the source alone outside of tasks
+   */
+  private final Metrics.Scope scope() {
+    final Metrics.Scope scope = metricsScope.get();
+    return (scope == null) ? metrics.scope(source.directory()) : scope;
+  }
+
+  /**
+   * @return e.g. HTTP 404, Empty URL, SocketTimeoutException
+   */
+  static final String cause(final Throwable t) {
+    if (t instanceof HttpResponseException) {
+      return "HTTP " + ((HttpResponseException) t).responseCode();
+    }
+    final String message = t.getMessage();
+    if (message != null && message.startsWith(EMPTY_URL)) {
+      return EMPTY_URL.substring(0, EMPTY_URL.length() - 2);
+    }
+    return t.getClass().getSimpleName();
+  }
+
+  /**
+   * @return CPU time of the current thread in nanoseconds, or -1 where
+   *         unsupported or disabled
+   */
+  private static final long cpuTime() {
+    return (THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled()) ? THREADS.getCurrentThreadCpuTime()
+                                                                                            : -1;
+  }
+
+  /**
+   * Records the CPU time of the current thread since <code>start</code>, or
+   * nothing if CPU time is unavailable, rather than wall-clock time under a
+   * CPU time metric.
+   *
+   * @param start {@link #cpuTime()}
+   */
+  private static final void timeCpu(final Metrics.Scope scope, final long start) {
+    final long end = cpuTime();
+    if (start >= 0 && end >= 0) {
+      scope.time(TRANSFORM_CPU, end - start);
+    }
+  }
+
+  /**
+   * @return the metrics of this converter
+   */
+  public Metrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * Writes a JSON summary of metrics to <code>directory</code> if system
+   * property org.ikankechil.eod3.Converter.metrics is set, and the trace of
+   * the operation if org.ikankechil.eod3.Converter.trace is set.
+   */
+  private final void summarise(final File directory) {
+    logger.debug("Metrics: {}", metrics.getSummary());
+    if (summarising) {
+      try {
+        metrics.write(directory.toPath());
+      }
+      catch (final IOException ioE) {
+        logger.warn("Metrics not written: {}", directory, ioE);
+      }
+    }
+    try {
+      tracer.write(directory.toPath());
+    }
+    catch (final IOException ioE) {
+      logger.warn("Trace not written: {}", directory, ioE);
+    }
+  }
+
+  /**
+   * @return the name of the task in progress, e.g. its symbol, or an empty
+   *         string outside of tasks
+   */
+  private final String task() {
+    final TimedTask<?> task = timedTask.get();
+    return (task == null) ? EMPTY : task.name;
+  }
+
+  private final URL url(final String symbol, final Exchanges exchange, final Interval interval)
+      throws MalformedURLException {
+    final long start = System.nanoTime();
+    try {
+      return source.intervalUrl(symbol, exchange, interval);
+    }
+    finally {
+      tracer.complete(URL_BUILD, task(), start, System.nanoTime());
+    }
+  }
+
+  /**
+   * @return the key of the failure of <code>symbol</code> of
+   *         <code>market</code>, if any, in a map of failures
+   */
+  private static final String failureKey(final String market, final String symbol) {
+    return (market == null) ? symbol : market + COMMA + symbol;
+  }
+
+  private final <V> void submit(final CompletionService<V> completionService,
+                                final String name,
+                                final Callable<V> callable,
+                                final Map<Future<V>, TimedTask<V>> futures) {
+    submit(completionService, name, name, callable, futures);
+  }
+
+  /**
+   * @param completionService
+   * @param name
+   * @param key under which a failure is recorded, e.g. exchange and symbol
+   * @param callable
+   * @param futures
+   */
+  private final <V> void submit(final CompletionService<V> completionService,
+                                final String name,
+                                final String key,
+                                final Callable<V> callable,
+                                final Map<Future<V>, TimedTask<V>> futures) {
+    final TimedTask<V> task = new TimedTask<>(name, key, callable);
+    final Future<V> future = completionService.submit(task);
+    task.watch(future);
+    futures.put(future, task);
+  }
+
+  /**
+   * Waits for every task to complete or be cancelled on overrunning its
+   * deadline, whichever comes first, so that stuck tasks hold up no others,
+   * and then for the work each handed over to downstream stages.
+   */
   private static final <V> List<V> retriveResults(final CompletionService<V> completionService,
-                                                  final Map<Future<V>, String> futures,
+                                                  final Map<Future<V>, TimedTask<V>> futures,
                                                   final Map<String, Throwable> failures)
       throws InterruptedException {
     final int numberOfTasks = futures.size();
     final List<V> destinations = newList(numberOfTasks);
 
     for (int t = 0; t < numberOfTasks; ++t) {
-      final Future<V> future = completionService.poll(TIME_OUT, TIME_OUT_UNIT); // TODO match Futures to those at submission
-      final String symbol = futures.get(future);
+      final Future<V> future = completionService.take(); // cancelled tasks complete too
+      final TimedTask<V> task = futures.get(future);
       try {
-        if (future == null) {
-          throw new TimeoutException("Task timed out after " + TIME_OUT + SPACE + TIME_OUT_UNIT.toString().toLowerCase());
-        }
-        destinations.add(future.get());
+        final V destination = future.get();
+        task.awaitHandOffs();
+        destinations.add(destination);
       }
       catch (final ExecutionException eE) {
-        failures.put(symbol, eE);
-        logger.warn("Task failed.  Cause: {}", eE.getCause(), eE);
+        failures.put(task.key, eE);
+        logger.warn("Task failed: {}  Cause: {}", task.key, eE.getCause(), eE);
       }
       catch (final CancellationException cE) {
-        failures.put(symbol, cE);
-        logger.info("Task cancelled.  Cause: {}", cE.getCause(), cE);
-      }
-      catch (final TimeoutException tE) {
-        failures.put(symbol, tE);
-        logger.info("Task timed out.  Cause: {}", tE.getCause(), tE);
-      }
-      finally {
-        if (future != null) {
-          future.cancel(true);
+        if (task.isExpired()) {
+          final TimeoutException tE = new TimeoutException("Task timed out: " + task.key);
+          tE.initCause(cE);
+          failures.put(task.key, tE);
+          logger.info("Task timed out: {}", task.key);
+        }
+        else {
+          failures.put(task.key, cE);
+          logger.info("Task cancelled: {}", task.key, cE);
         }
       }
     }
@@ -371,33 +1123,179 @@ public class Converter {
     return destinations;
   }
 
-  private static final <V, W> void report(final List<V> passes, final Map<W, Throwable> failures) {
-    logger.info("Total: {}\tPass: {}\tFail: {}",
-                passes.size() + failures.size(),
-                passes.size(),
-                failures.size());
+  /**
+   * A task that is cancelled, interrupting it, if it is still running
+   * <code>taskTimeout</code> milliseconds after its first request.  Time spent
+   * waiting to start, or for the concurrency and rate limits, does not count,
+   * and tasks that make no requests (e.g. merging) are never cancelled, as
+   * interrupting them would close the channels they are writing to.
+   * <p>
+   * Interrupting does not abort a blocking socket read, so requests are made
+   * with timeouts no longer than the time left (see {@link #timeout()}).
+   * <p>
+   * Work handed over to downstream stages (e.g. transformation and writing)
+   * is local and has no deadline.  It is waited for along with the task, after
+   * which the task's completion actions (e.g. journalling) are run.
+   */
+  private final class TimedTask<V> implements Callable<V> {
 
-    if (!failures.isEmpty()) {
-      int i = 0;
-      final StringBuilder builder = new StringBuilder("Failures:\n");
-      for (final Entry<W, Throwable> failure : failures.entrySet()) {
-        builder.append(TAB)
-               .append(++i)
-               .append(DOT)
-               .append(SPACE)
-               .append(failure.getKey())
-               .append(SPACE)
-               .append(failure.getValue().getCause())
-               .append(LF);
-      }
-      logger.info("{}", builder);
-    }
-  }
+    final String                             name;
+    final String                             key;         // of its failure
+    private final Callable<V>                callable;
 
-  enum PoolSize {
-    TINY(1),
-    SMALL(5),
-    LARGE(25);
+    private final long                       submitted   = System.nanoTime();
+    long                                     queueWait;   // nanoseconds between submission and start
+
+    private Future<V>                        future;
+    private ScheduledFuture<?>               deadline;
+    private long                             expiry;      // System.nanoTime() at the deadline
+    private boolean                          expired;
+
+    private final List<Future<Future<Void>>> handOffs    = new ArrayList<>();  // to downstream stages
+    private final List<Runnable>             completions = new ArrayList<>();
+
+    TimedTask(final String name, final String key, final Callable<V> callable) {
+      this.name = name;
+      this.key = key;
+      this.callable = callable;
+    }
+
+    @Override
+    public V call() throws Exception {
+      final long start = System.nanoTime();
+      queueWait = start - submitted;
+      tracer.async(QUEUED, name, submitted, start);
+      timedTask.set(this);
+      try {
+        return callable.call();
+      }
+      finally {
+        tracer.complete(name, name, start, System.nanoTime());
+        timedTask.remove();
+        synchronized (this) {
+          if (deadline != null) {
+            deadline.cancel(false);
+          }
+        }
+      }
+    }
+
+    /**
+     * Starts the deadline, unless started already.
+     */
+    synchronized void startDeadline() {
+      if (deadline == null) {
+        expiry = System.nanoTime() + TIME_OUT_UNIT.toNanos(taskTimeout);
+        deadline = timer.schedule(new Runnable() {
+          @Override
+          public void run() {
+            expire();
+          }
+        }, taskTimeout, TIME_OUT_UNIT);
+      }
+    }
+
+    /**
+     * @return milliseconds left before the deadline, at least 1, or 0 if the
+     *         deadline has not started
+     */
+    synchronized int timeout() {
+      if (deadline == null) {
+        return 0;
+      }
+      final long left = TimeUnit.NANOSECONDS.toMillis(expiry - System.nanoTime());
+      return (int) Math.max(1, Math.min(Integer.MAX_VALUE, left));
+    }
+
+    synchronized void watch(final Future<V> future) {
+      this.future = future;
+      if (expired) { // deadline passed before submission returned
+        future.cancel(true);
+      }
+    }
+
+    /**
+     * Cancels the task on its deadline.
+     */
+    synchronized void expire() {
+      expired = true;
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+
+    synchronized boolean isExpired() {
+      return expired;
+    }
+
+    /**
+     * @param transformed the pending transformation of lines read by this
+     *          task, which yields their pending write
+     */
+    synchronized void handOff(final Future<Future<Void>> transformed) {
+      handOffs.add(transformed);
+    }
+
+    /**
+     * Runs <code>completion</code> once the work handed over by this task
+     * completes.
+     */
+    synchronized void onCompletion(final Runnable completion) {
+      completions.add(completion);
+    }
+
+    /**
+     * Waits for the work handed over by this task, then runs its completion
+     * actions.
+     *
+     * @throws ExecutionException if any of the work failed, in which case no
+     *           completion actions are run
+     * @throws InterruptedException
+     */
+    void awaitHandOffs() throws ExecutionException, InterruptedException {
+      final List<Future<Future<Void>>> pending;
+      final List<Runnable> actions;
+      synchronized (this) {
+        pending = new ArrayList<>(handOffs);
+        actions = new ArrayList<>(completions);
+      }
+      for (final Future<Future<Void>> transformed : pending) {
+        transformed.get().get();
+      }
+      for (final Runnable action : actions) {
+        action.run();
+      }
+    }
+
+  }
+
+  private static final <V, W> void report(final List<V> passes, final Map<W, Throwable> failures) {
+    logger.info("Total: {}\tPass: {}\tFail: {}",
+                passes.size() + failures.size(),
+                passes.size(),
+                failures.size());
+
+    if (!failures.isEmpty()) {
+      int i = 0;
+      final StringBuilder builder = new StringBuilder("Failures:\n");
+      for (final Entry<W, Throwable> failure : failures.entrySet()) {
+        builder.append(TAB)
+               .append(++i)
+               .append(DOT)
+               .append(SPACE)
+               .append(failure.getKey())
+               .append(SPACE)
+               .append(failure.getValue().getCause())
+               .append(LF);
+      }
+      logger.info("{}", builder);
+    }
+  }
+
+  enum PoolSize {
+    TINY(1),
+    SMALL(5),
+    NETWORK(25);  // sized by maximum concurrency
 
     final int loadMultiplier;
 
@@ -424,35 +1322,336 @@ public class Converter {
                       final Interval interval,
                       final File outputParentDirectory)
       throws IOException, MalformedURLException {
+    return convert(symbol, exchange, interval, outputParentDirectory, priceWriter);
+  }
+
+  private final File convert(final String symbol,
+                             final Exchanges exchange,
+                             final Interval interval,
+                             final File outputParentDirectory,
+                             final PriceWriter priceWriter)
+      throws IOException, MalformedURLException {
     logger.info("Converting: {} (Exchange: {})", symbol, exchange);
 
     // read
-    final URL url = source.url(symbol,
-                               exchange,
-                               interval.start(),
-                               interval.end(),
-                               interval.frequency());
+    final URL url = url(symbol, exchange, interval);
     // leave column header skipping to transformer
-    final List<String> lines = reader.read(url);
+    final List<String> lines = limit(symbol, new Stage.Task<List<String>>() {
+      @Override
+      public List<String> call() throws IOException {
+        return read(url);
+      }
+    });
+
+    final File destination = transformAndWrite(symbol, lines, url, interval, outputParentDirectory, priceWriter);
 
-    // transform
-    source.newTransformer(source.newTransform(symbol)).transform(lines);
-    if (lines.isEmpty()) {
+    logger.info("Symbol converted: {} (Exchange: {})", symbol, exchange);
+    return destination;
+  }
+
+  /**
+   * Hands <code>lines</code> over to the transformation stage, which in turn
+   * hands them over to the writing stage, without waiting for either, so that
+   * the network thread is free to make its next request.  Within a task, the
+   * hand-over is waited for along with the task (see
+   * {@link TimedTask#awaitHandOffs()}); outside of tasks, it is waited for
+   * here.
+   *
+   * @return the destination <code>File</code>, written once the hand-over
+   *         completes
+   * @throws IOException if no lines were read, or if interrupted waiting for
+   *           room in the transformation stage
+   */
+  private final File transformAndWrite(final String symbol,
+                                       final List<String> lines,
+                                       final URL url,
+                                       final Interval interval,
+                                       final File outputParentDirectory,
+                                       final PriceWriter priceWriter)
+      throws IOException {
+    // checked here rather than after transformation so that empty responses
+    // are retried
+    if (lines.size() <= source.skippedRows()) {
       logger.warn("Empty URL: {}", url);
-      throw new IOException("Empty URL: " + url);
+      throw new IOException(EMPTY_URL + url);
+    }
+
+    final Metrics.Scope scope = scope();
+    final String task = task();
+    final File destination = new File(outputParentDirectory,
+                                      getFilename(symbol, interval, priceWriter.fileExtension()));
+
+    // transform, then write
+    final Future<Future<Void>> transformed = transforming.submit(new Stage.Task<Future<Void>>() {
+      @Override
+      public Future<Void> call() throws IOException {
+        final Tracer.Span span = tracer.start(TRANSFORM, task);
+        try {
+          final long start = cpuTime();
+          source.newTransformer(newTransform(symbol, outputParentDirectory)).transform(lines);
+          timeCpu(scope, start);
+          if (lines.isEmpty()) {
+            logger.warn("Empty URL: {}", url);
+            throw new IOException(EMPTY_URL + url);
+          }
+        }
+        catch (final IOException | RuntimeException e) {
+          scope.count(FAILURES_BY + cause(e), 1);
+          throw e;
+        }
+        finally {
+          Tracer.end(span);
+        }
+        scope.count(ROWS, lines.size());
+
+        return writing.submit(new Stage.Task<Void>() {
+          @Override
+          public Void call() throws IOException {
+            final long start = System.nanoTime();
+            try {
+              write(lines, destination, priceWriter);
+              scope.time(WRITE, System.nanoTime() - start);
+            }
+            catch (final IOException | RuntimeException e) {
+              scope.count(FAILURES_BY + cause(e), 1);
+              throw e;
+            }
+            finally {
+              tracer.complete(WRITE, task, start, System.nanoTime());
+            }
+            if (priceWriter == textWriter) {
+              record(destination.toPath(), lines.get(0), lines.size());
+            }
+            return null;
+          }
+        });
+      }
+    });
+
+    final TimedTask<?> timed = timedTask.get();
+    if (timed != null) {
+      timed.handOff(transformed);
+    }
+    else {
+      Stage.get(Stage.get(transformed));
+    }
+    return destination;
+  }
+
+  private final List<String> read(final URL url) throws IOException {
+    // readers of other than plain text (e.g. zipped) open their own streams
+    if (!plainText) {
+      return reader.read(url);
+    }
+
+    final List<String> lines = new ArrayList<>();
+    final Tracer.Span span = tracer.start(READ, task());
+    try (final BufferedReader br = new BufferedReader(new InputStreamReader(open(url),
+                                                                            StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        lines.add(line);
+      }
     }
+    finally {
+      Tracer.end(span);
+    }
+    return lines;
+  }
 
-    // write
+  /**
+   * Converts data of a single symbol, transforming and writing each line as it
+   * is read so that no more than one line is held in memory at a time.  Lines
+   * are transformed as raw bytes where the source supports it.  Falls back to
+   * {@link #convert(String, Exchanges, Interval, File)} for sources that are
+   * not streamable.  Always writes MetaStock CSV text.
+   *
+   * @param symbol
+   * @param exchange
+   * @param interval
+   * @param outputParentDirectory
+   * @return the destination <code>File</code>
+   * @throws IOException if an I/O error occurs or no lines were read
+   * @throws MalformedURLException
+   */
+  public File stream(final String symbol,
+                     final Exchanges exchange,
+                     final Interval interval,
+                     final File outputParentDirectory)
+      throws IOException, MalformedURLException {
+    if (!source.isStreamable()) {
+      logger.debug("Streaming not supported by: {}", source.directory());
+      return convert(symbol, exchange, interval, outputParentDirectory, textWriter);
+    }
+    logger.info("Streaming: {} (Exchange: {})", symbol, exchange);
+
+    final URL url = url(symbol, exchange, interval);
     final File destination = new File(outputParentDirectory, getFilename(symbol, interval));
-    writer.write(lines, destination);
 
-    logger.info("Symbol converted: {} (Exchange: {})", symbol, exchange);
+    // stream into a temporary file, so that a crash cannot leave a partial
+    // destination behind
+    final Path tmp = newTempFile(destination.toPath());
+    final long rows;
+    try {
+      // corporate actions are only recorded by text transforms
+      final ByteTransform byteTransform = adjusting ? null : source.newByteTransform(symbol);
+      final Tracer.Span span = tracer.start(STREAM, task());
+      try {
+        final long start = cpuTime();
+        rows = (byteTransform == null) ? streamLines(url, newTransform(symbol, outputParentDirectory), tmp)
+                                       : streamBytes(url, byteTransform, tmp);
+        timeCpu(scope(), start);
+      }
+      finally {
+        Tracer.end(span);
+      }
+      if (rows <= 0) {
+        logger.warn("Empty URL: {}", url);
+        throw new IOException(EMPTY_URL + url);
+      }
+      replace(tmp, destination.toPath());
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    logger.debug("Lines streamed for {}: {}", symbol, rows);
+    scope().count(ROWS, rows);
+    record(destination.toPath(), null, rows);
+
+    logger.info("Symbol streamed: {} (Exchange: {})", symbol, exchange);
     return destination;
   }
 
+  private final long streamLines(final URL url, final TextTransform transform, final Path destination)
+      throws IOException {
+    long rows = 0;
+    try (
+      final BufferedReader br = new BufferedReader(new InputStreamReader(open(url),
+                                                                         StandardCharsets.UTF_8));
+      final BufferedWriter bw = Files.newBufferedWriter(destination, StandardCharsets.UTF_8);
+    ) {
+      // skip column headings
+      for (int r = source.skippedRows(); (r > 0) && (br.readLine() != null); --r) { /* do nothing */ }
+
+      // transform and write
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (!line.isEmpty()) {
+          final String transformed = transform.transform(line);
+          if (!transformed.isEmpty()) {
+            bw.write(transformed);
+            bw.newLine();
+            ++rows;
+          }
+        }
+      }
+    }
+    return rows;
+  }
+
+  private final long streamBytes(final URL url, final ByteTransform transform, final Path destination)
+      throws IOException {
+    // borrow a set of buffers rather than keep one per thread, which on
+    // virtual threads would be one per task
+    ByteStreamTransformer transformer = byteStreamTransformers.poll();
+    if (transformer == null) {
+      transformer = new ByteStreamTransformer();
+    }
+    try (
+      final InputStream is = open(url);
+      final FileChannel fc = FileChannel.open(destination,
+                                              StandardOpenOption.CREATE,
+                                              StandardOpenOption.WRITE,
+                                              StandardOpenOption.TRUNCATE_EXISTING);
+    ) {
+      return transformer.transform(is, source.skippedRows(), transform, fc);
+    }
+    finally {
+      byteStreamTransformers.offer(transformer);
+    }
+  }
+
+  /**
+   * Opens a stream from <code>url</code>, recording the time to its first byte
+   * and, on closing, the number of bytes read.  Requests of a task with a
+   * deadline time out when it passes.
+   */
+  private final InputStream open(final URL url) throws IOException {
+    final Metrics.Scope scope = scope();
+    final TimedTask<?> task = timedTask.get();
+    final int timeout = (task == null) ? 0 : task.timeout();
+    final long start = System.nanoTime();
+    final InputStream response = (timeout > 0) ? transport.open(url, timeout) : transport.open(url);
+    final long end = System.nanoTime();
+    scope.time(FIRST_BYTE, end - start);
+    tracer.complete(REQUEST, task(), start, end);
+    scope.count(REQUESTS, 1);
+    return new MeteredInputStream(response, scope);
+  }
+
+  private static final class MeteredInputStream extends FilterInputStream {
+
+    private final Metrics.Scope scope;
+    private long                bytes;
+    private boolean             closed;
+
+    MeteredInputStream(final InputStream in, final Metrics.Scope scope) {
+      super(in);
+      this.scope = scope;
+    }
+
+    @Override
+    public int read() throws IOException {
+      checkInterrupted();
+      final int b = in.read();
+      if (b >= 0) {
+        ++bytes;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      checkInterrupted();
+      final int n = in.read(b, off, len);
+      if (n > 0) {
+        bytes += n;
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final long skipped = in.skip(n);
+      bytes += skipped;
+      return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        scope.count(BYTES, bytes);
+      }
+      in.close();
+    }
+
+    /**
+     * Stops reading a response that is still arriving when its task is
+     * cancelled.
+     */
+    private static final void checkInterrupted() throws InterruptedIOException {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedIOException("Interrupted reading response");
+      }
+    }
+
+  }
+
   public File download(final File symbolsFile, final Interval interval, final File outputParentDirectory)
       throws FileNotFoundException, IOException, InterruptedException {
-    return execute(symbolsFile, interval, outputParentDirectory, download);
+    return execute(symbolsFile, interval, outputParentDirectory, download, DOWNLOAD);
   }
 
   public List<File> download(final Collection<String> symbols,
@@ -470,20 +1669,28 @@ public class Converter {
       throws IOException, MalformedURLException {
     logger.info("Downloading: {}", symbol);
 
-    final URL url = source.url(symbol,
-                               exchange,
-                               interval.start(),
-                               interval.end(),
-                               interval.frequency());
+    final URL url = url(symbol, exchange, interval);
     final File destination = new File(outputParentDirectory, getFilename(symbol, interval));
-    try (
-      final ReadableByteChannel rbc = Channels.newChannel(URLInputStreamFactory.newInputStream(url));
-      final FileChannel fc = FileChannel.open(destination.toPath(),
-                                              StandardOpenOption.CREATE,
-                                              StandardOpenOption.WRITE);
-    ) {
-      final long transferred = fc.transferFrom(rbc, 0, Long.MAX_VALUE); // ~8 exabytes (8 x 1024^6)
-      logger.debug("Bytes transferred for {}: {}", symbol, transferred);
+    final Path tmp = newTempFile(destination.toPath());
+    try {
+      try (
+        final ReadableByteChannel rbc = Channels.newChannel(open(url));
+        final FileChannel fc = FileChannel.open(tmp, StandardOpenOption.WRITE);
+      ) {
+        final Tracer.Span span = tracer.start(TRANSFER, task());
+        try {
+          final long transferred = fc.transferFrom(rbc, 0, Long.MAX_VALUE); // ~8 exabytes (8 x 1024^6)
+          logger.debug("Bytes transferred for {}: {}", symbol, transferred);
+        }
+        finally {
+          Tracer.end(span);
+        }
+      }
+      replace(tmp, destination.toPath());
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
     }
 
     logger.info("Symbol downloaded: {}", symbol);
@@ -491,138 +1698,193 @@ public class Converter {
   }
 
   /**
-   * Updates all data files in <code>outputParentDirectory</code>.
+   * Updates all data files in <code>outputParentDirectory</code>.  Only
+   * MetaStock CSV data files are updated and update files are always written
+   * as such, whichever <code>PriceWriter</code> is in use.
    *
    * @param outputParentDirectory the file directory to be updated
    * @return outputParentDirectory
    * @throws IOException
    *           if an I/O error is thrown by the file visitor
    */
-  public File update(final File outputParentDirectory) throws IOException {
+  public File update(final File outputParentDirectory) throws IOException, InterruptedException {
     // Algorithm
     // 1. find data files (assume some are in directories while others are not)
-    // 2. read first line in each data file, assuming it the latest
+    // 2. look up the latest date of each data file and its most recent update
+    //    file (if any) in their directory's manifest, reading the first line
+    //    of those not recorded
     // 3. extract symbol and date, and store date in a dictionary
-    // 4. download, convert and write to a separate update file
+    // 4. group symbols by update interval and directory (i.e. exchange)
+    // 5. download, convert and write to a separate update file, one group
+    //    after another
     if (!outputParentDirectory.isDirectory()) {
       throw new IllegalArgumentException("Not a directory: " + outputParentDirectory);
     }
 
     logger.info("Updating files in: {}", outputParentDirectory);
 
-    final CompletionServiceFileVisitor<File> visitor =
-        new CompletionServiceFileVisitor<>(SYNTAX + FILENAME_REGEX,
-                                           new UpdateFile(convert),
-                                           threadPools.get(LARGE));
-    Files.walkFileTree(outputParentDirectory.toPath(), visitor);
-    report(visitor.results(), visitor.failures());
+    final Path directory = outputParentDirectory.toPath();
+    final UpdateFile updateFile = new UpdateFile(update, findUpdateFiles(directory));
+
+    // plan
+    final Map<Future<Update>, TimedTask<Update>> plans = new HashMap<>();
+    final CompletionService<Update> planner = new ExecutorCompletionService<>(threadPools.get(SMALL));
+    for (final Path file : findDataFiles(directory)) {
+      if (resampling && isResampleable(file)) {
+        logger.debug("Update skipped for resampled file: {}", file);
+        continue;
+      }
+      submit(planner, file.toString(), updateFile.newPlan(file), plans);
+    }
+    final Map<String, Throwable> failures = newMap(plans.size());
+    final List<Update> updates = retriveResults(planner, plans, failures);
+
+    // group, relying on intervals being shared
+    final Map<Interval, Map<File, List<Update>>> groups = new LinkedHashMap<>();
+    for (final Update planned : updates) {
+      Map<File, List<Update>> directories = groups.get(planned.interval);
+      if (directories == null) {
+        groups.put(planned.interval, directories = new LinkedHashMap<>());
+      }
+      List<Update> group = directories.get(planned.directory);
+      if (group == null) {
+        directories.put(planned.directory, group = new ArrayList<>());
+      }
+      group.add(planned);
+    }
+
+    // submit one group after another so that similar requests follow each
+    // other over the same pooled connections
+    final Map<Future<File>, TimedTask<File>> futures = newMap(updates.size());
+    final CompletionService<File> completionService = new ExecutorCompletionService<>(threadPools.get(NETWORK));
+    for (final Map<File, List<Update>> directories : groups.values()) {
+      for (final List<Update> group : directories.values()) {
+        for (final Update planned : group) {
+          submit(completionService,
+                 planned.symbol,
+                 measure(planned.exchange, updateFile.newTask(planned)),
+                 futures);
+        }
+      }
+    }
+    logger.info("Update requests submitted: {} in {} groups", futures.size(), groups.size());
+
+    report(retriveResults(completionService, futures, failures), failures);
+    saveManifests();
+    summarise(outputParentDirectory);
 
     logger.info("Updated files in: {}", outputParentDirectory);
     return outputParentDirectory;
   }
 
-  class UpdateFile extends AbstractTaskHelper {
+  /**
+   * A planned update of a symbol's data file.
+   */
+  static final class Update {
+
+    final String    symbol;
+    final Exchanges exchange;
+    final Interval  interval;
+    final File      directory;
+
+    Update(final String symbol, final Exchanges exchange, final Interval interval, final File directory) {
+      this.symbol = symbol;
+      this.exchange = exchange;
+      this.interval = interval;
+      this.directory = directory;
+    }
+
+  }
+
+  class UpdateFile {
 
-    final Action<File>                  action;
-    private final Calendar              now;
-    final String                        endYYYYMMDD;
-    private final Map<Calendar, String> startYYYYMMDDs;
-    private final Map<String, Interval> updateIntervals;
-    private final Map<Path, Exchanges>  exchanges;
+    final Action<File>                            action;
+    private final Map<Path, List<Path>>           updateFiles;
+    private final TradingDate                     today;
+    final String                                  endYYYYMMDD;
+    private final ConcurrentMap<String, Interval> updateIntervals;
+    private final ConcurrentMap<Path, Exchanges>  exchanges;
 
-    public UpdateFile(final Action<File> action) {
+    public UpdateFile(final Action<File> action, final Map<Path, List<Path>> updateFiles) {
       this.action = action;
-      now = Calendar.getInstance();
-      endYYYYMMDD = dateFormat.format(now.getTime());
-      startYYYYMMDDs = new HashMap<>();
-      updateIntervals = new HashMap<>();
-      exchanges = new HashMap<>();
+      this.updateFiles = updateFiles;
+      today = TradingDate.today();
+      endYYYYMMDD = today.toString();
+      updateIntervals = new ConcurrentHashMap<>();
+      exchanges = new ConcurrentHashMap<>();
     }
 
-    final String readLatestLine(final Path file) throws IOException {
-      String latest;
-      try (final BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-        latest = br.readLine();
-      }
-      if ((latest == null) || latest.isEmpty()) {
-        logger.warn("Empty file: {}", file);
-        throw new IOException("Empty file: " + file);
-      }
-      return latest;
+    /**
+     * @return the manifest record of <code>file</code>, recording it afresh if
+     *         necessary
+     */
+    final UpdateManifest.Record latestRecord(final Path file) throws IOException {
+      final UpdateManifest manifest = manifest(file.toAbsolutePath().getParent(), true);
+      final UpdateManifest.Record record = manifest.get(file);
+      return (record != null) ? record : manifest.record(file, readLatestLine(file), UpdateManifest.UNKNOWN);
     }
 
     final Interval getUpdateInterval(final String date, final Frequencies frequency)
         throws ParseException {
-      Interval interval;
       final String dateAndFrequency = date + frequency.frequency(); // prevent one frequency from masking others
-      synchronized (updateIntervals) {
-        if ((interval = updateIntervals.get(dateAndFrequency)) == null) {
-          // set interval start
-          final Calendar start = Calendar.getInstance();
-          start.setTime(dateFormat.parse(date));
-          switch (frequency) {
-            case MONTHLY:
-              start.add(Calendar.MONTH, 1);
-              start.set(Calendar.DATE, 1); // start 1st of next month
-              break;
-
-            case WEEKLY:
-              start.add(Calendar.DATE, 7); // start the next week
-              break;
-
-            case DAILY:
-            default:
-              start.add(Calendar.DATE, 1); // start the next day
-              break;
-          }
-          final String startYYYYMMDD = getStartYYYYMMDD(start);
-
-          // terminate task by throwing exception if start >= now
-          if (!start.before(now)) {
-            throw new IllegalArgumentException("Start date (" + startYYYYMMDD + ") not before end date (" + endYYYYMMDD + ")");
-          }
-          updateIntervals.put(dateAndFrequency, interval = new Interval(start, now, frequency));
+      Interval interval = updateIntervals.get(dateAndFrequency);
+      if (interval == null) {
+        // set interval start: the next day, the next week or the 1st of next month
+        final TradingDate start = TradingDate.parse(date).next(frequency);
+        final String startYYYYMMDD = start.toString();
+
+        // terminate task by throwing exception if start > today
+        if (start.isAfter(today)) {
+          throw new IllegalArgumentException("Start date (" + startYYYYMMDD + ") after end date (" + endYYYYMMDD + ")");
+        }
+        // symbols sharing a date share its interval, whichever thread forms it first
+        final Interval formed = updateIntervals.putIfAbsent(dateAndFrequency, interval = Interval.of(start, today, frequency));
+        if (formed != null) {
+          interval = formed;
+        }
+        else {
           logger.debug("New interval inserted: {} {} {}", startYYYYMMDD, endYYYYMMDD, frequency);
         }
       }
       return interval;
     }
 
-    final String getStartYYYYMMDD(final Calendar start) {
-      String startYYYYMMDD;
-      if ((startYYYYMMDD = startYYYYMMDDs.get(start)) == null) {
-        // cache to prevent reformatting
-        startYYYYMMDDs.put(start, startYYYYMMDD = dateFormat.format(start.getTime()));
-      }
-      return startYYYYMMDD;
-    }
-
     final Exchanges extractExchange(final Path parent) {
       Exchanges exchange;
       if ((exchange = exchanges.get(parent)) == null) {
-        exchanges.put(parent, exchange = Exchanges.toExchange(parent.getFileName().toString()));
+        final Exchanges extracted = exchanges.putIfAbsent(parent, exchange = Exchanges.toExchange(parent.getFileName().toString()));
+        if (extracted != null) {
+          exchange = extracted;
+        }
       }
       return exchange;
     }
 
-    @Override
-    public Callable<File> newTask(final Path file) {
-      return new Callable<File>() {
+    /**
+     * @param file a data file
+     * @return a task planning the update of <code>file</code>
+     */
+    public Callable<Update> newPlan(final Path file) {
+      return new Callable<Update>() {
         @Override
-        public File call() throws Exception {
-          // read most recent entry
-          final String latest = readLatestLine(file);
+        public Update call() throws Exception {
+          // find most recent entry, which may be in a pending update file
+          UpdateManifest.Record latest = latestRecord(file);
+          final List<Path> updates = updateFiles.get(file);
+          if (updates != null) {
+            final UpdateManifest.Record latestUpdate = latestRecord(updates.get(0));
+            if (latestUpdate.date.compareTo(latest.date) > 0) {
+              latest = latestUpdate;
+            }
+          }
 
-          // extract symbol and date
-          final Entry<String, String> symbolAndDate = extractSymbolAndDate(latest);
-          final String symbol = symbolAndDate.getKey();
-          final String date = symbolAndDate.getValue();
+          final String symbol = latest.symbol;
+          final String date = latest.date;
 
           // form update interval
           final String filename = file.getFileName().toString();
           final Frequencies frequency = getFrequencyFrom(filename);
           final Interval interval = getUpdateInterval(date, frequency);
-          final String startYYYYMMDD = getStartYYYYMMDD(interval.start());
 
           // extract exchange
           final Path parent = file.getParent();
@@ -631,13 +1893,26 @@ public class Converter {
           logger.info("{} current as of: {}.  Updating from {} to {}",
                       symbol,
                       date,
-                      startYYYYMMDD,
+                      interval.start(),
                       endYYYYMMDD);
 
-          return action.execute(symbol,
-                                exchange,
-                                interval,
-                                parent.toFile());
+          return new Update(symbol, exchange, interval, parent.toFile());
+        }
+      };
+    }
+
+    /**
+     * @param update a planned update
+     * @return a task updating <code>update</code>'s symbol
+     */
+    public Callable<File> newTask(final Update update) {
+      return new Callable<File>() {
+        @Override
+        public File call() throws Exception {
+          return action.execute(update.symbol,
+                                update.exchange,
+                                update.interval,
+                                update.directory);
         }
       };
     }
@@ -646,20 +1921,24 @@ public class Converter {
 
   /**
    * Merges files in <code>outputParentDirectory</code>.
+   * <p>
+   * Update files accumulate until a data file has at least
+   * <code>org.ikankechil.eod3.Converter.compactionThreshold</code> of them, so
+   * that data files need not be rewritten after every update.
    *
    * @param outputParentDirectory
    * @return outputParentDirectory
    * @throws IOException
    *           if an I/O error is thrown by the file visitor
+   * @throws InterruptedException
    */
-  public File merge(final File outputParentDirectory) throws IOException {
+  public File merge(final File outputParentDirectory) throws IOException, InterruptedException {
     // Algorithm
-    // 1. Match update file to existing file for every symbol
+    // 1. Match update files to existing file for every symbol
     //    a) all update and existing files are in one single directory
     //    b) [NOT SUPPORTED] update and existing files in separate directories
-    //    c) one update file per symbol
-    //    d) [NOT SUPPORTED] several update files per symbol
-    // 2. Read update file and existing file
+    //    c) one or more update files per symbol
+    // 2. Merge update files, most recent first, into the oldest update file
     // 3. Insert and overwrite updates into existing data
     if (!outputParentDirectory.isDirectory()) {
       throw new IllegalArgumentException("Not a directory: " + outputParentDirectory);
@@ -667,53 +1946,275 @@ public class Converter {
 
     logger.info("Merging files in: {}", outputParentDirectory);
 
-    final CompletionServiceFileVisitor<File> visitor =
-        new CompletionServiceFileVisitor<>(SYNTAX + FILENAME_WITH_DATES_REGEX,
-                                           new MergeFile(),
-                                           threadPools.get(TINY));
-    Files.walkFileTree(outputParentDirectory.toPath(), visitor);
-    report(visitor.results(), visitor.failures());
+    final Map<Future<File>, TimedTask<File>> futures = new HashMap<>();
+    final CompletionService<File> completionService = new ExecutorCompletionService<>(threadPools.get(TINY));
+    for (final Entry<Path, List<Path>> updateFiles : findUpdateFiles(outputParentDirectory.toPath()).entrySet()) {
+      final Path target = updateFiles.getKey();
+      final List<Path> updates = updateFiles.getValue();
+      if (updates.size() >= compactionThreshold) {
+        submit(completionService, target.toString(), new Callable<File>() {
+          @Override
+          public File call() throws Exception {
+            final Tracer.Span span = tracer.start(MERGE, task());
+            try {
+              return merge(updates, target);
+            }
+            finally {
+              Tracer.end(span);
+            }
+          }
+        }, futures);
+      }
+      else {
+        logger.debug("Merge deferred: {} ({} update files)", target, updates.size());
+      }
+    }
+
+    final Map<String, Throwable> failures = newMap(futures.size());
+    report(retriveResults(completionService, futures, failures), failures);
+    saveManifests();
+    summarise(outputParentDirectory);
 
     logger.info("Merged files in: {}", outputParentDirectory);
     return outputParentDirectory;
   }
 
-  class MergeFile extends AbstractTaskHelper {
+  /**
+   * Merges update files into <code>target</code>, rewriting it only once.
+   *
+   * @param updates update files, most recent first
+   * @param target
+   * @return <code>target</code>
+   * @throws IOException
+   */
+  private final File merge(final List<Path> updates, final Path target) throws IOException {
+    // combine update files, most recent first, so that later updates prevail
+    Path src = updates.get(0);
+    for (final Path earlier : updates.subList(1, updates.size())) {
+      merge(src.toFile(), earlier.toFile());
+      Files.delete(src);
+      src = earlier;
+    }
 
-    final File target(final Path src) {
-      // assume source and target are in the same directory
-      final File target = new File(src.getParent().toFile(),
-                                   removeDatesFrom(src.getFileName().toString()));
-      logger.debug("Source: {}, Target: {}", src, target);
-      return target;
+    final long rows;
+    if (Files.exists(target)) {
+      rows = mergeRows(src.toFile(), target.toFile());
+      Files.delete(src);
+      logger.debug("File deleted after merging: {}", src);
+    }
+    else {
+      // rename update file as target if latter is absent
+      Files.move(src, target);
+      rows = UpdateManifest.UNKNOWN;
+      logger.info("File renamed after merging: {} -> {}", src, target);
     }
 
-    @Override
-    public Callable<File> newTask(final Path src) {
-      return new Callable<File>() {
-        @Override
-        public File call() throws Exception {
-          final File target = target(src);
-          if (target.exists()) {
-            merge(src.toFile(), target);
-            Files.delete(src);
-            logger.debug("File deleted after merging: {}", src);
+    // keep existing manifests current
+    final UpdateManifest manifest = manifest(target.toAbsolutePath().getParent(), false);
+    if (manifest != null) {
+      for (final Path update : updates) {
+        manifest.remove(update);
+      }
+      manifest.record(target, readLatestLine(target), rows);
+    }
+    return target.toFile();
+  }
+
+  /**
+   * Resamples all daily data files in <code>outputParentDirectory</code> into
+   * weekly and monthly data files alongside them.  Only merged data is
+   * resampled, so pending update files are included once they are merged.
+   *
+   * @param outputParentDirectory the file directory to be resampled
+   * @return outputParentDirectory
+   * @throws IOException
+   *           if an I/O error is thrown by the file visitor
+   * @throws InterruptedException
+   */
+  public File resample(final File outputParentDirectory) throws IOException, InterruptedException {
+    if (!outputParentDirectory.isDirectory()) {
+      throw new IllegalArgumentException("Not a directory: " + outputParentDirectory);
+    }
+
+    logger.info("Resampling files in: {}", outputParentDirectory);
+
+    final Map<Future<File>, TimedTask<File>> futures = new HashMap<>();
+    final CompletionService<File> completionService = new ExecutorCompletionService<>(threadPools.get(TINY));
+    for (final Path file : findDataFiles(outputParentDirectory.toPath())) {
+      if (getFrequencyFrom(file.getFileName().toString()) == Frequencies.DAILY) {
+        for (final Frequencies frequency : RESAMPLED) {
+          submit(completionService, file + " -> " + frequency, new Callable<File>() {
+            @Override
+            public File call() throws Exception {
+              final Tracer.Span span = tracer.start(RESAMPLE_SPAN, task());
+              try {
+                return resample(file, frequency);
+              }
+              finally {
+                Tracer.end(span);
+              }
+            }
+          }, futures);
+        }
+      }
+    }
+
+    final Map<String, Throwable> failures = newMap(futures.size());
+    report(retriveResults(completionService, futures, failures), failures);
+    saveManifests();
+    summarise(outputParentDirectory);
+
+    logger.info("Resampled files in: {}", outputParentDirectory);
+    return outputParentDirectory;
+  }
+
+  private final File resample(final Path daily, final Frequencies frequency) throws IOException {
+    final File target = resampler.resample(daily.toFile(), frequency);
+
+    // keep existing manifests current
+    final UpdateManifest manifest = manifest(target.toPath().toAbsolutePath().getParent(), false);
+    if (manifest != null) {
+      manifest.record(target.toPath(), readLatestLine(target.toPath()), UpdateManifest.UNKNOWN);
+    }
+    return target;
+  }
+
+  /**
+   * Adjusts all daily data files in <code>outputParentDirectory</code> for
+   * the dividends and splits recorded in their directories, writing adjusted
+   * data files alongside them.  Only merged data is adjusted, so pending
+   * update files are included once they are merged.  Symbols without
+   * corporate actions are skipped.
+   *
+   * @param outputParentDirectory the file directory to be adjusted
+   * @return outputParentDirectory
+   * @throws IOException
+   *           if an I/O error is thrown by the file visitor
+   * @throws InterruptedException
+   */
+  public File adjust(final File outputParentDirectory) throws IOException, InterruptedException {
+    if (!outputParentDirectory.isDirectory()) {
+      throw new IllegalArgumentException("Not a directory: " + outputParentDirectory);
+    }
+
+    logger.info("Adjusting files in: {}", outputParentDirectory);
+
+    final Map<Future<File>, TimedTask<File>> futures = new HashMap<>();
+    final CompletionService<File> completionService = new ExecutorCompletionService<>(threadPools.get(TINY));
+    for (final Path file : findDataFiles(outputParentDirectory.toPath())) {
+      if (getFrequencyFrom(file.getFileName().toString()) != Frequencies.DAILY) {
+        continue;
+      }
+      final CorporateActions actions = corporateActions(file.toAbsolutePath().getParent());
+      if (adjuster.isAdjustable(file.toFile(), actions)) {
+        submit(completionService, file.toString(), new Callable<File>() {
+          @Override
+          public File call() throws Exception {
+            final Tracer.Span span = tracer.start(ADJUST_SPAN, task());
+            try {
+              return adjuster.adjust(file.toFile(), actions);
+            }
+            finally {
+              Tracer.end(span);
+            }
           }
-          else {
-            // rename update file as target if latter is absent
-            Files.move(src, target.toPath());
-            logger.info("File renamed after merging: {} -> {}", src, target);
+        }, futures);
+      }
+    }
+
+    final Map<String, Throwable> failures = newMap(futures.size());
+    report(retriveResults(completionService, futures, failures), failures);
+    summarise(outputParentDirectory);
+
+    logger.info("Adjusted files in: {}", outputParentDirectory);
+    return outputParentDirectory;
+  }
+
+  /**
+   * @return true if <code>file</code> is a weekly or monthly data file with a
+   *         daily data file to be resampled from
+   */
+  private static final boolean isResampleable(final Path file) {
+    final String filename = file.getFileName().toString();
+    if (getFrequencyFrom(filename) == Frequencies.DAILY) {
+      return false;
+    }
+    final Path daily = file.resolveSibling(getFilename(getSymbolFrom(filename),
+                                                       Interval.of(null, null, Frequencies.DAILY),
+                                                       getFilenameExtensionFrom(filename)));
+    return Files.isRegularFile(daily);
+  }
+
+  /**
+   * Finds data files in <code>directory</code> and its sub-directories.
+   *
+   * @param directory
+   * @return data files
+   * @throws IOException
+   */
+  static final List<Path> findDataFiles(final Path directory) throws IOException {
+    final PathMatcher matcher = directory.getFileSystem().getPathMatcher(SYNTAX + FILENAME_REGEX);
+    final List<Path> dataFiles = new ArrayList<>();
+
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+        if (matcher.matches(file.getFileName())) {
+          dataFiles.add(file);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    logger.debug("Data files: {}", dataFiles.size());
+
+    return dataFiles;
+  }
+
+  /**
+   * Finds update files in <code>directory</code> and its sub-directories.
+   *
+   * @param directory
+   * @return update files by the file they update, most recent first
+   * @throws IOException
+   */
+  static final Map<Path, List<Path>> findUpdateFiles(final Path directory) throws IOException {
+    final PathMatcher matcher = directory.getFileSystem().getPathMatcher(SYNTAX + FILENAME_WITH_DATES_REGEX);
+    final Map<Path, List<Path>> updateFiles = new HashMap<>();
+
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+        final Path filename = file.getFileName();
+        if (matcher.matches(filename)) {
+          // assume update and target files are in the same directory
+          final Path target = file.resolveSibling(removeDatesFrom(filename.toString()));
+          List<Path> updates = updateFiles.get(target);
+          if (updates == null) {
+            updateFiles.put(target, updates = new ArrayList<>());
           }
-          return target;
+          updates.add(file);
         }
-      };
+        return FileVisitResult.CONTINUE;
+      }
+    });
+
+    // filenames differ only by dates
+    for (final List<Path> updates : updateFiles.values()) {
+      Collections.sort(updates, Collections.reverseOrder());
     }
+    logger.debug("Files with updates: {}", updateFiles.size());
 
+    return updateFiles;
   }
 
   /**
    * Merges <code>src</code>'s contents into <code>target</code> in reverse
-   * chronological order.
+   * chronological order.  Where both have a line for the same date,
+   * <code>src</code>'s is kept.
+   * <p>
+   * Both files are expected to be in reverse chronological order already and
+   * are merged in a single pass into a temporary file, which then replaces
+   * <code>target</code>.  Files found out of order are sorted instead.
    *
    * @param src
    * @param target
@@ -721,6 +2222,14 @@ public class Converter {
    * @throws IOException if <code>src</code> is empty or if an I/O error occurs
    */
   public File merge(final File src, final File target) throws IOException {
+    mergeRows(src, target);
+    return target;
+  }
+
+  /**
+   * @return number of rows merged into <code>target</code>
+   */
+  private final long mergeRows(final File src, final File target) throws IOException {
     logger.info("Merging files: {} -> {}", src, target);
 
     if (src.length() <= 0) {
@@ -728,6 +2237,80 @@ public class Converter {
       logger.warn("Empty source file: {}", name);
       throw new IOException("Empty source file: " + name);
     }
+
+    final Path merged = newTempFile(target.toPath());
+    long rows;
+    try {
+      if ((rows = mergeSorted(src.toPath(), target.toPath(), merged)) < 0) {
+        logger.warn("Files not in reverse chronological order: {} -> {}", src, target);
+        rows = sortAndMerge(src, target, merged.toFile());
+      }
+      replace(merged, target.toPath());
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(merged);
+      throw e;
+    }
+
+    logger.info("Files merged: {} rows", rows);
+    return rows;
+  }
+
+  /**
+   * Two-way merge of files in reverse chronological order, removing lines
+   * with duplicate dates.
+   *
+   * @return number of lines written, or -1 if either file turns out not to be
+   *         in reverse chronological order
+   */
+  private static final long mergeSorted(final Path src, final Path target, final Path merged)
+      throws IOException {
+    long rows = 0;
+    try (
+      final BufferedReader srcReader = Files.newBufferedReader(src, StandardCharsets.UTF_8);
+      final BufferedReader targetReader = Files.newBufferedReader(target, StandardCharsets.UTF_8);
+      final BufferedWriter bw = Files.newBufferedWriter(merged, StandardCharsets.UTF_8);
+    ) {
+      String srcLine = nextLine(srcReader);
+      String targetLine = nextLine(targetReader);
+      String last = null; // last line written
+      while (srcLine != null || targetLine != null) {
+        // take the later line, favouring src
+        final String line;
+        if (targetLine == null || (srcLine != null && compareDates(srcLine, targetLine) >= 0)) {
+          line = srcLine;
+          srcLine = nextLine(srcReader);
+        }
+        else {
+          line = targetLine;
+          targetLine = nextLine(targetReader);
+        }
+
+        if (last != null) {
+          final int comparison = compareDates(line, last);
+          if (comparison > 0) {
+            return -1;
+          }
+          else if (comparison == 0) {
+            continue; // duplicate
+          }
+        }
+        bw.write(line);
+        bw.newLine();
+        last = line;
+        ++rows;
+      }
+    }
+    return rows;
+  }
+
+  private static final String nextLine(final BufferedReader reader) throws IOException {
+    String line;
+    while ((line = reader.readLine()) != null && line.isEmpty()) { /* skip empty lines */ }
+    return line;
+  }
+
+  private final int sortAndMerge(final File src, final File target, final File merged) throws IOException {
     // remove duplicates
     // sort in descending / reverse chronological order
     final Set<String> lines = new TreeSet<>(REVERSE_CHRONO);
@@ -736,30 +2319,54 @@ public class Converter {
     lines.addAll(reader.read(src));
     lines.addAll(reader.read(target));
 
-    // write merged lines to target
-    writer.write(lines, target);
-
-    logger.info("Files merged");
-    return target;
+    // write merged lines
+    writer.write(lines, merged);
+    return lines.size();
   }
 
-  abstract class AbstractTaskHelper implements TaskHelper<Path, File> {
-
-    @Override
-    public File handleExecutionFailure(final ExecutionException eE, final Path operand) {
-      return operand.toFile();
+  /**
+   * Writes <code>lines</code> into a temporary file that then replaces
+   * <code>destination</code>, so that a crash cannot leave it truncated.
+   */
+  private static final void write(final List<String> lines, final File destination, final PriceWriter priceWriter)
+      throws IOException {
+    final Path tmp = newTempFile(destination.toPath());
+    try {
+      priceWriter.write(lines, tmp.toFile());
+      replace(tmp, destination.toPath());
     }
-
-    @Override
-    public File handleTaskCancellation(final CancellationException cE, final Path operand) {
-      return operand.toFile();
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
     }
+  }
 
-    @Override
-    public File handleTimeout(final TimeoutException tE, final Path operand) {
-      return operand.toFile();
+  /**
+   * @return a new temporary file beside <code>destination</code>, on the same
+   *         file system for it to be moved atomically, with the default
+   *         permissions of new files (unlike those of
+   *         <code>Files.createTempFile</code>, which are owner-only)
+   */
+  static final Path newTempFile(final Path destination) throws IOException {
+    final Path directory = destination.toAbsolutePath().getParent();
+    final String prefix = destination.getFileName().toString() + DOT;
+    while (true) {
+      try {
+        return Files.createFile(directory.resolve(prefix + Long.toHexString(ThreadLocalRandom.current().nextLong()) + TMP));
+      }
+      catch (final FileAlreadyExistsException faeE) {
+        logger.debug("Temporary file name taken: {}", faeE.getFile());
+      }
     }
+  }
 
+  static final void replace(final Path source, final Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    catch (final AtomicMoveNotSupportedException amnsE) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
   }
 
   /**
@@ -771,9 +2378,132 @@ public class Converter {
       threadPool.shutdown();
       threadPool.awaitTermination(Short.MAX_VALUE, TimeUnit.MILLISECONDS);
     }
+    transforming.stop();
+    writing.stop();
+    timer.shutdownNow();
+    saveManifests();
+    metrics.unregister();
     logger.info("Shutdown requested");
   }
 
+  /**
+   * @param directory
+   * @param create whether to start a manifest for <code>directory</code> if
+   *          it has none
+   * @return the manifest of <code>directory</code>, or <code>null</code> if it
+   *         has none and <code>create</code> is <code>false</code>
+   */
+  private final UpdateManifest manifest(final Path directory, final boolean create) {
+    UpdateManifest manifest = manifests.get(directory);
+    if (manifest == null) {
+      if (!create && !Files.exists(directory.resolve(UpdateManifest.FILENAME))) {
+        return null;
+      }
+      final UpdateManifest loaded = UpdateManifest.load(directory);
+      if ((manifest = manifests.putIfAbsent(directory, loaded)) == null) {
+        manifest = loaded;
+      }
+    }
+    return manifest;
+  }
+
+  /**
+   * @return a transform for <code>symbol</code>, recording its corporate
+   *         actions in <code>directory</code> if adjusting
+   */
+  private final TextTransform newTransform(final String symbol, final File directory) {
+    return adjusting ? source.newTransform(symbol, corporateActions(directory.toPath().toAbsolutePath()))
+                     : source.newTransform(symbol);
+  }
+
+  private final CorporateActions corporateActions(final Path directory) {
+    CorporateActions actions = corporateActions.get(directory);
+    if (actions == null) {
+      final CorporateActions loaded = CorporateActions.load(directory);
+      if ((actions = corporateActions.putIfAbsent(directory, loaded)) == null) {
+        actions = loaded;
+      }
+    }
+    return actions;
+  }
+
+  /**
+   * Records a newly written data file in its directory's manifest.
+   *
+   * @param file
+   * @param latest the most recent line of <code>file</code>, read from it if
+   *          <code>null</code>
+   * @param rows
+   */
+  private final void record(final Path file, final String latest, final long rows) {
+    try {
+      manifest(file.toAbsolutePath().getParent(), true).record(file,
+                                                               (latest == null) ? readLatestLine(file) : latest,
+                                                               rows);
+    }
+    catch (final IOException | RuntimeException e) {
+      logger.warn("Not recorded in manifest: {}", file, e);
+    }
+  }
+
+  /**
+   * Saves manifests and corporate actions.
+   */
+  private final void saveManifests() {
+    for (final UpdateManifest manifest : manifests.values()) {
+      try {
+        manifest.save();
+      }
+      catch (final IOException ioE) {
+        logger.warn("Manifest not saved", ioE);
+      }
+    }
+    for (final CorporateActions actions : corporateActions.values()) {
+      try {
+        actions.save();
+      }
+      catch (final IOException ioE) {
+        logger.warn("Corporate actions not saved", ioE);
+      }
+    }
+  }
+
+  static final String readLatestLine(final Path file) throws IOException {
+    String latest;
+    try (final BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      latest = br.readLine();
+    }
+    if ((latest == null) || latest.isEmpty()) {
+      logger.warn("Empty file: {}", file);
+      throw new IOException("Empty file: " + file);
+    }
+    return latest;
+  }
+
+  /**
+   * Compares the dates (second column) of two lines without extracting them.
+   *
+   * @return a negative integer, zero, or a positive integer as
+   *         <code>line1</code>'s date is earlier than, the same as, or later
+   *         than <code>line2</code>'s
+   */
+  static final int compareDates(final String line1, final String line2) {
+    final int from1 = line1.indexOf(COMMA) + 1;
+    final int from2 = line2.indexOf(COMMA) + 1;
+    final int to1 = line1.indexOf(COMMA, from1);
+    final int to2 = line2.indexOf(COMMA, from2);
+    final int length1 = ((to1 < 0) ? line1.length() : to1) - from1;
+    final int length2 = ((to2 < 0) ? line2.length() : to2) - from2;
+
+    for (int i = 0, length = Math.min(length1, length2); i < length; ++i) {
+      final int difference = line1.charAt(from1 + i) - line2.charAt(from2 + i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return length1 - length2;
+  }
+
   static final Entry<String, String> extractSymbolAndDate(final String line) {
     int comma = line.indexOf(COMMA);
     final String symbol = line.substring(0, comma);
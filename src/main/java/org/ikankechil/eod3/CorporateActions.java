@@ -0,0 +1,207 @@
+/**
+ * CorporateActions.java  v0.1  18 October 2026 6:14:55 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Record of the dividends and splits of the symbols in a directory, as
+ * published by sources such as Quandl, from which adjusted series are
+ * derived.
+ * <p>
+ * Actions are recorded by ex-date, so that recording the same action again
+ * (e.g. when overlapping data is downloaded) replaces it rather than
+ * duplicating it.
+ * <p>
+ * Format: Symbol,YYYYMMDD,Dividend,Split Ratio
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public final class CorporateActions {
+
+  private final Path                                            file;
+  private final Map<String, NavigableMap<TradingDate, Action>> actions = new TreeMap<>(); // symbol -> ex-date -> action
+  private boolean                                               dirty;
+
+  static final String                                           FILENAME = "Actions.csv";
+
+  private static final char                                     COMMA    = ',';
+  private static final int                                      COLUMNS  = 4;
+
+  private static final Logger                                   logger   = LoggerFactory.getLogger(CorporateActions.class);
+
+  /**
+   * A dividend and / or split taking effect on its ex-date.
+   */
+  public static final class Action {
+
+    public final TradingDate date;      // ex-date
+    public final double      dividend;  // 0 if none
+    public final double      split;     // new shares per old share, 1 if none
+
+    public Action(final TradingDate date, final double dividend, final double split) {
+      if (split <= 0) {
+        throw new IllegalArgumentException("Invalid split ratio: " + split);
+      }
+      this.date = date;
+      this.dividend = dividend;
+      this.split = split;
+    }
+
+    @Override
+    public String toString() {
+      return date.toString() + COMMA + dividend + COMMA + split;
+    }
+
+  }
+
+  private CorporateActions(final Path directory) {
+    file = directory.resolve(FILENAME);
+  }
+
+  /**
+   * Loads the corporate actions recorded in <code>directory</code>, which are
+   * none if there is no record or it cannot be read.
+   *
+   * @param directory
+   * @return the corporate actions of <code>directory</code>
+   */
+  public static final CorporateActions load(final Path directory) {
+    final CorporateActions actions = new CorporateActions(directory);
+    try (final BufferedReader br = Files.newBufferedReader(actions.file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        final String[] columns = line.split(String.valueOf(COMMA));
+        if (columns.length != COLUMNS) {
+          logger.warn("Malformed corporate action in {}: {}", actions.file, line);
+          continue;
+        }
+        try {
+          actions.put(columns[0], new Action(TradingDate.valueOf(Integer.parseInt(columns[1])),
+                                             Double.parseDouble(columns[2]),
+                                             Double.parseDouble(columns[3])));
+        }
+        catch (final IllegalArgumentException iaE) { // including NumberFormatException
+          logger.warn("Malformed corporate action in {}: {}", actions.file, line);
+        }
+      }
+      logger.debug("Corporate actions loaded: {} ({} symbols)", actions.file, actions.actions.size());
+    }
+    catch (final NoSuchFileException nsfE) {
+      logger.debug("No corporate actions: {}", actions.file);
+    }
+    catch (final IOException ioE) {
+      logger.warn("Corporate actions unreadable: {}", actions.file, ioE);
+      actions.actions.clear();
+    }
+    return actions;
+  }
+
+  /**
+   * Records a dividend and / or split of <code>symbol</code>.
+   *
+   * @param symbol
+   * @param date ex-date
+   * @param dividend 0 if none
+   * @param split new shares per old share, 1 if none
+   */
+  public synchronized void record(final String symbol, final TradingDate date, final double dividend, final double split) {
+    put(symbol, new Action(date, dividend, split));
+    dirty = true;
+    logger.debug("Corporate action recorded for {}: {}", symbol, date);
+  }
+
+  private final void put(final String symbol, final Action action) {
+    NavigableMap<TradingDate, Action> dates = actions.get(symbol);
+    if (dates == null) {
+      actions.put(symbol, dates = new TreeMap<>());
+    }
+    dates.put(action.date, action);
+  }
+
+  /**
+   * @param symbol
+   * @return <code>true</code> if any corporate action of <code>symbol</code>
+   *         is recorded
+   */
+  public synchronized boolean contains(final String symbol) {
+    return actions.containsKey(symbol);
+  }
+
+  /**
+   * @param symbol
+   * @param after exclusive, or <code>null</code> for all actions up to
+   *          <code>until</code>
+   * @param until inclusive
+   * @return actions of <code>symbol</code> with ex-dates in
+   *         (<code>after</code>, <code>until</code>], most recent first
+   */
+  public synchronized List<Action> between(final String symbol, final TradingDate after, final TradingDate until) {
+    final NavigableMap<TradingDate, Action> dates = actions.get(symbol);
+    if (dates == null || (after != null && !after.isBefore(until))) {
+      return new ArrayList<>(0);
+    }
+    final NavigableMap<TradingDate, Action> range = (after == null) ? dates.headMap(until, true)
+                                                                    : dates.subMap(after, false, until, true);
+    return new ArrayList<>(range.descendingMap().values());
+  }
+
+  synchronized int size() {
+    int size = 0;
+    for (final NavigableMap<TradingDate, Action> dates : actions.values()) {
+      size += dates.size();
+    }
+    return size;
+  }
+
+  /**
+   * Writes the record, if changed, replacing its earlier version in one go.
+   *
+   * @throws IOException
+   */
+  public synchronized void save() throws IOException {
+    if (!dirty) {
+      return;
+    }
+
+    final Path tmp = Converter.newTempFile(file);
+    try {
+      try (final BufferedWriter bw = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        for (final Map.Entry<String, NavigableMap<TradingDate, Action>> symbol : actions.entrySet()) {
+          for (final Action action : symbol.getValue().values()) {
+            bw.write(symbol.getKey());
+            bw.write(COMMA);
+            bw.write(action.toString());
+            bw.newLine();
+          }
+        }
+      }
+      Converter.replace(tmp, file);
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    dirty = false;
+    logger.debug("Corporate actions saved: {} ({} symbols)", file, actions.size());
+  }
+
+}
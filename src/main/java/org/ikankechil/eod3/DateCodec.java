@@ -0,0 +1,368 @@
+/**
+ * DateCodec.java  v0.1  18 October 2026 1:12:37 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Immutable, thread-safe formatter and parser of dates held as
+ * <code>int</code>s packed as YYYYMMDD (e.g. 20151204 for 4 December 2015).
+ * <p>
+ * Patterns are a subset of <code>SimpleDateFormat</code>'s: <code>yyyy</code>,
+ * <code>yy</code>, <code>MM</code>, <code>M</code>, <code>MMM</code>,
+ * <code>dd</code> and <code>d</code>, with any other character taken
+ * literally.  Two-digit years fall within 80 years before and 20 years after
+ * the present, as with <code>SimpleDateFormat</code>.  Month names are in
+ * English.  Unlike <code>SimpleDateFormat</code>, parsing is strict.
+ * <p>
+ * Codecs can be shared freely between threads, parse without creating
+ * <code>Date</code>s or <code>Calendar</code>s and format into existing
+ * buffers.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public final class DateCodec {
+
+  private final String            pattern;
+  private final char[]            fields;   // field letters, or literals
+  private final int[]             widths;   // field widths, 0 for literals
+  private final int               length;   // formatted length, -1 if variable
+
+  public static final DateCodec   YYYYMMDD         = new DateCodec("yyyyMMdd");
+  public static final DateCodec   ISO              = new DateCodec("yyyy-MM-dd");
+
+  /**
+   * Returned by {@link #parse(CharSequence, ParsePosition)} on failure.
+   */
+  public static final int         UNPARSEABLE      = -1;
+
+  private static final char       YEAR             = 'y';
+  private static final char       MONTH            = 'M';
+  private static final char       DAY              = 'd';
+
+  private static final String[]   MONTH_NAMES      = { "Jan", "Feb", "Mar", "Apr", "May", "Jun",
+                                                       "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+  private static final int[]      DAYS_IN_MONTH    = { 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+  private static final int[]      POWERS_OF_TEN    = { 1, 10, 100, 1000 };
+
+  // two-digit years are within [TWO_DIGIT_START, TWO_DIGIT_START + 100)
+  private static final int        TWO_DIGIT_START  = Calendar.getInstance().get(Calendar.YEAR) - 80;
+
+  /**
+   * @param pattern e.g. <code>MM/dd/yy</code>
+   * @throws IllegalArgumentException if <code>pattern</code> has an unsupported
+   *           field
+   */
+  public DateCodec(final String pattern) {
+    this.pattern = pattern;
+
+    final List<Character> fields = new ArrayList<>();
+    final List<Integer> widths = new ArrayList<>();
+    int length = 0;
+    for (int i = 0; i < pattern.length(); ) {
+      final char c = pattern.charAt(i);
+      int j = i + 1;
+      if (Character.isLetter(c)) {
+        while (j < pattern.length() && pattern.charAt(j) == c) {
+          ++j;
+        }
+        final int width = j - i;
+        if (!((c == YEAR && (width == 2 || width == 4)) ||
+              (c == MONTH && width <= 3) ||
+              (c == DAY && width <= 2))) {
+          throw new IllegalArgumentException("Unsupported field in pattern: " + pattern);
+        }
+        fields.add(c);
+        widths.add(width);
+        length = (width == 1 || length < 0) ? -1 : length + width;
+      }
+      else {
+        fields.add(c);
+        widths.add(0);
+        length = (length < 0) ? -1 : length + 1;
+      }
+      i = j;
+    }
+
+    this.fields = new char[fields.size()];
+    this.widths = new int[widths.size()];
+    for (int f = 0; f < this.fields.length; ++f) {
+      this.fields[f] = fields.get(f);
+      this.widths[f] = widths.get(f);
+    }
+    this.length = length;
+  }
+
+  /**
+   * @return formatted length, or -1 if it varies with the date
+   */
+  public int length() {
+    return length;
+  }
+
+  public String toPattern() {
+    return pattern;
+  }
+
+  /**
+   * Parses a date from <code>text</code>, starting at <code>position</code>'s
+   * index, which is advanced past the date on success.  On failure, the
+   * error index of <code>position</code> is set instead.
+   *
+   * @param text
+   * @param position
+   * @return the date as YYYYMMDD, or <code>UNPARSEABLE</code>
+   */
+  public int parse(final CharSequence text, final ParsePosition position) {
+    int i = position.getIndex();
+    int year = 0;
+    int month = 0;
+    int day = 0;
+
+    for (int f = 0; f < fields.length; ++f) {
+      final int width = widths[f];
+      if (width == 0) { // literal
+        if (i >= text.length() || text.charAt(i) != fields[f]) {
+          return fail(position, i);
+        }
+        ++i;
+        continue;
+      }
+
+      if (fields[f] == MONTH && width == 3) {
+        month = parseMonthName(text, i);
+        if (month < 0) {
+          return fail(position, i);
+        }
+        i += 3;
+        continue;
+      }
+
+      // digits: exactly width, or 1 to 2 for single-letter fields
+      final int maxDigits = (width == 1) ? 2 : width;
+      int value = 0;
+      int digits = 0;
+      while (digits < maxDigits && i < text.length()) {
+        final int digit = text.charAt(i) - '0';
+        if (digit < 0 || digit > 9) {
+          break;
+        }
+        value = value * 10 + digit;
+        ++digits;
+        ++i;
+      }
+      if (digits == 0 || (width > 1 && digits < width)) {
+        return fail(position, i);
+      }
+
+      switch (fields[f]) {
+        case YEAR:
+          year = (width == 2) ? expandYear(value) : value;
+          break;
+        case MONTH:
+          month = value;
+          break;
+        default:
+          day = value;
+          break;
+      }
+    }
+
+    if (!isValid(year, month, day)) {
+      return fail(position, position.getIndex());
+    }
+    position.setIndex(i);
+    return pack(year, month, day);
+  }
+
+  /**
+   * Parses the whole of <code>text</code>.
+   *
+   * @param text
+   * @return the date as YYYYMMDD
+   * @throws ParseException if <code>text</code> is not a date in this format
+   */
+  public int parse(final CharSequence text) throws ParseException {
+    final ParsePosition position = new ParsePosition(0);
+    final int date = parse(text, position);
+    if (date == UNPARSEABLE || position.getIndex() != text.length()) {
+      throw new ParseException("Unparseable date: \"" + text + "\"", Math.max(position.getErrorIndex(), position.getIndex()));
+    }
+    return date;
+  }
+
+  /**
+   * Formats <code>date</code> into <code>characters</code>.
+   *
+   * @param date YYYYMMDD
+   * @param characters
+   * @param offset where to start
+   * @return the index after the last character formatted
+   */
+  public int format(final int date, final char[] characters, final int offset) {
+    int i = offset;
+    for (int f = 0; f < fields.length; ++f) {
+      final int width = widths[f];
+      if (width == 0) {
+        characters[i++] = fields[f];
+        continue;
+      }
+
+      if (fields[f] == MONTH && width == 3) {
+        MONTH_NAMES[month(date) - 1].getChars(0, 3, characters, i);
+        i += 3;
+        continue;
+      }
+
+      final int value = value(fields[f], width, date);
+      final int digits = digits(width, value);
+      for (int d = i + digits - 1, v = value; d >= i; --d, v /= 10) {
+        characters[d] = (char) ('0' + v % 10);
+      }
+      i += digits;
+    }
+    return i;
+  }
+
+  /**
+   * Appends <code>date</code> to <code>builder</code> without an intermediate
+   * buffer.
+   *
+   * @param date YYYYMMDD
+   * @param builder
+   * @return <code>builder</code>, with <code>date</code> appended
+   */
+  public StringBuilder format(final int date, final StringBuilder builder) {
+    for (int f = 0; f < fields.length; ++f) {
+      final int width = widths[f];
+      if (width == 0) {
+        builder.append(fields[f]);
+      }
+      else if (fields[f] == MONTH && width == 3) {
+        builder.append(MONTH_NAMES[month(date) - 1]);
+      }
+      else {
+        final int value = value(fields[f], width, date);
+        for (int d = digits(width, value) - 1; d >= 0; --d) {
+          builder.append((char) ('0' + (value / POWERS_OF_TEN[d]) % 10));
+        }
+      }
+    }
+    return builder;
+  }
+
+  private static final int value(final char field, final int width, final int date) {
+    switch (field) {
+      case YEAR:
+        return (width == 2) ? year(date) % 100 : year(date);
+      case MONTH:
+        return month(date);
+      default:
+        return day(date);
+    }
+  }
+
+  /**
+   * @return number of digits of <code>value</code>, zero-padded to
+   *         <code>width</code>, except single-letter fields
+   */
+  private static final int digits(final int width, final int value) {
+    return (width == 1) ? ((value < 10) ? 1 : 2) : width;
+  }
+
+  public String format(final int date) {
+    final char[] characters = new char[(length < 0) ? pattern.length() + 2 : length];
+    return new String(characters, 0, format(date, characters, 0));
+  }
+
+  public String format(final TradingDate date) {
+    return format(date.toInt());
+  }
+
+  private static final int fail(final ParsePosition position, final int errorIndex) {
+    position.setErrorIndex(errorIndex);
+    return UNPARSEABLE;
+  }
+
+  private static final int parseMonthName(final CharSequence text, final int index) {
+    if (index + 3 <= text.length()) {
+      for (int m = 0; m < MONTH_NAMES.length; ++m) {
+        final String name = MONTH_NAMES[m];
+        if (Character.toUpperCase(text.charAt(index)) == name.charAt(0) &&
+            Character.toLowerCase(text.charAt(index + 1)) == name.charAt(1) &&
+            Character.toLowerCase(text.charAt(index + 2)) == name.charAt(2)) {
+          return m + 1;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static final int expandYear(final int twoDigitYear) {
+    final int year = TWO_DIGIT_START - TWO_DIGIT_START % 100 + twoDigitYear;
+    return (year < TWO_DIGIT_START) ? year + 100 : year;
+  }
+
+  private static final boolean isValid(final int year, final int month, final int day) {
+    return month >= 1 && month <= 12 &&
+           day >= 1 && day <= DAYS_IN_MONTH[month - 1] &&
+           (month != 2 || day < 29 || isLeapYear(year));
+  }
+
+  static final boolean isLeapYear(final int year) {
+    return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /**
+   * @return YYYYMMDD
+   */
+  public static final int pack(final int year, final int month, final int day) {
+    return year * 10000 + month * 100 + day;
+  }
+
+  public static final int year(final int date) {
+    return date / 10000;
+  }
+
+  public static final int month(final int date) {
+    return date / 100 % 100;
+  }
+
+  public static final int day(final int date) {
+    return date % 100;
+  }
+
+  /**
+   * @param calendar
+   * @return <code>calendar</code>'s date as YYYYMMDD
+   */
+  public static final int toInt(final Calendar calendar) {
+    return pack(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1, calendar.get(Calendar.DATE));
+  }
+
+  /**
+   * @param date YYYYMMDD
+   * @return a new <code>Calendar</code> at midnight of <code>date</code>, in
+   *         the default time zone
+   */
+  public static final Calendar toCalendar(final int date) {
+    final Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(year(date), month(date) - 1, day(date));
+    return calendar;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+}
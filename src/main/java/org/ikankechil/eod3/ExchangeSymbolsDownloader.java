@@ -10,11 +10,14 @@ import static org.ikankechil.eod3.FilenameConvention.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,13 +33,15 @@ import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
+import org.ikankechil.eod3.io.PooledHttpTransport;
 import org.ikankechil.eod3.io.SymbolsWriter;
+import org.ikankechil.eod3.io.Transport;
 import org.ikankechil.eod3.sources.Exchanges;
-import org.ikankechil.io.TextReader;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 import org.ikankechil.synchronous.TaskExecutor;
@@ -54,7 +59,7 @@ import org.slf4j.LoggerFactory;
  */
 public class ExchangeSymbolsDownloader {
 
-  private final TextReader                           reader;
+  private final Transport                            transport;
   private final SymbolsWriter                        writer;
   private final File                                 destination;
 
@@ -62,6 +67,7 @@ public class ExchangeSymbolsDownloader {
   private final TaskExecutor                         executor;
   private final SymbolsTaskHelper                    symbolsTaskHelper;
   private final FilenameFilter                       ohlcvFilenameFilter;
+  private final Metrics                              metrics       = new Metrics();
 
   // Exchange-related constants
   private static final String                        SI            = "SI";
@@ -106,6 +112,20 @@ public class ExchangeSymbolsDownloader {
 
   private static final String                        SYMBOL_SOURCE = "Symbol source for {}: {}";
 
+  // Metric names
+  private static final String                        SCOPE         = "Symbols";
+  private static final String                        DOWNLOAD      = "download";
+  private static final String                        SYMBOLS       = "symbols";
+  private static final String                        FAILURES_BY   = "failures.";  // by cause
+
+  /**
+   * System property: org.ikankechil.eod3.ExchangeSymbolsDownloader.virtualThreads
+   * <p>
+   * download each exchange's symbols on its own virtual thread where
+   * supported, default: false
+   */
+  private static final String                        VIRTUAL       = ExchangeSymbolsDownloader.class.getName() + ".virtualThreads";
+
   private static final Map<Exchanges, SymbolsSource> SOURCES       = new EnumMap<>(Exchanges.class);
 
   static final Logger                                logger        = LoggerFactory.getLogger(ExchangeSymbolsDownloader.class);
@@ -231,6 +251,18 @@ public class ExchangeSymbolsDownloader {
   }
 
   public ExchangeSymbolsDownloader(final File destination, final boolean isRFC2396Compliant) {
+    this(destination, isRFC2396Compliant, null);
+  }
+
+  /**
+   * @param destination
+   * @param isRFC2396Compliant
+   * @param transport over which symbols are downloaded, defaults to a
+   *          <code>PooledHttpTransport</code> if <code>null</code>
+   */
+  public ExchangeSymbolsDownloader(final File destination,
+                                   final boolean isRFC2396Compliant,
+                                   final Transport transport) {
     if (destination.isDirectory()) {
       throw new IllegalArgumentException("Destination is a directory: " + destination);
     }
@@ -241,13 +273,22 @@ public class ExchangeSymbolsDownloader {
       throw new IllegalArgumentException("Empty destination filename");
     }
     this.destination = destination;
-    reader = new TextReader();
+    this.transport = (transport == null) ? new PooledHttpTransport(metrics) : transport;
     writer = new SymbolsWriter();
 
     this.isRFC2396Compliant = isRFC2396Compliant;
-    executor = new TaskExecutor(Executors.newCachedThreadPool());
+    final ExecutorService virtualThreads = Boolean.getBoolean(VIRTUAL) ? VirtualThreads.newExecutor() : null;
+    executor = new TaskExecutor((virtualThreads != null) ? virtualThreads : Executors.newCachedThreadPool());
     symbolsTaskHelper = new SymbolsTaskHelper();
     ohlcvFilenameFilter = new PatternFilenameFilter(OHLCV_FILE);
+    metrics.register(ExchangeSymbolsDownloader.class.getSimpleName(), destination.getName());
+  }
+
+  /**
+   * @return download latencies, symbol counts and failures by exchange
+   */
+  public Metrics metrics() {
+    return metrics;
   }
 
   /**
@@ -417,16 +458,19 @@ public class ExchangeSymbolsDownloader {
 
     @Override
     public List<String> handleExecutionFailure(final ExecutionException eE, final Exchanges operand) {
+      metrics.scope(SCOPE, operand).count(FAILURES_BY + Converter.cause((eE.getCause() == null) ? eE : eE.getCause()), 1);
       return Collections.emptyList();
     }
 
     @Override
     public List<String> handleTaskCancellation(final CancellationException cE, final Exchanges operand) {
+      metrics.scope(SCOPE, operand).count(FAILURES_BY + Converter.cause(cE), 1);
       return Collections.emptyList();
     }
 
     @Override
     public List<String> handleTimeout(final TimeoutException tE, final Exchanges operand) {
+      metrics.scope(SCOPE, operand).count(FAILURES_BY + Converter.cause(tE), 1);
       return Collections.emptyList();
     }
 
@@ -437,10 +481,14 @@ public class ExchangeSymbolsDownloader {
     final SymbolsSource source = SOURCES.get(exchange);
     if (source != null) {
       logger.info("Downloading symbols for: {}", exchange);
-      lines = reader.read(source.url);
+      final Metrics.Scope scope = metrics.scope(SCOPE, exchange);
+      final long start = System.nanoTime();
+      lines = read(source.url);
+      scope.time(DOWNLOAD, System.nanoTime() - start);
       while (lines.remove(EMPTY)) { /* remove all empty lines */ }
       // skip rows
       lines = lines.subList(source.skippedRows, lines.size());
+      scope.count(SYMBOLS, lines.size());
       logger.info("Symbols downloaded for {}: {}",
                   exchange,
                   lines.size());
@@ -451,6 +499,18 @@ public class ExchangeSymbolsDownloader {
     return lines;
   }
 
+  private final List<String> read(final URL url) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    try (final BufferedReader br = new BufferedReader(new InputStreamReader(transport.open(url),
+                                                                            StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
   private static final Map<String, Set<String>> transform(final Map<Exchanges, List<String>> lines) {
     int total = ZERO;
     int extracted = ZERO;
@@ -509,6 +569,7 @@ public class ExchangeSymbolsDownloader {
 
   public void stop() throws InterruptedException {
     executor.stop();
+    metrics.unregister();
     logger.info("Shutdown requested");
   }
 
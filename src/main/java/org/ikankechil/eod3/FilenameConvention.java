@@ -5,9 +5,6 @@
  */
 package org.ikankechil.eod3;
 
-import static java.util.Calendar.*;
-
-import java.util.Calendar;
 import java.util.Map;
 import java.util.WeakHashMap;
 
@@ -38,6 +35,7 @@ public class FilenameConvention {
   private static final char                  UNDERSCORE                = '_';
   private static final char                  DASH                      = '-';
   private static final char                  DOT                       = '.';
+  private static final String                ADJUSTED                  = "_adj";
 
   /**
    * System property: org.ikankechil.eod3.FilenameConvention.fileExtension
@@ -61,12 +59,6 @@ public class FilenameConvention {
   public static final String                 FILENAME_WITH_DATES_REGEX = SYMBOL + UNDERSCORE +
                                                                          DATES + DASH + DATES +
                                                                          FREQUENCY + FILE_EXTENSION;
-  // date building blocks
-  private static final char                  ZERO                      = '0';
-  private static final int                   TEN                       = 10;
-  private static final int                   HUNDRED                   = 100;
-  private static final int                   THOUSAND                  = 1000;
-
   private static final int                   DATE_LENGTH               = 8;
 
   private static final Logger                logger                    = LoggerFactory.getLogger(FilenameConvention.class);
@@ -144,6 +136,19 @@ public class FilenameConvention {
     return filenameExtension;
   }
 
+  /**
+   * Build the filename of the split- and dividend-adjusted series of a data
+   * file (e.g. <code>INTC_d_adj.csv</code> for <code>INTC_d.csv</code>), which
+   * is not itself recognised as a data file.
+   *
+   * @param filename
+   * @return
+   */
+  public static final String getAdjustedFilename(final String filename) {
+    final int dot = filename.lastIndexOf(DOT);
+    return filename.substring(0, dot) + ADJUSTED + filename.substring(dot);
+  }
+
   /**
    * Build filename suffix from interval.
    *
@@ -164,8 +169,8 @@ public class FilenameConvention {
     // append start and end dates
     final StringBuilder sb = new StringBuilder(32);
 
-    final Calendar start = interval.start();
-    final Calendar end = interval.end();
+    final TradingDate start = interval.start();
+    final TradingDate end = interval.end();
     if ((start != null) && (end != null)) {
       sb.append(UNDERSCORE);
       appendDate(sb, start);
@@ -186,34 +191,8 @@ public class FilenameConvention {
     return suffix;
   }
 
-  private static final void appendDate(final StringBuilder sb, final Calendar calendar) {
-    // year
-    final int year = calendar.get(YEAR);
-    if (year < THOUSAND) {
-      sb.append(ZERO);
-      if (year < HUNDRED) {
-        sb.append(ZERO);
-        if (year < TEN) {
-          sb.append(ZERO);
-        }
-      }
-    }
-    sb.append(year);
-
-    // month
-    final int month = calendar.get(MONTH) + 1;
-    if (month < TEN) {
-      sb.append(ZERO);
-    }
-    sb.append(month);
-
-    // date
-    final int date = calendar.get(DATE);
-    if (date < TEN) {
-      sb.append(ZERO);
-    }
-    sb.append(date);
-
+  private static final void appendDate(final StringBuilder sb, final TradingDate date) {
+    DateCodec.YYYYMMDD.format(date.toInt(), sb);
     logger.trace("Appended date: {}", sb);
   }
 
@@ -254,4 +233,19 @@ public class FilenameConvention {
     return filename;
   }
 
+  /**
+   * Build filename from symbol and interval, substituting
+   * <code>fileExtension</code> for the configured file extension.
+   *
+   * @param symbol
+   * @param interval
+   * @param fileExtension including the leading dot
+   * @return
+   */
+  public static final String getFilename(final String symbol, final Interval interval, final String fileExtension) {
+    final String filename = getFilename(symbol, interval);
+    return FILE_EXTENSION.equals(fileExtension) ? filename
+                                                : filename.substring(0, filename.length() - FILE_EXTENSION.length()) + fileExtension;
+  }
+
 }
@@ -17,27 +17,34 @@ import java.util.Calendar;
 public class Interval {
 
   // immutable                            // allowed permutations
-  private final Calendar       start;     // 0 1 1 1 1
-  private final Calendar       end;       // 0 0 0 1 1
+  private final TradingDate    start;     // 0 1 1 1 1
+  private final TradingDate    end;       // 0 0 0 1 1
   private final Frequencies    frequency; // 1 0 1 0 1
 
-  public static final Interval SINCE_INCEPTION = new Interval(null, null, Frequencies.DAILY);
+  public static final Interval SINCE_INCEPTION = of(null, null, Frequencies.DAILY);
 
   /**
-   * Creates a new interval.
+   * Creates a new interval from the dates of <code>start</code> and
+   * <code>end</code>.
    *
    * @param start start of the interval
    * @param end end of the interval
    * @param frequency interval frequency
-   * @throws IllegalArgumentException when start date is not before end date
+   * @throws IllegalArgumentException when start date is after end date
    */
   public Interval(final Calendar start,
                   final Calendar end,
                   final Frequencies frequency) {
+    this(TradingDate.of(start), TradingDate.of(end), frequency);
+  }
+
+  private Interval(final TradingDate start,
+                   final TradingDate end,
+                   final Frequencies frequency) {
     if (start != null) {
-      this.end = (end == null) ? Calendar.getInstance() : end;
-      if (!start.before(this.end)) {
-        throw new IllegalArgumentException("Start date after end date"); // TODO display start and end dates
+      this.end = (end == null) ? TradingDate.today() : end;
+      if (start.isAfter(this.end)) {
+        throw new IllegalArgumentException("Start date (" + start + ") after end date (" + this.end + ")");
       }
     }
     else if ((end == null) && (frequency != null)) {
@@ -50,11 +57,26 @@ public class Interval {
     this.frequency = frequency;
   }
 
-  public Calendar start() {
+  /**
+   * Creates a new interval.
+   *
+   * @param start start of the interval, inclusive
+   * @param end end of the interval, inclusive; today if <code>null</code>
+   * @param frequency interval frequency
+   * @return the interval
+   * @throws IllegalArgumentException when start date is after end date
+   */
+  public static Interval of(final TradingDate start,
+                            final TradingDate end,
+                            final Frequencies frequency) {
+    return new Interval(start, end, frequency);
+  }
+
+  public TradingDate start() {
     return start;
   }
 
-  public Calendar end() {
+  public TradingDate end() {
     return end;
   }
 
@@ -0,0 +1,341 @@
+/**
+ * Metrics.java  v0.1  18 October 2026 10:05:41 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counters and latency histograms of a run, each kept per scope (e.g. per
+ * source and exchange, or per host).
+ * <p>
+ * Recording is lock-free and cheap enough to be left on.  Latencies are
+ * bucketed by powers of two, so that percentiles are accurate to within a
+ * factor of two.  Metrics can be read over JMX while a run is in progress and
+ * summarised as JSON at its end.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public final class Metrics implements MetricsMXBean {
+
+  private final ConcurrentMap<String, Scope> scopes          = new ConcurrentHashMap<>();
+  private volatile ObjectName                objectName;
+
+  public static final String                 FILENAME        = "Metrics.json";
+
+  private static final String                DOMAIN          = "org.ikankechil.eod3";
+  private static final char                  SLASH           = '/';
+  private static final double                NANOS_PER_MILLI = 1e6;
+  private static final double[]              QUANTILES       = { 0.5, 0.9, 0.99 };
+  private static final String[]              PERCENTILES     = { "p50", "p90", "p99" };
+
+  /**
+   * System property: org.ikankechil.eod3.Metrics.jmx
+   * <p>
+   * register metrics with the platform MBean server, default: false
+   */
+  private static final String                JMX             = Metrics.class.getName() + ".jmx";
+
+  private static final Logger                logger          = LoggerFactory.getLogger(Metrics.class);
+
+  /**
+   * Metrics of one scope.
+   */
+  public static final class Scope {
+
+    final String                                    name;
+    private final ConcurrentMap<String, AtomicLong> counters   = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram>  histograms = new ConcurrentHashMap<>();
+
+    Scope(final String name) {
+      this.name = name;
+    }
+
+    /**
+     * Adds <code>delta</code> to counter <code>name</code>.
+     */
+    public void count(final String name, final long delta) {
+      AtomicLong counter = counters.get(name);
+      if (counter == null) {
+        final AtomicLong newCounter = new AtomicLong();
+        if ((counter = counters.putIfAbsent(name, newCounter)) == null) {
+          counter = newCounter;
+        }
+      }
+      counter.addAndGet(delta);
+    }
+
+    /**
+     * Records a latency of <code>nanos</code> in histogram <code>name</code>.
+     */
+    public void time(final String name, final long nanos) {
+      Histogram histogram = histograms.get(name);
+      if (histogram == null) {
+        final Histogram newHistogram = new Histogram();
+        if ((histogram = histograms.putIfAbsent(name, newHistogram)) == null) {
+          histogram = newHistogram;
+        }
+      }
+      histogram.record(nanos);
+    }
+
+    public long counter(final String name) {
+      final AtomicLong counter = counters.get(name);
+      return (counter == null) ? 0 : counter.get();
+    }
+
+    Histogram histogram(final String name) {
+      return histograms.get(name);
+    }
+
+  }
+
+  /**
+   * Latencies bucketed by powers of two of nanoseconds.
+   */
+  static final class Histogram {
+
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE); // bucket b: [2^(b-1), 2^b)
+    private final AtomicLong      count   = new AtomicLong();
+    private final AtomicLong      sum     = new AtomicLong();
+    private final AtomicLong      max     = new AtomicLong();
+
+    void record(final long nanos) {
+      final long value = Math.max(0, nanos);
+      buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+      count.incrementAndGet();
+      sum.addAndGet(value);
+      long m;
+      while (value > (m = max.get()) && !max.compareAndSet(m, value)) { /* retry */ }
+    }
+
+    long count() {
+      return count.get();
+    }
+
+    long sum() {
+      return sum.get();
+    }
+
+    long max() {
+      return max.get();
+    }
+
+    /**
+     * @return upper bound of the bucket holding quantile <code>q</code>,
+     *         capped by the maximum
+     */
+    long quantile(final double q) {
+      final long n = count.get();
+      if (n == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1, (long) Math.ceil(q * n));
+      long cumulative = 0;
+      for (int b = 0; b < Long.SIZE; ++b) {
+        if ((cumulative += buckets.get(b)) >= rank) {
+          return Math.min(max.get(), (1L << b) - 1);
+        }
+      }
+      return max.get();
+    }
+
+  }
+
+  /**
+   * @param name e.g. source or source/exchange
+   * @return the metrics of scope <code>name</code>
+   */
+  public Scope scope(final String name) {
+    Scope scope = scopes.get(name);
+    if (scope == null) {
+      final Scope newScope = new Scope(name);
+      if ((scope = scopes.putIfAbsent(name, newScope)) == null) {
+        scope = newScope;
+      }
+    }
+    return scope;
+  }
+
+  /**
+   * @return the metrics of scope <code>source</code>/<code>exchange</code>, or
+   *         <code>source</code> alone if <code>exchange</code> is
+   *         <code>null</code>
+   */
+  public Scope scope(final String source, final Object exchange) {
+    return scope((exchange == null) ? source : source + SLASH + exchange);
+  }
+
+  /**
+   * Registers these metrics with the platform MBean server as
+   * org.ikankechil.eod3:type=<code>type</code>,name=<code>name</code> if
+   * system property org.ikankechil.eod3.Metrics.jmx is set.
+   *
+   * @param type
+   * @param name
+   */
+  public void register(final String type, final String name) {
+    if (!Boolean.getBoolean(JMX)) {
+      return;
+    }
+    try {
+      final ObjectName on = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      if (!server.isRegistered(on)) {
+        server.registerMBean(this, on);
+        objectName = on;
+        logger.debug("Metrics registered: {}", on);
+      }
+    }
+    catch (final JMException jmE) {
+      logger.warn("Metrics not registered: {}", name, jmE);
+    }
+  }
+
+  public void unregister() {
+    final ObjectName on = objectName;
+    if (on != null) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(on);
+        objectName = null;
+      }
+      catch (final JMException jmE) {
+        logger.debug("Metrics not unregistered: {}", on, jmE);
+      }
+    }
+  }
+
+  @Override
+  public Map<String, Long> getCounters() {
+    final Map<String, Long> counters = new TreeMap<>();
+    for (final Scope scope : scopes.values()) {
+      for (final Map.Entry<String, AtomicLong> counter : scope.counters.entrySet()) {
+        counters.put(scope.name + SLASH + counter.getKey(), counter.getValue().get());
+      }
+    }
+    return counters;
+  }
+
+  @Override
+  public Map<String, Double> getLatencies() {
+    final Map<String, Double> latencies = new TreeMap<>();
+    for (final Scope scope : scopes.values()) {
+      for (final Map.Entry<String, Histogram> entry : scope.histograms.entrySet()) {
+        final String prefix = scope.name + SLASH + entry.getKey() + '.';
+        final Histogram histogram = entry.getValue();
+        latencies.put(prefix + "count", (double) histogram.count());
+        latencies.put(prefix + "mean", millis(histogram.sum()) / Math.max(1, histogram.count()));
+        for (int q = 0; q < QUANTILES.length; ++q) {
+          latencies.put(prefix + PERCENTILES[q], millis(histogram.quantile(QUANTILES[q])));
+        }
+        latencies.put(prefix + "max", millis(histogram.max()));
+      }
+    }
+    return latencies;
+  }
+
+  private static final double millis(final long nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+
+  /**
+   * Summarises every scope as
+   * {"scope":{"counters":{"name":value,...},"latencies":{"name":{"count":n,"totalMs":t,"meanMs":m,"p50Ms":...,"maxMs":x},...}},...}
+   */
+  @Override
+  public String getSummary() {
+    final StringBuilder json = new StringBuilder("{");
+    for (final Scope scope : new TreeMap<>(scopes).values()) {
+      if (json.length() > 1) {
+        json.append(',');
+      }
+      quote(json, scope.name).append(":{\"counters\":{");
+      String separator = "";
+      for (final Map.Entry<String, AtomicLong> counter : new TreeMap<>(scope.counters).entrySet()) {
+        quote(json.append(separator), counter.getKey()).append(':').append(counter.getValue().get());
+        separator = ",";
+      }
+      json.append("},\"latencies\":{");
+      separator = "";
+      for (final Map.Entry<String, Histogram> entry : new TreeMap<>(scope.histograms).entrySet()) {
+        final Histogram histogram = entry.getValue();
+        quote(json.append(separator), entry.getKey())
+            .append(":{\"count\":").append(histogram.count())
+            .append(",\"totalMs\":").append(millis(histogram.sum()))
+            .append(",\"meanMs\":").append(millis(histogram.sum()) / Math.max(1, histogram.count()));
+        for (int q = 0; q < QUANTILES.length; ++q) {
+          json.append(",\"").append(PERCENTILES[q]).append("Ms\":").append(millis(histogram.quantile(QUANTILES[q])));
+        }
+        json.append(",\"maxMs\":").append(millis(histogram.max())).append('}');
+        separator = ",";
+      }
+      json.append("}}");
+    }
+    return json.append('}').toString();
+  }
+
+  private static final StringBuilder quote(final StringBuilder json, final String string) {
+    json.append('"');
+    for (int i = 0; i < string.length(); ++i) {
+      final char c = string.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      }
+      else if (c < ' ') {
+        json.append(String.format("\\u%04x", (int) c));
+      }
+      else {
+        json.append(c);
+      }
+    }
+    return json.append('"');
+  }
+
+  /**
+   * Writes the JSON summary to {@value #FILENAME} in <code>directory</code>,
+   * replacing that of an earlier run in full or not at all.
+   *
+   * @param directory
+   * @return the summary file
+   * @throws IOException
+   */
+  public Path write(final Path directory) throws IOException {
+    final Path file = directory.resolve(FILENAME);
+    final Path tmp = Converter.newTempFile(file);
+    try {
+      try (final BufferedWriter bw = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        bw.write(getSummary());
+        bw.newLine();
+      }
+      Converter.replace(tmp, file);
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    logger.info("Metrics written to file: {}", file);
+    return file;
+  }
+
+}
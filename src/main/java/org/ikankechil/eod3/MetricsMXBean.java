@@ -0,0 +1,33 @@
+/**
+ * MetricsMXBean.java  v0.1  18 October 2026 10:06:18 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link Metrics}, as read over JMX.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public interface MetricsMXBean {
+
+  /**
+   * @return counter values by scope/name
+   */
+  Map<String, Long> getCounters();
+
+  /**
+   * @return latency statistics in milliseconds by scope/name.statistic
+   */
+  Map<String, Double> getLatencies();
+
+  /**
+   * @return a JSON summary
+   */
+  String getSummary();
+
+}
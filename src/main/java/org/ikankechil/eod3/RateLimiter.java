@@ -0,0 +1,111 @@
+/**
+ * RateLimiter.java  v0.1  18 October 2026 6:24:50 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket that limits the rate of requests to a source.
+ * <p>
+ * Tokens accumulate at a fixed rate up to a maximum burst.  Each request takes
+ * one token, waiting for it if none are left.  Waiting requests reserve their
+ * tokens in advance so that they are spaced out evenly rather than released
+ * all at once.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public final class RateLimiter {
+
+  private final double      rate;         // tokens per nanosecond
+  private final int         burst;
+
+  private double            tokens;
+  private long              lastRefill;
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * @param requestsPerSecond
+   * @param burst maximum number of requests that can be made at once
+   */
+  public RateLimiter(final double requestsPerSecond, final int burst) {
+    if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+      throw new IllegalArgumentException("Invalid requests per second: " + requestsPerSecond);
+    }
+    if (burst <= 0) {
+      throw new IllegalArgumentException("Non-positive burst: " + burst);
+    }
+    rate = requestsPerSecond / NANOS_PER_SECOND;
+    this.burst = burst;
+    tokens = burst;
+    lastRefill = System.nanoTime();
+  }
+
+  /**
+   * Takes a token, waiting for one if necessary.  The token is given back if
+   * interrupted while waiting.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void acquire() throws InterruptedException {
+    final long wait = reserve();
+    if (wait > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      }
+      catch (final InterruptedException iE) {
+        refund();
+        throw iE;
+      }
+    }
+  }
+
+  /**
+   * Takes a token if one is available without waiting.
+   *
+   * @return <code>true</code> if a token was taken
+   */
+  public synchronized boolean tryAcquire() {
+    refill();
+    if (tokens >= 1) {
+      --tokens;
+      return true;
+    }
+    return false;
+  }
+
+  private synchronized long reserve() {
+    refill();
+    --tokens;
+    return (tokens >= 0) ? 0 : (long) Math.ceil(-tokens / rate);
+  }
+
+  private synchronized void refund() {
+    refill();
+    tokens = Math.min(burst, tokens + 1);
+  }
+
+  private void refill() {
+    final long now = System.nanoTime();
+    tokens = Math.min(burst, tokens + ((now - lastRefill) * rate));
+    lastRefill = now;
+  }
+
+  public double requestsPerSecond() {
+    return rate * NANOS_PER_SECOND;
+  }
+
+  public int burst() {
+    return burst;
+  }
+
+  @Override
+  public String toString() {
+    return requestsPerSecond() + "/s (burst: " + burst + ")";
+  }
+
+}
@@ -0,0 +1,320 @@
+/**
+ * Resampler.java  v0.1  18 October 2026 4:26:08 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.ikankechil.eod3.FilenameConvention.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.ikankechil.io.TextWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Derives weekly and monthly MetaStock CSV data from daily data, so that one
+ * daily download serves all frequencies.
+ * <p>
+ * Each period's open is its first open, high the highest high, low the lowest
+ * low, close the last close and volume the sum of volumes.  Periods are dated
+ * by their first trading day.  Prices are copied as published rather than
+ * reformatted, and volumes are summed exactly, keeping the decimal places of
+ * sources that publish fractional volumes.
+ * <p>
+ * Files are resampled incrementally: the latest period in an existing weekly
+ * or monthly file is taken to be incomplete and is recomputed together with
+ * any later periods, reading no further back into the daily file than its
+ * start.  Earlier periods are kept as they are.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class Resampler {
+
+  private final TextWriter    writer;
+
+  private static final char   COMMA  = ',';
+
+  private static final Logger logger = LoggerFactory.getLogger(Resampler.class);
+
+  public Resampler() {
+    writer = new TextWriter();
+  }
+
+  /**
+   * Aggregates daily lines into periods of <code>frequency</code>.
+   *
+   * @param lines daily MetaStock CSV lines in reverse chronological order
+   * @param frequency <code>WEEKLY</code> or <code>MONTHLY</code>
+   * @return a line per period, in reverse chronological order
+   * @throws IllegalArgumentException if <code>frequency</code> is daily or a
+   *           line is malformed
+   */
+  public List<String> resample(final List<String> lines, final Frequencies frequency) {
+    checkFrequency(frequency);
+
+    final List<String> periods = new ArrayList<>();
+    Period period = null;
+    for (final String line : lines) {
+      final Row row = new Row(line);
+      if (period == null || row.date.isBefore(period.start)) {
+        if (period != null) {
+          periods.add(period.toString());
+        }
+        period = new Period(row, row.date.startOf(frequency));
+      }
+      else {
+        period.addEarlier(row);
+      }
+    }
+    if (period != null) {
+      periods.add(period.toString());
+    }
+    return periods;
+  }
+
+  /**
+   * Resamples <code>daily</code> into a file of <code>frequency</code> in the
+   * same directory, named by <code>FilenameConvention</code> (e.g.
+   * <code>INTC_d.csv</code> into <code>INTC_w.csv</code>).
+   *
+   * @param daily a daily data file
+   * @param frequency <code>WEEKLY</code> or <code>MONTHLY</code>
+   * @return the resampled file
+   * @throws IOException if <code>daily</code> is empty or an I/O error occurs
+   */
+  public File resample(final File daily, final Frequencies frequency) throws IOException {
+    checkFrequency(frequency);
+    final String filename = daily.getName();
+    final File target = new File(daily.getParentFile(),
+                                 getFilename(getSymbolFrom(filename),
+                                             Interval.of(null, null, frequency),
+                                             getFilenameExtensionFrom(filename)));
+
+    // keep complete periods, recomputing from the start of the latest one
+    List<String> kept = Collections.emptyList();
+    TradingDate from = null;
+    if (target.isFile()) {
+      final List<String> existing = Files.readAllLines(target.toPath(), StandardCharsets.UTF_8);
+      if (!existing.isEmpty()) {
+        from = new Row(existing.get(0)).date.startOf(frequency);
+        int k = 0;
+        while (k < existing.size() && !new Row(existing.get(k)).date.isBefore(from)) {
+          ++k;
+        }
+        kept = existing.subList(k, existing.size());
+      }
+    }
+
+    final List<String> recent = readFrom(daily, from);
+    if (recent.isEmpty()) {
+      if (from == null) {
+        throw new IOException("Empty file: " + daily);
+      }
+      logger.debug("Nothing to resample: {} -> {}", daily, target);
+      return target;
+    }
+
+    final List<String> lines = resample(recent, frequency);
+    lines.addAll(kept);
+    // replace atomically, so that a crash cannot leave target truncated
+    final Path tmp = Converter.newTempFile(target.toPath());
+    try {
+      writer.write(lines, tmp.toFile());
+      Converter.replace(tmp, target.toPath());
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    logger.info("Resampled {} daily rows: {} -> {}", recent.size(), daily, target);
+    return target;
+  }
+
+  /**
+   * @return lines of <code>daily</code> dated <code>from</code> or later, or
+   *         all lines if <code>from</code> is <code>null</code>
+   */
+  private static final List<String> readFrom(final File daily, final TradingDate from) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    try (final BufferedReader br = Files.newBufferedReader(daily.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        if (from != null && new Row(line).date.isBefore(from)) {
+          break;  // reverse chronological order
+        }
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+  private static final void checkFrequency(final Frequencies frequency) {
+    if (frequency == null || frequency == Frequencies.DAILY) {
+      throw new IllegalArgumentException("Not resampleable to: " + frequency);
+    }
+  }
+
+  /**
+   * A MetaStock CSV line split into its columns: Symbol,YYYYMMDD,Open,High,
+   * Low,Close[,Volume]
+   */
+  private static final class Row {
+
+    final String      line;
+    final TradingDate date;
+    final int         symbolEnd;
+    final int         openStart;
+    final int         highStart;
+    final int         lowStart;
+    final int         closeStart;
+    final int         volumeStart;  // line length + 1 if none
+
+    Row(final String line) {
+      this.line = line;
+      symbolEnd = line.indexOf(COMMA);
+      openStart = line.indexOf(COMMA, symbolEnd + 1) + 1;
+      highStart = line.indexOf(COMMA, openStart) + 1;
+      lowStart = line.indexOf(COMMA, highStart) + 1;
+      closeStart = line.indexOf(COMMA, lowStart) + 1;
+      if (symbolEnd < 0 || openStart == 0 || highStart == 0 || lowStart == 0 || closeStart == 0) {
+        throw new IllegalArgumentException("Malformed line: " + line);
+      }
+      final int volume = line.indexOf(COMMA, closeStart);
+      volumeStart = (volume < 0) ? line.length() + 1 : volume + 1;
+      date = TradingDate.valueOf(Integer.parseInt(line.substring(symbolEnd + 1, openStart - 1)));
+    }
+
+    String symbol() {
+      return line.substring(0, symbolEnd);
+    }
+
+    String open() {
+      return line.substring(openStart, highStart - 1);
+    }
+
+    String high() {
+      return line.substring(highStart, lowStart - 1);
+    }
+
+    String low() {
+      return line.substring(lowStart, closeStart - 1);
+    }
+
+    String close() {
+      return line.substring(closeStart, volumeStart - 1);
+    }
+
+    boolean hasVolume() {
+      return volumeStart <= line.length();
+    }
+
+    String volume() {
+      return line.substring(volumeStart);
+    }
+
+  }
+
+  /**
+   * A period being aggregated, from its latest row back to its earliest.
+   */
+  private static final class Period {
+
+    final TradingDate start;
+    final String      symbol;
+    final String      close;
+    TradingDate       date;
+    String            open;
+    String            high;
+    double            highValue;
+    String            low;
+    double            lowValue;
+    long              volume;
+    BigDecimal        fractionalVolume;  // once any volume is fractional
+    boolean           hasVolume;
+
+    Period(final Row latest, final TradingDate start) {
+      this.start = start;
+      symbol = latest.symbol();
+      close = latest.close();
+      high = latest.high();
+      highValue = Double.parseDouble(high);
+      low = latest.low();
+      lowValue = Double.parseDouble(low);
+      addOpenAndVolume(latest);
+    }
+
+    void addEarlier(final Row row) {
+      final String h = row.high();
+      final double hv = Double.parseDouble(h);
+      if (hv > highValue) {
+        high = h;
+        highValue = hv;
+      }
+      final String l = row.low();
+      final double lv = Double.parseDouble(l);
+      if (lv < lowValue) {
+        low = l;
+        lowValue = lv;
+      }
+      addOpenAndVolume(row);
+    }
+
+    private void addOpenAndVolume(final Row row) {
+      date = row.date;
+      open = row.open();
+      if (row.hasVolume()) {
+        addVolume(row.volume());
+        hasVolume = true;
+      }
+    }
+
+    private void addVolume(final String v) {
+      if (fractionalVolume == null) {
+        try {
+          volume += Long.parseLong(v);
+          return;
+        }
+        catch (final NumberFormatException nfE) {
+          fractionalVolume = BigDecimal.valueOf(volume); // some sources publish fractional volumes
+        }
+      }
+      try {
+        fractionalVolume = fractionalVolume.add(new BigDecimal(v));
+      }
+      catch (final NumberFormatException nfE) {
+        throw new IllegalArgumentException("Malformed volume: " + v, nfE);
+      }
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder(symbol.length() + 64);
+      sb.append(symbol).append(COMMA).append(date).append(COMMA)
+        .append(open).append(COMMA)
+        .append(high).append(COMMA)
+        .append(low).append(COMMA)
+        .append(close);
+      if (hasVolume) {
+        sb.append(COMMA).append((fractionalVolume == null) ? String.valueOf(volume) : fractionalVolume.toPlainString());
+      }
+      return sb.toString();
+    }
+
+  }
+
+}
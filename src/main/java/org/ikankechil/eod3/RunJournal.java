@@ -0,0 +1,166 @@
+/**
+ * RunJournal.java  v0.1  18 October 2026 8:37:14 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journal of a bulk conversion, recording each symbol as it is written so
+ * that a run cut short can be resumed, redoing only the symbols not yet
+ * written.
+ * <p>
+ * A journal belongs to one run, identified by its operation, symbols file and
+ * interval.  A journal of a different run is discarded rather than resumed.
+ * Records are appended and flushed one at a time, so that those preceding a
+ * JVM crash survive it.  A record torn by the crash is ignored.  Losing a
+ * record only causes its symbol to be redone.
+ * <p>
+ * Format: a header line (Run,&lt;run&gt;) followed by Exchange,Symbol lines
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class RunJournal {
+
+  private final Path                file;
+  private final Set<String>         written  = new HashSet<>();  // exchange,symbol
+  private BufferedWriter            writer;
+
+  static final String               FILENAME = "Journal.csv";
+
+  private static final char         COMMA    = ',';
+  private static final char         NEWLINE  = '\n';
+  private static final String       RUN      = "Run";
+  private static final int          COLUMNS  = 2;
+
+  private static final Logger       logger   = LoggerFactory.getLogger(RunJournal.class);
+
+  private RunJournal(final Path directory) {
+    file = directory.resolve(FILENAME);
+  }
+
+  /**
+   * Opens the journal of <code>run</code> in <code>directory</code>, resuming
+   * it if it was cut short and starting afresh otherwise.
+   *
+   * @param directory
+   * @param run identifies the run, e.g. operation, symbols file and interval
+   * @return the journal
+   * @throws IOException if the journal cannot be written
+   */
+  static final RunJournal open(final Path directory, final String run) throws IOException {
+    final RunJournal journal = new RunJournal(directory);
+    final String header = RUN + COMMA + run;
+
+    // only complete lines count: the last may have been torn by a crash
+    long length = 0;
+    try {
+      final String text = new String(Files.readAllBytes(journal.file), StandardCharsets.UTF_8);
+      final int end = text.lastIndexOf(NEWLINE) + 1;
+      final String[] lines = text.substring(0, end).split(String.valueOf(NEWLINE));
+      if (end > 0 && lines[0].equals(header)) {
+        for (int i = 1; i < lines.length; ++i) {
+          journal.load(lines[i]);
+        }
+        length = text.substring(0, end).getBytes(StandardCharsets.UTF_8).length;
+        logger.info("Journal resumed: {} ({} symbols written)", journal.file, journal.size());
+      }
+      else {
+        logger.info("Journal of another run discarded: {}", journal.file);
+      }
+    }
+    catch (final NoSuchFileException nsfE) {
+      logger.debug("No journal: {}", journal.file);
+    }
+
+    final FileChannel channel = FileChannel.open(journal.file,
+                                                 StandardOpenOption.CREATE,
+                                                 StandardOpenOption.WRITE);
+    channel.truncate(length).position(length);
+    journal.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1));
+    if (length == 0) {
+      journal.writer.write(header);
+      journal.writer.write(NEWLINE);
+      journal.writer.flush();
+    }
+    return journal;
+  }
+
+  private final void load(final String line) {
+    final String[] columns = line.split(String.valueOf(COMMA));
+    if (columns.length != COLUMNS) {
+      logger.warn("Malformed journal line in {}: {}", file, line);
+      return;
+    }
+    written.add(key(columns[0], columns[1]));
+  }
+
+  private static final String key(final String exchange, final String symbol) {
+    return exchange + COMMA + symbol;
+  }
+
+  /**
+   * @return whether <code>symbol</code> was written by this run before it was
+   *         resumed
+   */
+  synchronized boolean isWritten(final String exchange, final String symbol) {
+    return written.contains(key(exchange, symbol));
+  }
+
+  /**
+   * @return number of symbols written
+   */
+  synchronized int size() {
+    return written.size();
+  }
+
+  /**
+   * Records <code>symbol</code> as written.
+   */
+  synchronized void record(final String exchange, final String symbol) {
+    try {
+      writer.write(exchange);
+      writer.write(COMMA);
+      writer.write(symbol);
+      writer.write(NEWLINE);
+      writer.flush();
+      written.add(key(exchange, symbol));
+    }
+    catch (final IOException ioE) {
+      logger.warn("Not journalled: {} {}", exchange, symbol, ioE);
+    }
+  }
+
+  synchronized void close() throws IOException {
+    writer.close();
+  }
+
+  /**
+   * Closes and deletes the journal of a run that has completed, so that the
+   * next run starts afresh.
+   *
+   * @throws IOException
+   */
+  synchronized void delete() throws IOException {
+    writer.close();
+    Files.deleteIfExists(file);
+    logger.debug("Journal deleted: {}", file);
+  }
+
+}
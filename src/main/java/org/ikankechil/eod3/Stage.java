@@ -0,0 +1,181 @@
+/**
+ * Stage.java  v0.1  18 October 2026 8:02:37 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A step of the conversion pipeline run by a fixed number of workers, such as
+ * CPU-bound transformation or disk writes, fed by a bounded queue.
+ * <p>
+ * Tasks handed over while the queue is full wait for room in it, so that
+ * upstream stages slow down to the pace of this one (backpressure) rather than
+ * oversubscribing its workers or piling up work in memory.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class Stage {
+
+  private final String                   name;
+  private final ThreadPoolExecutor       executor;
+
+  private static final long              KEEP_ALIVE = 60;  // seconds
+
+  private static final Logger            logger     = LoggerFactory.getLogger(Stage.class);
+
+  /**
+   * A unit of work handed over to a stage.
+   */
+  interface Task<V> {
+    V call() throws IOException;
+  }
+
+  /**
+   * @param name
+   * @param workers number of tasks run at a time
+   * @param capacity number of tasks waiting to run beyond which hand-overs wait
+   */
+  Stage(final String name, final int workers, final int capacity) {
+    if (workers <= 0) {
+      throw new IllegalArgumentException("Non-positive workers: " + workers);
+    }
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Non-positive capacity: " + capacity);
+    }
+    this.name = name;
+
+    executor = new ThreadPoolExecutor(workers,
+                                      workers,
+                                      KEEP_ALIVE,
+                                      TimeUnit.SECONDS,
+                                      new ArrayBlockingQueue<Runnable>(capacity),
+                                      new ThreadFactory() {
+                                        private final AtomicInteger count = new AtomicInteger();
+
+                                        @Override
+                                        public Thread newThread(final Runnable runnable) {
+                                          return new Thread(runnable, name + '-' + count.incrementAndGet());
+                                        }
+                                      },
+                                      new RejectedExecutionHandler() {
+                                        @Override
+                                        public void rejectedExecution(final Runnable runnable,
+                                                                      final ThreadPoolExecutor executor) {
+                                          if (executor.isShutdown()) {
+                                            throw new RejectedExecutionException("Stage stopped: " + name);
+                                          }
+                                          try {
+                                            executor.getQueue().put(runnable);  // wait for room
+                                          }
+                                          catch (final InterruptedException iE) {
+                                            Thread.currentThread().interrupt();
+                                            throw new RejectedExecutionException("Interrupted waiting for stage: " + name, iE);
+                                          }
+                                        }
+                                      });
+    executor.allowCoreThreadTimeOut(true);  // idle stages do not hold on to threads
+    logger.debug("Stage {}: {} workers, capacity {}", name, workers, capacity);
+  }
+
+  /**
+   * Hands <code>task</code> over to this stage and waits for its result.
+   *
+   * @param task
+   * @return the result of <code>task</code>
+   * @throws IOException if <code>task</code> throws one, or if interrupted or
+   *           stopped while waiting
+   */
+  <V> V execute(final Task<V> task) throws IOException {
+    return get(submit(task));
+  }
+
+  /**
+   * Hands <code>task</code> over to this stage without waiting for it to run,
+   * so that the caller is free to carry on (e.g. with its next request).
+   *
+   * @param task
+   * @return the pending result of <code>task</code>
+   * @throws IOException if interrupted or stopped while waiting for room
+   */
+  <V> Future<V> submit(final Task<V> task) throws IOException {
+    try {
+      return executor.submit(new Callable<V>() {
+        @Override
+        public V call() throws Exception {
+          return task.call();
+        }
+      });
+    }
+    catch (final RejectedExecutionException reE) {
+      throw new IOException(reE.getMessage(), reE);
+    }
+  }
+
+  /**
+   * Waits for the result of a task handed over to a stage.
+   *
+   * @param future
+   * @return the result of the task
+   * @throws IOException if the task throws one, or if interrupted while
+   *           waiting
+   */
+  static <V> V get(final Future<V> future) throws IOException {
+    try {
+      return future.get();
+    }
+    catch (final InterruptedException iE) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for stage");
+    }
+    catch (final ExecutionException eE) {
+      final Throwable cause = eE.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * @return number of tasks waiting to run
+   */
+  int queued() {
+    return executor.getQueue().size();
+  }
+
+  void stop() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(Short.MAX_VALUE, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+}
@@ -0,0 +1,269 @@
+/**
+ * Tracer.java  v0.1  18 October 2026 11:02:26 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records spans of the life of each task (e.g. waiting in a queue, building
+ * its URL, requesting, reading, transforming and writing) on the threads that
+ * ran them, for export as a Chrome trace-event JSON file to be viewed on a
+ * timeline (e.g. in chrome://tracing or Perfetto).
+ * <p>
+ * Spans are complete events on their threads' tracks, except for queue waits,
+ * which are not run by any thread and are exported as async events instead.
+ * A disabled tracer records nothing, and a full one records no more spans, so
+ * that tracing a long run cannot exhaust memory.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class Tracer {
+
+  private final boolean                     enabled;
+  private final int                         maxEvents;
+  private final long                        epoch           = System.nanoTime();
+  private final Queue<Event>                events          = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger               size            = new AtomicInteger();  // events recorded
+  private final AtomicLong                  dropped         = new AtomicLong();     // events not recorded
+  private final ConcurrentMap<Long, String> threads         = new ConcurrentHashMap<>(); // thread ID -> name
+  private final AtomicLong                  ids             = new AtomicLong();
+
+  static final String                       FILENAME        = "Trace.json";
+  static final int                          MAX_EVENTS      = 1 << 20;
+
+  private static final long                 NANOS_PER_MICRO = 1000;
+  private static final int                  PID             = 1;
+
+  private static final Logger               logger          = LoggerFactory.getLogger(Tracer.class);
+
+  /**
+   * A span that has started and not yet ended.
+   */
+  final class Span {
+
+    private final String name;
+    private final String task;
+    private final long   start = System.nanoTime();
+
+    private Span(final String name, final String task) {
+      this.name = name;
+      this.task = task;
+    }
+
+    /**
+     * Ends the span on the current thread, which should be the one that
+     * started it.
+     */
+    void end() {
+      complete(name, task, start, System.nanoTime());
+    }
+
+  }
+
+  private static final class Event {
+
+    final char   phase;  // X: complete, b / e: async begin / end
+    final String name;
+    final String task;
+    final long   ts;     // nanoseconds since epoch
+    final long   dur;
+    final long   tid;
+    final long   id;
+
+    Event(final char phase, final String name, final String task, final long ts, final long dur, final long tid, final long id) {
+      this.phase = phase;
+      this.name = name;
+      this.task = task;
+      this.ts = ts;
+      this.dur = dur;
+      this.tid = tid;
+      this.id = id;
+    }
+
+  }
+
+  Tracer(final boolean enabled) {
+    this(enabled, MAX_EVENTS);
+  }
+
+  /**
+   * @param enabled
+   * @param maxEvents number of events recorded at most
+   */
+  Tracer(final boolean enabled, final int maxEvents) {
+    if (maxEvents <= 0) {
+      throw new IllegalArgumentException("Non-positive maximum events: " + maxEvents);
+    }
+    this.enabled = enabled;
+    this.maxEvents = maxEvents;
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param name e.g. transform
+   * @param task e.g. symbol
+   * @return a span starting now, or <code>null</code> if disabled
+   */
+  Span start(final String name, final String task) {
+    return enabled ? new Span(name, task) : null;
+  }
+
+  /**
+   * Ends <code>span</code>, if any.
+   */
+  static final void end(final Span span) {
+    if (span != null) {
+      span.end();
+    }
+  }
+
+  /**
+   * Records a span of the current thread.
+   *
+   * @param start {@link System#nanoTime()}
+   * @param end {@link System#nanoTime()}
+   */
+  void complete(final String name, final String task, final long start, final long end) {
+    if (enabled && reserve(1)) {
+      events.add(new Event('X', name, task, start - epoch, end - start, thread(), 0));
+    }
+  }
+
+  /**
+   * Records a span run by no thread, such as waiting in a queue.
+   *
+   * @param start {@link System#nanoTime()}
+   * @param end {@link System#nanoTime()}
+   */
+  void async(final String name, final String task, final long start, final long end) {
+    if (enabled && reserve(2)) {  // both or neither
+      final long id = ids.incrementAndGet();
+      final long tid = thread();
+      events.add(new Event('b', name, task, start - epoch, 0, tid, id));
+      events.add(new Event('e', name, task, end - epoch, 0, tid, id));
+    }
+  }
+
+  /**
+   * Reserves room for <code>n</code> events, if there is any.
+   */
+  private final boolean reserve(final int n) {
+    int s;
+    do {
+      if ((s = size.get()) + n > maxEvents) {
+        if (dropped.getAndAdd(n) == 0) {
+          logger.warn("Trace full: later spans are dropped ({} events)", maxEvents);
+        }
+        return false;
+      }
+    } while (!size.compareAndSet(s, s + n));
+    return true;
+  }
+
+  private final long thread() {
+    final Thread thread = Thread.currentThread();
+    final long tid = thread.getId();
+    if (!threads.containsKey(tid)) {
+      threads.putIfAbsent(tid, thread.getName());
+    }
+    return tid;
+  }
+
+  /**
+   * Writes every span recorded so far to {@value #FILENAME} in
+   * <code>directory</code>, so that the file written after the last of a
+   * sequence of operations (e.g. update then merge) covers them all.
+   *
+   * @param directory
+   * @return the trace file, or <code>null</code> if disabled
+   * @throws IOException
+   */
+  Path write(final Path directory) throws IOException {
+    if (!enabled) {
+      return null;
+    }
+    final Path file = directory.resolve(FILENAME);
+    final Path tmp = Converter.newTempFile(file);
+    int count = 0;
+    try {
+      try (final BufferedWriter bw = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        bw.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        final StringBuilder json = new StringBuilder();
+        for (final Map.Entry<Long, String> thread : threads.entrySet()) {
+          json.setLength(0);
+          json.append((count++ == 0) ? "\n" : ",\n")
+              .append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(PID)
+              .append(",\"tid\":").append(thread.getKey())
+              .append(",\"args\":{\"name\":");
+          quote(json, thread.getValue()).append("}}");
+          bw.write(json.toString());
+        }
+        for (final Event event : events) {
+          json.setLength(0);
+          json.append((count++ == 0) ? "\n" : ",\n").append("{\"name\":");
+          quote(json, event.name).append(",\"cat\":\"eod3\",\"ph\":\"").append(event.phase)
+              .append("\",\"ts\":").append(event.ts / NANOS_PER_MICRO);
+          if (event.phase == 'X') {
+            json.append(",\"dur\":").append(event.dur / NANOS_PER_MICRO);
+          }
+          else {
+            json.append(",\"id\":").append(event.id);
+          }
+          json.append(",\"pid\":").append(PID)
+              .append(",\"tid\":").append(event.tid)
+              .append(",\"args\":{\"task\":");
+          quote(json, String.valueOf(event.task)).append("}}");
+          bw.write(json.toString());
+        }
+        bw.write("\n]}");
+        bw.newLine();
+      }
+      Converter.replace(tmp, file);
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    logger.info("Trace written to file: {} ({} events, {} dropped)", file, count, dropped.get());
+    return file;
+  }
+
+  private static final StringBuilder quote(final StringBuilder json, final String string) {
+    json.append('"');
+    for (int i = 0; i < string.length(); ++i) {
+      final char c = string.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      }
+      else if (c < ' ') {
+        json.append(String.format("\\u%04x", (int) c));
+      }
+      else {
+        json.append(c);
+      }
+    }
+    return json.append('"');
+  }
+
+}
@@ -0,0 +1,278 @@
+/**
+ * TradingDate.java  v0.1  18 October 2026 3:05:41 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.text.ParseException;
+import java.util.Calendar;
+
+/**
+ * An immutable date without time or time zone, packed into an
+ * <code>int</code> as YYYYMMDD (e.g. 20151204 for 4 December 2015), as dates
+ * appear in MetaStock CSV files and their filenames.
+ * <p>
+ * Packed dates sort chronologically and format without conversion.  Day, week
+ * and month arithmetic is done on the proleptic Gregorian calendar via days
+ * since 1 January 1970.  <code>Calendar</code>s are converted at the edges of
+ * legacy APIs only.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public final class TradingDate implements Comparable<TradingDate> {
+
+  private final int               date;           // YYYYMMDD
+
+  /**
+   * 1 January 1970, the default start of data sources.
+   */
+  public static final TradingDate EPOCH           = new TradingDate(19700101);
+
+  private static final int        DAYS_IN_WEEK    = 7;
+  private static final int        MONTHS_IN_YEAR  = 12;
+  private static final int        DAYS_PER_ERA    = 146097;   // 400 years
+  private static final int        EPOCH_OFFSET    = 719468;   // 0000-03-01 to 1970-01-01
+
+  private TradingDate(final int date) {
+    this.date = date;
+  }
+
+  /**
+   * @param year
+   * @param month 1 to 12
+   * @param day 1 to 31
+   * @return the date
+   * @throws IllegalArgumentException if there is no such date
+   */
+  public static TradingDate of(final int year, final int month, final int day) {
+    if (month < 1 || month > MONTHS_IN_YEAR || day < 1 || day > daysInMonth(year, month)) {
+      throw new IllegalArgumentException("Invalid date: " + year + '-' + month + '-' + day);
+    }
+    return new TradingDate(DateCodec.pack(year, month, day));
+  }
+
+  /**
+   * @param date YYYYMMDD
+   * @return the date
+   * @throws IllegalArgumentException if there is no such date
+   */
+  public static TradingDate valueOf(final int date) {
+    return of(DateCodec.year(date), DateCodec.month(date), DateCodec.day(date));
+  }
+
+  /**
+   * @param yyyymmdd e.g. 20151204
+   * @return the date
+   * @throws ParseException if <code>yyyymmdd</code> is not a date
+   */
+  public static TradingDate parse(final CharSequence yyyymmdd) throws ParseException {
+    return new TradingDate(DateCodec.YYYYMMDD.parse(yyyymmdd));
+  }
+
+  /**
+   * @param calendar
+   * @return <code>calendar</code>'s date, or <code>null</code> if
+   *         <code>calendar</code> is <code>null</code>
+   */
+  public static TradingDate of(final Calendar calendar) {
+    return (calendar == null) ? null : new TradingDate(DateCodec.toInt(calendar));
+  }
+
+  /**
+   * @return today's date in the default time zone
+   */
+  public static TradingDate today() {
+    return of(Calendar.getInstance());
+  }
+
+  /**
+   * @param epochDay days since 1 January 1970
+   * @return the date
+   */
+  public static TradingDate ofEpochDay(final long epochDay) {
+    // Howard Hinnant's civil_from_days, with years starting in March
+    final long days = epochDay + EPOCH_OFFSET;
+    final long era = floorDiv(days, DAYS_PER_ERA);
+    final int dayOfEra = (int) (days - era * DAYS_PER_ERA);
+    final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_ERA - 1)) / 365;
+    final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    final int marchMonth = (5 * dayOfYear + 2) / 153;
+    final int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+    final int month = (marchMonth < 10) ? marchMonth + 3 : marchMonth - 9;
+    final int year = (int) (yearOfEra + era * 400) + ((month <= 2) ? 1 : 0);
+    return new TradingDate(DateCodec.pack(year, month, day));
+  }
+
+  /**
+   * @return days since 1 January 1970
+   */
+  public long toEpochDay() {
+    // Howard Hinnant's days_from_civil
+    final int month = month();
+    final long year = year() - ((month <= 2) ? 1 : 0);
+    final long era = floorDiv(year, 400);
+    final int yearOfEra = (int) (year - era * 400);
+    final int dayOfYear = (153 * ((month > 2) ? month - 3 : month + 9) + 2) / 5 + day() - 1;
+    final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * DAYS_PER_ERA + dayOfEra - EPOCH_OFFSET;
+  }
+
+  public int year() {
+    return DateCodec.year(date);
+  }
+
+  /**
+   * @return 1 to 12
+   */
+  public int month() {
+    return DateCodec.month(date);
+  }
+
+  public int day() {
+    return DateCodec.day(date);
+  }
+
+  /**
+   * @return ISO day of week, from 1 (Monday) to 7 (Sunday)
+   */
+  public int dayOfWeek() {
+    final long days = toEpochDay() + 3; // 1 January 1970 was a Thursday
+    return (int) (days - floorDiv(days, DAYS_IN_WEEK) * DAYS_IN_WEEK) + 1;
+  }
+
+  public TradingDate plusDays(final long days) {
+    return (days == 0) ? this : ofEpochDay(toEpochDay() + days);
+  }
+
+  public TradingDate plusWeeks(final long weeks) {
+    return plusDays(weeks * DAYS_IN_WEEK);
+  }
+
+  /**
+   * Adds months, keeping the day of month where possible and otherwise
+   * moving it back to the end of the month (e.g. 31 January plus one month
+   * is 28 or 29 February).
+   *
+   * @param months
+   * @return the date <code>months</code> later
+   */
+  public TradingDate plusMonths(final int months) {
+    if (months == 0) {
+      return this;
+    }
+    final int totalMonths = year() * MONTHS_IN_YEAR + (month() - 1) + months;
+    final int year = (int) floorDiv(totalMonths, MONTHS_IN_YEAR);
+    final int month = totalMonths - year * MONTHS_IN_YEAR + 1;
+    return new TradingDate(DateCodec.pack(year, month, Math.min(day(), daysInMonth(year, month))));
+  }
+
+  public TradingDate firstOfMonth() {
+    return (day() == 1) ? this : new TradingDate(DateCodec.pack(year(), month(), 1));
+  }
+
+  /**
+   * Steps to the start of the next period of <code>frequency</code>: the next
+   * day, the same day next week or the first of next month.
+   *
+   * @param frequency <code>null</code> for daily
+   * @return the date after this at <code>frequency</code>
+   */
+  public TradingDate next(final Frequencies frequency) {
+    if (frequency == null) {
+      return plusDays(1);
+    }
+    switch (frequency) {
+      case MONTHLY:
+        return plusMonths(1).firstOfMonth();
+      case WEEKLY:
+        return plusWeeks(1);
+      case DAILY:
+      default:
+        return plusDays(1);
+    }
+  }
+
+  /**
+   * @param frequency <code>null</code> for daily
+   * @return the first day of the period of <code>frequency</code> this date
+   *         falls in: this date, the Monday of its week or the first of its
+   *         month
+   */
+  public TradingDate startOf(final Frequencies frequency) {
+    if (frequency == Frequencies.WEEKLY) {
+      return plusDays(1 - dayOfWeek());
+    }
+    if (frequency == Frequencies.MONTHLY) {
+      return firstOfMonth();
+    }
+    return this;
+  }
+
+  public boolean isBefore(final TradingDate other) {
+    return date < other.date;
+  }
+
+  public boolean isAfter(final TradingDate other) {
+    return date > other.date;
+  }
+
+  /**
+   * @return YYYYMMDD
+   */
+  public int toInt() {
+    return date;
+  }
+
+  /**
+   * @return a new <code>Calendar</code> at midnight of this date, in the
+   *         default time zone
+   */
+  public Calendar toCalendar() {
+    return DateCodec.toCalendar(date);
+  }
+
+  private static final long floorDiv(final long dividend, final long divisor) {
+    final long quotient = dividend / divisor;
+    return (dividend % divisor < 0) ? quotient - 1 : quotient; // divisor > 0
+  }
+
+  private static final int daysInMonth(final int year, final int month) {
+    switch (month) {
+      case 2:
+        return DateCodec.isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  @Override
+  public int compareTo(final TradingDate other) {
+    return Integer.compare(date, other.date);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    return (this == object) || (object instanceof TradingDate && date == ((TradingDate) object).date);
+  }
+
+  @Override
+  public int hashCode() {
+    return date;
+  }
+
+  /**
+   * @return YYYYMMDD
+   */
+  @Override
+  public String toString() {
+    return DateCodec.YYYYMMDD.format(date);
+  }
+
+}
@@ -0,0 +1,202 @@
+/**
+ * UpdateManifest.java  v0.1  18 October 2026 10:17:40 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the MetaStock CSV files in a directory, recording the symbol,
+ * latest date and number of rows of each so that updates can be planned
+ * without opening every file.
+ * <p>
+ * Each file is recorded with its size and last-modified time, which serve as
+ * its checksum: a record is only trusted while the file it describes still
+ * matches both.  Files changed by other means are thus read afresh.  The
+ * exchange and frequency of each file are implied by its directory and
+ * filename respectively.
+ * <p>
+ * Format: Filename,Symbol,YYYYMMDD,Rows,Size,Modified
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class UpdateManifest {
+
+  private final Path                file;
+  private final Map<String, Record> records = new TreeMap<>();  // filename -> record
+  private boolean                   dirty;
+
+  static final String               FILENAME  = "Manifest.csv";
+  static final long                 UNKNOWN   = -1;
+
+  private static final char         COMMA     = ',';
+  private static final int          COLUMNS   = 6;
+
+  private static final Logger       logger    = LoggerFactory.getLogger(UpdateManifest.class);
+
+  /**
+   * What is known of a file.
+   */
+  static final class Record {
+
+    final String symbol;
+    final String date;      // latest, YYYYMMDD
+    final long   rows;      // UNKNOWN if not counted
+    final long   size;
+    final long   modified;
+
+    Record(final String symbol, final String date, final long rows, final long size, final long modified) {
+      this.symbol = symbol;
+      this.date = date;
+      this.rows = rows;
+      this.size = size;
+      this.modified = modified;
+    }
+
+    @Override
+    public String toString() {
+      return symbol + COMMA + date + COMMA + rows + COMMA + size + COMMA + modified;
+    }
+
+  }
+
+  private UpdateManifest(final Path directory) {
+    file = directory.resolve(FILENAME);
+  }
+
+  /**
+   * Loads the manifest of <code>directory</code>, which is empty if there is
+   * none or it cannot be read.
+   *
+   * @param directory
+   * @return the manifest of <code>directory</code>
+   */
+  static final UpdateManifest load(final Path directory) {
+    final UpdateManifest manifest = new UpdateManifest(directory);
+    try (final BufferedReader br = Files.newBufferedReader(manifest.file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        final String[] columns = line.split(String.valueOf(COMMA));
+        if (columns.length != COLUMNS) {
+          logger.warn("Malformed manifest line in {}: {}", manifest.file, line);
+          continue;
+        }
+        try {
+          manifest.records.put(columns[0], new Record(columns[1],
+                                                      columns[2],
+                                                      Long.parseLong(columns[3]),
+                                                      Long.parseLong(columns[4]),
+                                                      Long.parseLong(columns[5])));
+        }
+        catch (final NumberFormatException nfE) {
+          logger.warn("Malformed manifest line in {}: {}", manifest.file, line);
+        }
+      }
+      logger.debug("Manifest loaded: {} ({} files)", manifest.file, manifest.records.size());
+    }
+    catch (final NoSuchFileException nsfE) {
+      logger.debug("No manifest: {}", manifest.file);
+    }
+    catch (final IOException ioE) {
+      logger.warn("Manifest unreadable: {}", manifest.file, ioE);
+      manifest.records.clear();
+    }
+    return manifest;
+  }
+
+  /**
+   * @param file
+   * @return the record of <code>file</code>, or <code>null</code> if there is
+   *         none or <code>file</code> has changed since
+   * @throws IOException if <code>file</code>'s attributes cannot be read
+   */
+  synchronized Record get(final Path file) throws IOException {
+    final Record record = records.get(file.getFileName().toString());
+    if (record != null) {
+      final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      if (record.size == attributes.size() && record.modified == attributes.lastModifiedTime().toMillis()) {
+        return record;
+      }
+      logger.debug("Changed since recorded: {}", file);
+    }
+    return null;
+  }
+
+  /**
+   * Records <code>file</code> as it is.
+   *
+   * @param file
+   * @param latest the most recent line of <code>file</code>
+   * @param rows number of lines in <code>file</code>, or <code>UNKNOWN</code>
+   * @return the new record
+   * @throws IOException if <code>file</code>'s attributes cannot be read
+   */
+  synchronized Record record(final Path file, final String latest, final long rows) throws IOException {
+    final Map.Entry<String, String> symbolAndDate = Converter.extractSymbolAndDate(latest);
+    final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    final Record record = new Record(symbolAndDate.getKey(),
+                                     symbolAndDate.getValue(),
+                                     rows,
+                                     attributes.size(),
+                                     attributes.lastModifiedTime().toMillis());
+    records.put(file.getFileName().toString(), record);
+    dirty = true;
+    return record;
+  }
+
+  synchronized void remove(final Path file) {
+    if (records.remove(file.getFileName().toString()) != null) {
+      dirty = true;
+    }
+  }
+
+  synchronized int size() {
+    return records.size();
+  }
+
+  /**
+   * Writes the manifest, if changed, replacing its earlier version in one go.
+   *
+   * @throws IOException
+   */
+  synchronized void save() throws IOException {
+    if (!dirty) {
+      return;
+    }
+
+    final Path tmp = Converter.newTempFile(file);
+    try {
+      try (final BufferedWriter bw = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        for (final Map.Entry<String, Record> record : records.entrySet()) {
+          bw.write(record.getKey());
+          bw.write(COMMA);
+          bw.write(record.getValue().toString());
+          bw.newLine();
+        }
+      }
+      Converter.replace(tmp, file);
+    }
+    catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    dirty = false;
+    logger.debug("Manifest saved: {} ({} files)", file, records.size());
+  }
+
+}
@@ -0,0 +1,62 @@
+/**
+ * VirtualThreads.java  v0.1  18 October 2026 7:41:26 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates executors that start a virtual thread per task on runtimes that
+ * support them (Java 21 onwards), without requiring such a runtime to build.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class VirtualThreads {
+
+  private static final Method NEW_EXECUTOR = lookUp();
+
+  private static final Logger logger       = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private VirtualThreads() { /* do not instantiate */ }
+
+  private static final Method lookUp() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    }
+    catch (final NoSuchMethodException nsmE) {
+      return null;
+    }
+  }
+
+  static final boolean isSupported() {
+    return NEW_EXECUTOR != null;
+  }
+
+  /**
+   * @return an executor that starts a new virtual thread for each task, or
+   *         <code>null</code> if virtual threads are not supported
+   */
+  static final ExecutorService newExecutor() {
+    if (NEW_EXECUTOR != null) {
+      try {
+        return (ExecutorService) NEW_EXECUTOR.invoke(null);
+      }
+      catch (final ReflectiveOperationException roE) {
+        logger.warn("Virtual threads unavailable", roE);
+      }
+    }
+    else {
+      logger.warn("Virtual threads not supported by Java {}", System.getProperty("java.version"));
+    }
+    return null;
+  }
+
+}
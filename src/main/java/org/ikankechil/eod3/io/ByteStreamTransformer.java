@@ -0,0 +1,152 @@
+/**
+ * ByteStreamTransformer.java  v0.1  17 October 2026 9:41:05 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Transforms a stream of source data line by line with a
+ * <code>ByteTransform</code>, reusing its input and output buffers across
+ * lines and across streams.
+ * <p>
+ * Lines are delimited by line feeds, with any trailing carriage return
+ * removed. Empty lines are dropped and transformed rows are written with the
+ * platform line separator.
+ * <p>
+ * Not thread-safe: use one instance per thread.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ByteStreamTransformer {
+
+  private byte[]              input;
+  private ByteBuffer          output;
+
+  private final byte[]        lineSeparator;
+
+  private static final byte   LF                  = '\n';
+  private static final byte   CR                  = '\r';
+  private static final int    NOT_FOUND           = -1;
+
+  private static final int    DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  public ByteStreamTransformer() {
+    this(DEFAULT_BUFFER_SIZE);
+  }
+
+  public ByteStreamTransformer(final int bufferSize) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+    }
+    input = new byte[bufferSize];
+    output = ByteBuffer.allocate(bufferSize);
+    lineSeparator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Transforms <code>source</code> to <code>destination</code>, one line at a
+   * time.
+   *
+   * @param source the data to transform
+   * @param skippedRows number of leading lines (e.g. column headings) to skip
+   * @param transform the line transform
+   * @param destination where transformed rows are written
+   * @return number of rows written
+   * @throws IOException
+   */
+  public long transform(final InputStream source,
+                        final int skippedRows,
+                        final ByteTransform transform,
+                        final WritableByteChannel destination)
+      throws IOException {
+    long rows = 0;
+    int skipped = skippedRows;
+    int start = 0;  // start of the current line
+    int end = 0;    // end of bytes read
+    int read;
+    output.clear();
+    while ((read = source.read(input, end, input.length - end)) >= 0) {
+      int lf = end;
+      end += read;
+      while ((lf = indexOf(LF, input, lf, end)) != NOT_FOUND) {
+        if (skipped > 0) {
+          --skipped;
+        }
+        else if (transform(start, lf, transform, destination)) {
+          ++rows;
+        }
+        start = ++lf;
+      }
+
+      if (start > 0) {
+        // move partial line to the front
+        System.arraycopy(input, start, input, 0, end - start);
+        end -= start;
+        start = 0;
+      }
+      else if (end == input.length) {
+        // line longer than buffer
+        input = Arrays.copyOf(input, input.length << 1);
+      }
+    }
+    // last line without line separator
+    if (end > start && skipped <= 0 && transform(start, end, transform, destination)) {
+      ++rows;
+    }
+    flush(destination);
+
+    return rows;
+  }
+
+  private final boolean transform(final int from,
+                                  final int lf,
+                                  final ByteTransform transform,
+                                  final WritableByteChannel destination)
+      throws IOException {
+    final int to = (lf > from && input[lf - 1] == CR) ? lf - 1 : lf;
+    if (to == from) {
+      return false;
+    }
+
+    final int maxLength = transform.maxLength(to - from) + lineSeparator.length;
+    if (output.remaining() < maxLength) {
+      flush(destination);
+      if (output.capacity() < maxLength) {
+        output = ByteBuffer.allocate(maxLength);
+      }
+    }
+
+    final boolean transformed = transform.transform(input, from, to, output);
+    if (transformed) {
+      output.put(lineSeparator);
+    }
+    return transformed;
+  }
+
+  private final void flush(final WritableByteChannel destination) throws IOException {
+    output.flip();
+    while (output.hasRemaining()) {
+      destination.write(output);
+    }
+    output.clear();
+  }
+
+  private static final int indexOf(final byte b, final byte[] bytes, final int from, final int to) {
+    for (int i = from; i < to; ++i) {
+      if (bytes[i] == b) {
+        return i;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+}
@@ -0,0 +1,148 @@
+/**
+ * ByteTransform.java  v0.1  17 October 2026 9:12:40 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Transforms a line of raw, single-byte encoded source data into MetaStock
+ * CSV format without decoding it into a <code>String</code>.
+ * <p>
+ * Instances are bound to a symbol and are not thread-safe.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public abstract class ByteTransform {
+
+  private final byte[]        symbol;
+
+  protected static final byte COMMA           = ',';
+  protected static final byte DOUBLE_QUOTE    = '"';
+
+  private static final int    NOT_FOUND       = -1;
+  private static final int    ISO_DATE_LENGTH = 10;  // YYYY-MM-DD
+
+  public ByteTransform(final String symbol) {
+    this.symbol = symbol.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Transforms <code>line[from, to)</code>, which excludes any line separator,
+   * and appends the result to <code>output</code>.
+   *
+   * @param line the bytes read
+   * @param from index of the first byte of the line
+   * @param to index one past the last byte of the line
+   * @param output the buffer to append to, with at least
+   *          {@link #maxLength(int)} bytes remaining
+   * @return <code>true</code> if a row was appended, <code>false</code> if
+   *         the line was dropped
+   */
+  public abstract boolean transform(final byte[] line, final int from, final int to, final ByteBuffer output);
+
+  /**
+   * @param length length of a source line
+   * @return the maximum number of bytes a source line of the given length is
+   *         transformed into
+   */
+  public int maxLength(final int length) {
+    return symbol.length + 1 + length;
+  }
+
+  /**
+   * Appends the symbol as row name, followed by a comma.
+   *
+   * @param output
+   */
+  protected final void putSymbol(final ByteBuffer output) {
+    output.put(symbol).put(COMMA);
+  }
+
+  /**
+   * Appends the ISO 8601 date (YYYY-MM-DD) at <code>from</code> as YYYYMMDD.
+   *
+   * @param line
+   * @param from
+   * @param output
+   */
+  protected static final void putISODate(final byte[] line, final int from, final ByteBuffer output) {
+    output.put(line, from, 4)       // year
+          .put(line, from + 5, 2)   // month
+          .put(line, from + 8, 2);  // date
+  }
+
+  /**
+   * Creates a transform of lines that start with an ISO 8601 date
+   * (YYYY-MM-DD). It keeps the date, as YYYYMMDD, and the <code>columns</code>
+   * columns after it, and drops any further columns (e.g. adjusted close).
+   * Lines with fewer columns (e.g. FX without volume) are kept whole.
+   *
+   * @param symbol
+   * @param columns number of columns kept after the date, e.g. 5 for OHLCV
+   * @return a transform of the date and the leading <code>columns</code>
+   */
+  public static ByteTransform isoDateColumns(final String symbol, final int columns) {
+    if (columns <= 0) {
+      throw new IllegalArgumentException("Invalid number of columns: " + columns);
+    }
+    return new ByteTransform(symbol) {
+      @Override
+      public boolean transform(final byte[] line, final int from, final int to, final ByteBuffer output) {
+        // locate the comma after the last column kept, counting the one after
+        // the date
+        final int start = from + ISO_DATE_LENGTH;
+        final int comma = findNth(COMMA, line, columns + 1, start, to);
+        putSymbol(output);
+        putISODate(line, from, output);
+        output.put(line, start, ((comma < 0) ? to : comma) - start);
+        return true;
+      }
+    };
+  }
+
+  /**
+   * @param b
+   * @return <code>true</code> if <code>b</code> is an ASCII digit
+   */
+  protected static final boolean isDigit(final byte b) {
+    return (b >= '0') && (b <= '9');
+  }
+
+  /**
+   * Finds the <code>n</code>-th occurrence of <code>b</code> in
+   * <code>line[from, to)</code>.
+   *
+   * @return the index of the <code>n</code>-th occurrence, or -1 if there are
+   *         fewer than <code>n</code>
+   */
+  protected static final int findNth(final byte b, final byte[] line, final int n, final int from, final int to) {
+    for (int i = from, found = 0; i < to; ++i) {
+      if ((line[i] == b) && (++found == n)) {
+        return i;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Finds the <code>n</code>-th last occurrence of <code>b</code> in
+   * <code>line[from, to)</code>.
+   *
+   * @return the index of the <code>n</code>-th last occurrence, or -1 if there
+   *         are fewer than <code>n</code>
+   */
+  protected static final int findNthLast(final byte b, final byte[] line, final int n, final int from, final int to) {
+    for (int i = to - 1, found = 0; i >= from; --i) {
+      if ((line[i] == b) && (++found == n)) {
+        return i;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+}
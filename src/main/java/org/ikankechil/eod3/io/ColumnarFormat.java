@@ -0,0 +1,110 @@
+/**
+ * ColumnarFormat.java  v0.1  18 October 2026 1:21:55 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of the binary columnar price format.
+ * <p>
+ * All values are little-endian and every column starts on an 8-byte
+ * boundary:
+ *
+ * <pre>
+ * int     magic ("EOD3")
+ * short   version
+ * short   flags
+ * int     rows
+ * short   symbol length, followed by symbol in US-ASCII
+ * dates   int[rows] YYYYMMDD, or if delta-encoded, the first date followed
+ *         by short[rows - 1] differences from each preceding date
+ * double  open[rows], high[rows], low[rows], close[rows]
+ * long    volume[rows]
+ * </pre>
+ *
+ * Rows are in reverse chronological order.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class ColumnarFormat {
+
+  static final String    FILE_EXTENSION = ".eod";
+
+  static final ByteOrder BYTE_ORDER     = ByteOrder.LITTLE_ENDIAN;
+  static final int       MAGIC          = 0x33444F45;  // "EOD3" in little-endian
+  static final short     VERSION        = 1;
+
+  // flags
+  static final short     DELTA_DATES    = 1;
+
+  static final int       HEADER_LENGTH  = 14;          // up to symbol
+
+  // sizes in bytes
+  static final int       SHORT          = 2;
+  static final int       INT            = 4;
+  static final int       LONG           = 8;           // also double
+  static final int       COLUMNS        = 5;           // open, high, low, close, volume
+  private static final int ALIGNMENT    = 8;
+
+  private ColumnarFormat() { /* do not instantiate */ }
+
+  static final int align(final int position) {
+    return (position + ALIGNMENT - 1) & -ALIGNMENT;
+  }
+
+  static final int datesLength(final int rows, final short flags) {
+    return ((flags & DELTA_DATES) != 0 && rows > 0) ? INT + ((rows - 1) * SHORT)
+                                                    : rows * INT;
+  }
+
+  /**
+   * Reads and validates the header, leaving <code>buffer</code> positioned at
+   * the dates column.
+   *
+   * @return the header
+   * @throws IOException if not in columnar format
+   */
+  static final Header readHeader(final ByteBuffer buffer, final Object source) throws IOException {
+    buffer.order(BYTE_ORDER);
+    if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC) {
+      throw new IOException("Not in columnar format: " + source);
+    }
+    final short version = buffer.getShort();
+    if (version != VERSION) {
+      throw new IOException("Unsupported columnar format version " + version + ": " + source);
+    }
+    final short flags = buffer.getShort();
+    final int rows = buffer.getInt();
+    final byte[] symbol = new byte[buffer.getShort()];
+    buffer.get(symbol);
+    buffer.position(align(buffer.position()));
+
+    final int length = align(buffer.position() + datesLength(rows, flags)) + (rows * COLUMNS * LONG);
+    if (rows < 0 || buffer.limit() < length) {
+      throw new IOException("Truncated columnar file: " + source);
+    }
+    return new Header(new String(symbol, StandardCharsets.US_ASCII), flags, rows);
+  }
+
+  static final class Header {
+
+    final String symbol;
+    final short  flags;
+    final int    rows;
+
+    Header(final String symbol, final short flags, final int rows) {
+      this.symbol = symbol;
+      this.flags = flags;
+      this.rows = rows;
+    }
+
+  }
+
+}
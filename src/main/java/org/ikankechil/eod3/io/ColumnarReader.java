@@ -0,0 +1,67 @@
+/**
+ * ColumnarReader.java  v0.1  18 October 2026 1:52:19 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.ikankechil.eod3.io.ColumnarFormat.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.ikankechil.eod3.io.ColumnarFormat.Header;
+
+/**
+ * Reads price and volume data written by <code>ColumnarWriter</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ColumnarReader {
+
+  public Prices read(final File file) throws IOException {
+    return read(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), file);
+  }
+
+  static final Prices read(final ByteBuffer buffer, final Object source) throws IOException {
+    final Header header = readHeader(buffer, source);
+    final int rows = header.rows;
+
+    // dates
+    final int[] dates = new int[rows];
+    final int datesOffset = buffer.position();
+    if ((header.flags & DELTA_DATES) != 0) {
+      if (rows > 0) {
+        dates[0] = buffer.getInt();
+        for (int i = 1; i < rows; ++i) {
+          dates[i] = dates[i - 1] + buffer.getShort();
+        }
+      }
+    }
+    else {
+      buffer.asIntBuffer().get(dates);
+    }
+
+    // prices and volumes
+    buffer.position(align(datesOffset + datesLength(rows, header.flags)));
+    final double[] opens = get(rows, buffer);
+    final double[] highs = get(rows, buffer);
+    final double[] lows = get(rows, buffer);
+    final double[] closes = get(rows, buffer);
+    final long[] volumes = new long[rows];
+    buffer.asLongBuffer().get(volumes);
+
+    return new Prices(header.symbol, dates, opens, highs, lows, closes, volumes);
+  }
+
+  private static final double[] get(final int rows, final ByteBuffer buffer) {
+    final double[] column = new double[rows];
+    buffer.asDoubleBuffer().get(column);
+    buffer.position(buffer.position() + (rows * LONG));
+    return column;
+  }
+
+}
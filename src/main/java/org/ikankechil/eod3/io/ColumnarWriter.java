@@ -0,0 +1,172 @@
+/**
+ * ColumnarWriter.java  v0.1  18 October 2026 1:38:02 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.ikankechil.eod3.io.ColumnarFormat.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * Writes price and volume data in a binary columnar format, with dates as
+ * YYYYMMDD integers, prices as doubles and volumes as longs.
+ * <p>
+ * Dates are optionally delta-encoded as shorts when every difference between
+ * consecutive dates fits, which is always the case for daily, weekly and
+ * monthly series without large gaps.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ColumnarWriter implements PriceWriter {
+
+  private final boolean deltaEncoding;
+
+  private static final char COMMA = ',';
+
+  public ColumnarWriter() {
+    this(true);
+  }
+
+  public ColumnarWriter(final boolean deltaEncoding) {
+    this.deltaEncoding = deltaEncoding;
+  }
+
+  @Override
+  public String fileExtension() {
+    return FILE_EXTENSION;
+  }
+
+  @Override
+  public void write(final Collection<String> lines, final File destination) throws IOException {
+    write(parse(lines), destination);
+  }
+
+  public void write(final Prices prices, final File destination) throws IOException {
+    final int rows = prices.size();
+    final int[] dates = prices.dates();
+    final short flags = (deltaEncoding && rows > 0 && isDeltaEncodable(dates)) ? DELTA_DATES : 0;
+    final byte[] symbol = prices.symbol().getBytes(StandardCharsets.US_ASCII);
+
+    final int datesOffset = align(HEADER_LENGTH + symbol.length);
+    final int columnsOffset = align(datesOffset + datesLength(rows, flags));
+    final ByteBuffer buffer = ByteBuffer.allocate(columnsOffset + (rows * COLUMNS * LONG))
+                                        .order(BYTE_ORDER);
+
+    // header
+    buffer.putInt(MAGIC).putShort(VERSION).putShort(flags).putInt(rows)
+          .putShort((short) symbol.length).put(symbol);
+
+    // dates
+    buffer.position(datesOffset);
+    if ((flags & DELTA_DATES) != 0) {
+      buffer.putInt(dates[0]);
+      for (int i = 1; i < rows; ++i) {
+        buffer.putShort((short) (dates[i] - dates[i - 1]));
+      }
+    }
+    else {
+      buffer.asIntBuffer().put(dates);
+    }
+
+    // prices and volumes
+    buffer.position(columnsOffset);
+    put(prices.opens(), buffer);
+    put(prices.highs(), buffer);
+    put(prices.lows(), buffer);
+    put(prices.closes(), buffer);
+    buffer.asLongBuffer().put(prices.volumes());
+
+    buffer.rewind();
+    try (final FileChannel channel = FileChannel.open(destination.toPath(),
+                                                      StandardOpenOption.CREATE,
+                                                      StandardOpenOption.WRITE,
+                                                      StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  private static final void put(final double[] column, final ByteBuffer buffer) {
+    buffer.asDoubleBuffer().put(column);
+    buffer.position(buffer.position() + (column.length * LONG));
+  }
+
+  private static final boolean isDeltaEncodable(final int[] dates) {
+    for (int i = 1; i < dates.length; ++i) {
+      final int delta = dates[i] - dates[i - 1];
+      if (delta < Short.MIN_VALUE || delta > Short.MAX_VALUE) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses MetaStock CSV lines (Symbol,YYYYMMDD,Open,High,Low,Close[,Volume])
+   * into columns. Missing volumes are taken to be zero.
+   *
+   * @param lines MetaStock CSV lines
+   * @return columns
+   */
+  static final Prices parse(final Collection<String> lines) {
+    final int rows = lines.size();
+    final int[] dates = new int[rows];
+    final double[] opens = new double[rows];
+    final double[] highs = new double[rows];
+    final double[] lows = new double[rows];
+    final double[] closes = new double[rows];
+    final long[] volumes = new long[rows];
+
+    String symbol = null;
+    int row = 0;
+    for (final String line : lines) {
+      final int s = line.indexOf(COMMA);
+      final int d = line.indexOf(COMMA, s + 1);
+      final int o = line.indexOf(COMMA, d + 1);
+      final int h = line.indexOf(COMMA, o + 1);
+      final int l = line.indexOf(COMMA, h + 1);
+      if (s < 0 || d < 0 || o < 0 || h < 0 || l < 0) {
+        throw new IllegalArgumentException("Malformed line: " + line);
+      }
+      int c = line.indexOf(COMMA, l + 1);
+      if (c < 0) {
+        c = line.length();
+      }
+      else {
+        volumes[row] = parseVolume(line.substring(c + 1));
+      }
+
+      if (symbol == null) {
+        symbol = line.substring(0, s);
+      }
+      dates[row] = Integer.parseInt(line.substring(s + 1, d));
+      opens[row] = Double.parseDouble(line.substring(d + 1, o));
+      highs[row] = Double.parseDouble(line.substring(o + 1, h));
+      lows[row] = Double.parseDouble(line.substring(h + 1, l));
+      closes[row] = Double.parseDouble(line.substring(l + 1, c));
+      ++row;
+    }
+
+    return new Prices(symbol == null ? "" : symbol, dates, opens, highs, lows, closes, volumes);
+  }
+
+  private static final long parseVolume(final String volume) {
+    try {
+      return Long.parseLong(volume);
+    }
+    catch (final NumberFormatException nfE) {
+      return (long) Double.parseDouble(volume); // some sources publish fractional volumes
+    }
+  }
+
+}
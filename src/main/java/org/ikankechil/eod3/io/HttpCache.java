@@ -0,0 +1,395 @@
+/**
+ * HttpCache.java  v0.1  18 October 2026 9:06:18 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of HTTP responses, keyed by URL, for revalidation with
+ * conditional requests.
+ * <p>
+ * Only responses carrying a validator (<code>ETag</code> or
+ * <code>Last-Modified</code>) are cached, and only once read in full.  Cached
+ * responses are never served without revalidation.  The least recently used
+ * responses are evicted once the cache outgrows its maximum size.  Recency
+ * survives restarts as the last-modified time of each cached file.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class HttpCache {
+
+  private final File              directory;
+  private final long              maxSize;        // bytes
+
+  private final Map<String, Long> entries       = new LinkedHashMap<>(16, 0.75f, true); // key -> size, least recent first
+  private long                    size;
+
+  private static final String     BODY          = ".body";
+  private static final String     META          = ".meta";
+  private static final String     TMP           = ".tmp";
+
+  private static final String     URL_KEY       = "url";
+  private static final String     ETAG          = "etag";
+  private static final String     LAST_MODIFIED = "lastModified";
+
+  private static final char[]     HEX           = "0123456789abcdef".toCharArray();
+
+  private static final Logger     logger        = LoggerFactory.getLogger(HttpCache.class);
+
+  /**
+   * Validators of a cached response.
+   */
+  public static final class Validators {
+
+    private final String key;
+    private final String etag;
+    private final String lastModified;
+
+    Validators(final String key, final String etag, final String lastModified) {
+      this.key = key;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    /**
+     * @return the <code>ETag</code> header, or <code>null</code> if none
+     */
+    public String etag() {
+      return etag;
+    }
+
+    /**
+     * @return the <code>Last-Modified</code> header, or <code>null</code> if
+     *         none
+     */
+    public String lastModified() {
+      return lastModified;
+    }
+
+  }
+
+  /**
+   * @param directory where responses are cached, created if necessary
+   * @param maxSize bytes
+   * @throws IOException if <code>directory</code> cannot be created
+   */
+  public HttpCache(final File directory, final long maxSize) throws IOException {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Non-positive maximum size: " + maxSize);
+    }
+    Files.createDirectories(directory.toPath());
+    this.directory = directory;
+    this.maxSize = maxSize;
+
+    // restore recency from an earlier run
+    final File[] bodies = directory.listFiles(new FileFilter() {
+      @Override
+      public boolean accept(final File file) {
+        return file.getName().endsWith(BODY);
+      }
+    });
+    Arrays.sort(bodies, new Comparator<File>() {
+      @Override
+      public int compare(final File f1, final File f2) {
+        return Long.compare(f1.lastModified(), f2.lastModified());
+      }
+    });
+    for (final File body : bodies) {
+      final String name = body.getName();
+      entries.put(name.substring(0, name.length() - BODY.length()), body.length());
+      size += body.length();
+    }
+    evict();
+    logger.debug("Cached responses: {} ({} bytes in {})", entries.size(), size, directory);
+  }
+
+  /**
+   * @param url
+   * @return validators of the response cached for <code>url</code>, or
+   *         <code>null</code> if none
+   */
+  public Validators lookUp(final URL url) {
+    final String key = key(url);
+    synchronized (this) {
+      if (!entries.containsKey(key)) {
+        return null;
+      }
+    }
+
+    final Properties meta = new Properties();
+    try (final InputStream is = new FileInputStream(new File(directory, key + META))) {
+      meta.load(is);
+    }
+    catch (final IOException ioE) {
+      logger.debug("Cached response unavailable: {}", url, ioE);
+      return null;
+    }
+    return url.toString().equals(meta.getProperty(URL_KEY)) ?
+           new Validators(key, meta.getProperty(ETAG), meta.getProperty(LAST_MODIFIED)) :
+           null;
+  }
+
+  /**
+   * Opens a cached response, marking it as the most recently used.
+   *
+   * @param validators as looked up
+   * @return the cached response body
+   * @throws IOException if the response is no longer cached
+   */
+  public InputStream open(final Validators validators) throws IOException {
+    final File body = new File(directory, validators.key + BODY);
+    synchronized (this) {
+      if (entries.get(validators.key) == null) {
+        throw new IOException("Evicted: " + body);
+      }
+      body.setLastModified(System.currentTimeMillis());
+    }
+    return new FileInputStream(body);
+  }
+
+  /**
+   * Caches a response as it is read.  The response is only cached if read in
+   * full before the returned stream is closed.
+   *
+   * @param url
+   * @param etag <code>ETag</code> header, if any
+   * @param lastModified <code>Last-Modified</code> header, if any
+   * @param response
+   * @return <code>response</code>, as is if it has no validators
+   */
+  public InputStream store(final URL url, final String etag, final String lastModified, final InputStream response) {
+    if (etag == null && lastModified == null) {
+      return response;
+    }
+
+    final String key = key(url);
+    try {
+      final File tmp = File.createTempFile(key, TMP, directory);
+      final Properties meta = new Properties();
+      meta.setProperty(URL_KEY, url.toString());
+      if (etag != null) {
+        meta.setProperty(ETAG, etag);
+      }
+      if (lastModified != null) {
+        meta.setProperty(LAST_MODIFIED, lastModified);
+      }
+      return new CachingInputStream(response, key, meta, tmp);
+    }
+    catch (final IOException ioE) {
+      logger.warn("Response not cached: {}", url, ioE);
+      return response;
+    }
+  }
+
+  /**
+   * Moves the body and then the validators of a response into place, each in
+   * full, as validators are looked up without locking.  Neither is kept if
+   * either cannot be.
+   */
+  private synchronized void commit(final String key, final Properties meta, final File tmp) throws IOException {
+    final File tmpMeta = File.createTempFile(key, TMP, directory);
+    try {
+      try (final OutputStream os = new FileOutputStream(tmpMeta)) {
+        meta.store(os, null);
+      }
+
+      final File body = new File(directory, key + BODY);
+      Files.move(tmp.toPath(), body.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      final Long previous = entries.put(key, body.length());
+      size += body.length() - ((previous == null) ? 0 : previous);
+      try {
+        Files.move(tmpMeta.toPath(), new File(directory, key + META).toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      catch (final IOException ioE) {
+        // the body no longer matches the validators, if any, in place
+        new File(directory, key + META).delete();
+        body.delete();
+        size -= entries.remove(key);
+        throw ioE;
+      }
+    }
+    finally {
+      tmpMeta.delete();  // unless moved
+    }
+    evict();
+  }
+
+  private void evict() {
+    for (final Iterator<Entry<String, Long>> i = entries.entrySet().iterator(); size > maxSize && i.hasNext(); ) {
+      final Entry<String, Long> entry = i.next();
+      final String key = entry.getKey();
+      new File(directory, key + META).delete();
+      new File(directory, key + BODY).delete();
+      size -= entry.getValue();
+      i.remove();
+      logger.debug("Evicted: {}", key);
+    }
+  }
+
+  /**
+   * @return number of cached responses
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return bytes cached
+   */
+  public synchronized long bytes() {
+    return size;
+  }
+
+  private static final String key(final URL url) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-1").digest(url.toString().getBytes(StandardCharsets.UTF_8));
+      final char[] hex = new char[digest.length << 1];
+      for (int i = 0; i < digest.length; ++i) {
+        hex[i << 1] = HEX[(digest[i] >> 4) & 0xF];
+        hex[(i << 1) + 1] = HEX[digest[i] & 0xF];
+      }
+      return new String(hex);
+    }
+    catch (final NoSuchAlgorithmException nsaE) {
+      throw new IllegalStateException(nsaE); // every Java platform supports SHA-1
+    }
+  }
+
+  /**
+   * Copies a response to a temporary file as it is read, committing it to the
+   * cache once read in full.
+   */
+  private final class CachingInputStream extends FilterInputStream {
+
+    private final String     key;
+    private final Properties meta;
+    private final File       tmp;
+
+    private OutputStream     copy;
+    private boolean          complete;
+
+    CachingInputStream(final InputStream in, final String key, final Properties meta, final File tmp)
+        throws IOException {
+      super(in);
+      this.key = key;
+      this.meta = meta;
+      this.tmp = tmp;
+      copy = new FileOutputStream(tmp);
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = in.read();
+      if (b < 0) {
+        complete = true;
+      }
+      else if (copy != null) {
+        try {
+          copy.write(b);
+        }
+        catch (final IOException ioE) {
+          abandon(ioE);
+        }
+      }
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      final int n = in.read(b, off, len);
+      if (n < 0) {
+        complete = true;
+      }
+      else if (copy != null) {
+        try {
+          copy.write(b, off, n);
+        }
+        catch (final IOException ioE) {
+          abandon(ioE);
+        }
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      abandon(null); // skipped bytes are not copied
+      return in.skip(n);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void abandon(final IOException ioE) {
+      if (ioE != null) {
+        logger.warn("Response not cached: {}", meta.getProperty(URL_KEY), ioE);
+      }
+      if (copy != null) {
+        try {
+          copy.close();
+        }
+        catch (final IOException closeE) {
+          logger.debug("Temporary file not closed: {}", tmp, closeE);
+        }
+        copy = null;
+      }
+      tmp.delete();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      }
+      finally {
+        if (copy != null) {
+          if (complete) {
+            try {
+              copy.close();
+              copy = null;
+              commit(key, meta, tmp);
+              logger.debug("Response cached: {}", meta.getProperty(URL_KEY));
+            }
+            catch (final IOException ioE) {
+              abandon(ioE);
+            }
+          }
+          else {
+            abandon(null);
+          }
+        }
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,32 @@
+/**
+ * HttpResponseException.java  v0.1  18 October 2026 5:26:44 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Signals an HTTP error response.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class HttpResponseException extends IOException {
+
+  private static final long serialVersionUID = 3215064416837208961L;
+
+  private final int         responseCode;
+
+  public HttpResponseException(final int responseCode, final URL url) {
+    super("HTTP " + responseCode + " from: " + url);
+    this.responseCode = responseCode;
+  }
+
+  public int responseCode() {
+    return responseCode;
+  }
+
+}
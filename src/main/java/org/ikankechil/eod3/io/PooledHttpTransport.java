@@ -0,0 +1,481 @@
+/**
+ * PooledHttpTransport.java  v0.1  18 October 2026 4:14:02 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.ikankechil.eod3.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opens HTTP(S) streams over persistent connections, with at most a
+ * configurable number of connections open to each host at a time.
+ * <p>
+ * Connections are kept alive by the JDK's connection cache, which only takes
+ * back a connection once its response has been read in full.  Streams opened
+ * here therefore drain any unread response on closing, and error responses are
+ * drained before being reported.  Callers wait for a connection when a host's
+ * limit is reached, for no longer than their timeout (or the connect timeout),
+ * after which they time out as if connecting had.
+ * <p>
+ * The JDK keeps at most <code>http.maxConnections</code> (default: 5) idle
+ * connections per host, reading the system property once, on first use.  Set
+ * it on the command line (e.g. -Dhttp.maxConnections=10) to at least the
+ * maximum number of connections per host, or connections beyond it are
+ * closed rather than reused.
+ * <p>
+ * Compressed (gzip or deflate) responses are asked for and decompressed as
+ * they are read.  Responses are revalidated with conditional requests against
+ * an optional {@link HttpCache}, which serves those that have not been
+ * modified.
+ * <p>
+ * Time spent waiting for a connection and connecting is recorded per host in
+ * optional {@link Metrics}.
+ * <p>
+ * Other protocols are opened directly, without limits.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class PooledHttpTransport implements Transport {
+
+  private final int                              maxConnections;
+  private final int                              connectTimeout;
+  private final int                              readTimeout;
+  private final HttpCache                        cache;
+  private final boolean                          compression;
+  private final Metrics                          metrics;
+
+  private final ConcurrentMap<String, Semaphore> hosts                = new ConcurrentHashMap<>(); // base URL -> connections
+
+  private static final String                    HTTP                 = "http";
+  private static final String                    CONNECTION           = "Connection";
+  private static final String                    KEEP_ALIVE           = "keep-alive";
+  private static final String                    ETAG                 = "ETag";
+  private static final String                    LAST_MODIFIED        = "Last-Modified";
+  private static final String                    IF_NONE_MATCH        = "If-None-Match";
+  private static final String                    IF_MODIFIED_SINCE    = "If-Modified-Since";
+  private static final String                    ACCEPT_ENCODING      = "Accept-Encoding";
+  private static final String                    GZIP                 = "gzip";
+  private static final String                    DEFLATE              = "deflate";
+  private static final String                    GZIP_DEFLATE         = GZIP + ", " + DEFLATE;
+  private static final int                       BUFFER_SIZE          = 1 << 13;
+  private static final int                       SKIP_LIMIT           = 1 << 16;  // do not drain large responses
+  private static final String                    CONNECTION_WAIT      = "connectionWait";
+  private static final String                    CONNECT              = "connect";
+
+  /**
+   * System property: org.ikankechil.eod3.io.PooledHttpTransport.maxConnections
+   * <p>
+   * maximum number of open connections to each host, default: 5, or the
+   * maximum concurrency of the <code>Converter</code> using it
+   */
+  private static final String                    MAX_CONNECTIONS      = PooledHttpTransport.class.getName() + ".maxConnections";
+  /**
+   * System property: org.ikankechil.eod3.io.PooledHttpTransport.connectTimeout
+   * <p>
+   * milliseconds, default: 30000
+   */
+  private static final String                    CONNECT_TIMEOUT      = PooledHttpTransport.class.getName() + ".connectTimeout";
+  /**
+   * System property: org.ikankechil.eod3.io.PooledHttpTransport.readTimeout
+   * <p>
+   * milliseconds, default: 60000
+   */
+  private static final String                    READ_TIMEOUT         = PooledHttpTransport.class.getName() + ".readTimeout";
+  /**
+   * System property: org.ikankechil.eod3.io.PooledHttpTransport.cacheDirectory
+   * <p>
+   * where responses are cached for conditional requests, default: none (no
+   * caching)
+   */
+  private static final String                    CACHE_DIRECTORY      = PooledHttpTransport.class.getName() + ".cacheDirectory";
+  /**
+   * System property: org.ikankechil.eod3.io.PooledHttpTransport.cacheSize
+   * <p>
+   * bytes, default: 268435456 (256MB)
+   */
+  private static final String                    CACHE_SIZE           = PooledHttpTransport.class.getName() + ".cacheSize";
+  /**
+   * System property: org.ikankechil.eod3.io.PooledHttpTransport.compression
+   * <p>
+   * ask for gzip or deflate compressed responses, default: true
+   */
+  private static final String                    COMPRESSION          = PooledHttpTransport.class.getName() + ".compression";
+
+  // JDK keep-alive cache size per host, read once on first use
+  private static final String                    HTTP_MAX_CONNECTIONS = "http.maxConnections";
+  private static final int                       JDK_MAX_CONNECTIONS  = 5;
+
+  private static final Logger                    logger               = LoggerFactory.getLogger(PooledHttpTransport.class);
+
+  public PooledHttpTransport() {
+    this(null);
+  }
+
+  /**
+   * @param metrics where connection waits and connect times are recorded, not
+   *          recorded if <code>null</code>
+   */
+  public PooledHttpTransport(final Metrics metrics) {
+    this(metrics, 5);
+  }
+
+  /**
+   * @param metrics where connection waits and connect times are recorded, not
+   *          recorded if <code>null</code>
+   * @param maxConnections per host, unless set by system property
+   *          org.ikankechil.eod3.io.PooledHttpTransport.maxConnections (e.g.
+   *          as many as the requests its user may have in flight)
+   */
+  public PooledHttpTransport(final Metrics metrics, final int maxConnections) {
+    this(Integer.getInteger(MAX_CONNECTIONS, maxConnections),
+         Integer.getInteger(CONNECT_TIMEOUT, 30000),
+         Integer.getInteger(READ_TIMEOUT, 60000),
+         newCache(),
+         metrics);
+  }
+
+  public PooledHttpTransport(final int maxConnections, final int connectTimeout, final int readTimeout) {
+    this(maxConnections, connectTimeout, readTimeout, null);
+  }
+
+  /**
+   * @param maxConnections per host
+   * @param connectTimeout milliseconds
+   * @param readTimeout milliseconds
+   * @param cache responses are not cached if <code>null</code>
+   */
+  public PooledHttpTransport(final int maxConnections,
+                             final int connectTimeout,
+                             final int readTimeout,
+                             final HttpCache cache) {
+    this(maxConnections, connectTimeout, readTimeout, cache, null);
+  }
+
+  /**
+   * @param maxConnections per host
+   * @param connectTimeout milliseconds
+   * @param readTimeout milliseconds
+   * @param cache responses are not cached if <code>null</code>
+   * @param metrics not recorded if <code>null</code>
+   */
+  public PooledHttpTransport(final int maxConnections,
+                             final int connectTimeout,
+                             final int readTimeout,
+                             final HttpCache cache,
+                             final Metrics metrics) {
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("Non-positive maximum connections: " + maxConnections);
+    }
+    if (connectTimeout < 0 || readTimeout < 0) {
+      throw new IllegalArgumentException("Negative timeout");
+    }
+    this.maxConnections = maxConnections;
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+    this.cache = cache;
+    this.metrics = metrics;
+    compression = Boolean.parseBoolean(System.getProperty(COMPRESSION, Boolean.TRUE.toString()));
+
+    // idle connections beyond the JDK's cache size are closed
+    final int cacheSize = Integer.getInteger(HTTP_MAX_CONNECTIONS, JDK_MAX_CONNECTIONS);
+    if (cacheSize < maxConnections) {
+      logger.info("Connections beyond {} per host will not be reused: set -D{}={}",
+                  cacheSize,
+                  HTTP_MAX_CONNECTIONS,
+                  maxConnections);
+    }
+    logger.debug("Maximum connections per host: {} (compression: {})", maxConnections, compression);
+  }
+
+  private static final HttpCache newCache() {
+    final String directory = System.getProperty(CACHE_DIRECTORY);
+    if (directory != null) {
+      try {
+        return new HttpCache(new File(directory), Long.getLong(CACHE_SIZE, 1L << 28));
+      }
+      catch (final IOException | IllegalArgumentException e) {
+        logger.warn("Responses will not be cached: {}", directory, e);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public InputStream open(final URL url) throws IOException {
+    if (!url.getProtocol().startsWith(HTTP)) {
+      return url.openStream();
+    }
+    return open(url, (cache == null) ? null : cache.lookUp(url), connectTimeout, connectTimeout, readTimeout);
+  }
+
+  @Override
+  public InputStream open(final URL url, final int timeout) throws IOException {
+    if (timeout <= 0) {
+      throw new IllegalArgumentException("Non-positive timeout: " + timeout);
+    }
+    if (!url.getProtocol().startsWith(HTTP)) {
+      return url.openStream();
+    }
+    return open(url,
+                (cache == null) ? null : cache.lookUp(url),
+                timeout,
+                shorter(connectTimeout, timeout),
+                shorter(readTimeout, timeout));
+  }
+
+  /**
+   * @return the shorter of <code>timeout</code> and <code>limit</code>, where
+   *         a timeout of zero is infinite
+   */
+  private static final int shorter(final int timeout, final int limit) {
+    return (timeout == 0) ? limit : Math.min(timeout, limit);
+  }
+
+  /**
+   * @param wait milliseconds to wait for a connection, zero to wait
+   *          indefinitely
+   */
+  private final InputStream open(final URL url,
+                                 final HttpCache.Validators cached,
+                                 final int wait,
+                                 final int connectTimeout,
+                                 final int readTimeout)
+      throws IOException {
+
+    final Semaphore connections = connections(url);
+    final Metrics.Scope host = (metrics == null) ? null : metrics.scope(url.getHost());
+    long start = System.nanoTime();
+    try {
+      if (wait == 0) {
+        connections.acquire();
+      }
+      else if (!connections.tryAcquire(wait, TimeUnit.MILLISECONDS)) {
+        throw new SocketTimeoutException("Timed out waiting for a connection to: " + url.getHost());
+      }
+    }
+    catch (final InterruptedException iE) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for a connection to: " + url.getHost());
+    }
+    if (host != null) {
+      host.time(CONNECTION_WAIT, System.nanoTime() - start);
+    }
+
+    PooledInputStream pooled = null;
+    try {
+      final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+      connection.setConnectTimeout(connectTimeout);
+      connection.setReadTimeout(readTimeout);
+      connection.setUseCaches(false);
+      connection.setRequestProperty(CONNECTION, KEEP_ALIVE);
+      if (compression) {
+        connection.setRequestProperty(ACCEPT_ENCODING, GZIP_DEFLATE);
+      }
+      if (cached != null) {
+        if (cached.etag() != null) {
+          connection.setRequestProperty(IF_NONE_MATCH, cached.etag());
+        }
+        if (cached.lastModified() != null) {
+          connection.setRequestProperty(IF_MODIFIED_SINCE, cached.lastModified());
+        }
+      }
+
+      // connect explicitly to tell connecting apart from waiting for a response
+      start = System.nanoTime();
+      connection.connect();
+      if (host != null) {
+        host.time(CONNECT, System.nanoTime() - start);
+      }
+
+      final int responseCode = connection.getResponseCode();
+      if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
+        drain(connection.getErrorStream());
+        throw new HttpResponseException(responseCode, url);
+      }
+      if (responseCode != HttpURLConnection.HTTP_NOT_MODIFIED || cached == null) {
+        pooled = new PooledInputStream(connection.getInputStream(), connections);
+        final InputStream response = decode(pooled, connection.getContentEncoding());
+        return (cache == null) ? response
+                               : cache.store(url,
+                                             connection.getHeaderField(ETAG),
+                                             connection.getHeaderField(LAST_MODIFIED),
+                                             response);
+      }
+      drain(connection.getInputStream());
+    }
+    catch (final IOException | RuntimeException e) {
+      if (pooled == null) {
+        connections.release();
+      }
+      else {
+        // e.g. a corrupt compressed response: closing releases the connection
+        try {
+          pooled.close();
+        }
+        catch (final IOException ioE) {
+          e.addSuppressed(ioE);
+        }
+      }
+      throw e;
+    }
+
+    // not modified
+    connections.release();
+    try {
+      final InputStream response = cache.open(cached);
+      logger.debug("Not modified: {}", url);
+      return response;
+    }
+    catch (final IOException ioE) {
+      logger.debug("Cached response lost: {}", url, ioE);
+      return open(url, null, wait, connectTimeout, readTimeout);
+    }
+  }
+
+  /**
+   * Decompresses <code>response</code> as it is read, according to its
+   * content encoding.  Empty responses are returned empty whatever their
+   * encoding, so that they are reported as such rather than as corrupt.
+   */
+  static final InputStream decode(final InputStream response, final String contentEncoding) throws IOException {
+    if (contentEncoding == null) {
+      return response;
+    }
+    final String encoding = contentEncoding.trim();
+    final boolean gzip = encoding.equalsIgnoreCase(GZIP) || encoding.equalsIgnoreCase("x-gzip");
+    if (!gzip && !encoding.equalsIgnoreCase(DEFLATE)) {
+      return response; // identity or unknown
+    }
+
+    // peek at the first two bytes, which GZIPInputStream would otherwise read
+    // eagerly and fail on if there are none
+    final PushbackInputStream pis = new PushbackInputStream(response, 2);
+    final int cmf = pis.read();
+    if (cmf < 0) {
+      return pis; // empty
+    }
+    final int flg = pis.read();
+    if (flg >= 0) {
+      pis.unread(flg);
+    }
+    pis.unread(cmf);
+
+    if (gzip) {
+      return new GZIPInputStream(pis, BUFFER_SIZE);
+    }
+    else {
+      // deflate should be zlib-wrapped but some servers send it raw
+      final boolean zlib = (cmf & 0x0F) == 8 && flg >= 0 && ((cmf << 8) | flg) % 31 == 0;
+      return new InflaterInputStream(pis, new Inflater(!zlib), BUFFER_SIZE) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          }
+          finally {
+            inf.end(); // not ended by InflaterInputStream when supplied
+          }
+        }
+      };
+    }
+  }
+
+  /**
+   * @return the cache of responses, or <code>null</code> if none
+   */
+  public HttpCache cache() {
+    return cache;
+  }
+
+  /**
+   * @param url
+   * @return number of connections that can still be opened to the host of
+   *         <code>url</code>
+   */
+  public int availableConnections(final URL url) {
+    return connections(url).availablePermits();
+  }
+
+  private final Semaphore connections(final URL url) {
+    final String baseURL = baseURL(url);
+    Semaphore connections = hosts.get(baseURL);
+    if (connections == null) {
+      final Semaphore newConnections = new Semaphore(maxConnections, true);
+      if ((connections = hosts.putIfAbsent(baseURL, newConnections)) == null) {
+        connections = newConnections;
+        logger.debug("New host: {}", baseURL);
+      }
+    }
+    return connections;
+  }
+
+  private static final String baseURL(final URL url) {
+    final int port = (url.getPort() < 0) ? url.getDefaultPort() : url.getPort();
+    return url.getProtocol() + "://" + url.getHost() + ':' + port;
+  }
+
+  private static final void drain(final InputStream stream) {
+    if (stream != null) {
+      try (final InputStream is = stream) {
+        long skipped = 0;
+        long n;
+        while (skipped < SKIP_LIMIT && (n = is.skip(SKIP_LIMIT)) > 0) {
+          skipped += n;
+        }
+        while (skipped < SKIP_LIMIT && is.read() >= 0) {
+          ++skipped;
+        }
+      }
+      catch (final IOException ioE) {
+        logger.debug("Connection not reusable", ioE);
+      }
+    }
+  }
+
+  private static final class PooledInputStream extends FilterInputStream {
+
+    private final Semaphore     connections;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    PooledInputStream(final InputStream in, final Semaphore connections) {
+      super(in);
+      this.connections = connections;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed.compareAndSet(false, true)) {
+        try {
+          drain(in);
+        }
+        finally {
+          connections.release();
+        }
+      }
+    }
+
+  }
+
+}
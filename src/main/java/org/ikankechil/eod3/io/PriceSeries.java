@@ -0,0 +1,295 @@
+/**
+ * PriceSeries.java  v0.1  18 October 2026 3:02:51 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.ikankechil.eod3.io.ColumnarFormat.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import org.ikankechil.eod3.io.ColumnarFormat.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only view of price and volume data written by
+ * <code>ColumnarWriter</code>, memory-mapped rather than read into the heap.
+ * <p>
+ * Rows are in reverse chronological order, so index 0 is the most recent.
+ * Prices and volumes are read straight from the mapped file.  Delta-encoded
+ * dates are decoded once on opening, as they cannot otherwise be accessed by
+ * index.
+ * <p>
+ * Instances are thread-safe: all access is by absolute index.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class PriceSeries {
+
+  private final String        symbol;
+  private final int           size;
+
+  private final IntBuffer     dates;
+  private final DoubleBuffer  opens;
+  private final DoubleBuffer  highs;
+  private final DoubleBuffer  lows;
+  private final DoubleBuffer  closes;
+  private final LongBuffer    volumes;
+
+  private static final Logger logger = LoggerFactory.getLogger(PriceSeries.class);
+
+  private PriceSeries(final String symbol,
+                      final IntBuffer dates,
+                      final DoubleBuffer opens,
+                      final DoubleBuffer highs,
+                      final DoubleBuffer lows,
+                      final DoubleBuffer closes,
+                      final LongBuffer volumes) {
+    this.symbol = symbol;
+    this.size = dates.remaining();
+    this.dates = dates;
+    this.opens = opens;
+    this.highs = highs;
+    this.lows = lows;
+    this.closes = closes;
+    this.volumes = volumes;
+  }
+
+  /**
+   * Memory-maps <code>file</code>.  The mapping remains valid after the
+   * underlying channel is closed and is released when no longer referenced.
+   *
+   * @param file a file in columnar format
+   * @return the price series
+   * @throws IOException if an I/O error occurs or <code>file</code> is not in
+   *           columnar format
+   */
+  public static final PriceSeries open(final File file) throws IOException {
+    final ByteBuffer buffer;
+    try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    }
+    final Header header = readHeader(buffer, file);
+    final int rows = header.rows;
+
+    // dates
+    final int datesOffset = buffer.position();
+    final IntBuffer dates;
+    if ((header.flags & DELTA_DATES) != 0 && rows > 0) {
+      final int[] decoded = new int[rows];
+      decoded[0] = buffer.getInt();
+      for (int i = 1; i < rows; ++i) {
+        decoded[i] = decoded[i - 1] + buffer.getShort();
+      }
+      dates = IntBuffer.wrap(decoded);
+    }
+    else {
+      dates = slice(buffer, datesOffset, rows * INT).asIntBuffer();
+    }
+
+    // prices and volumes
+    final int columnLength = rows * LONG;
+    int offset = align(datesOffset + datesLength(rows, header.flags));
+    final DoubleBuffer opens = slice(buffer, offset, columnLength).asDoubleBuffer();
+    final DoubleBuffer highs = slice(buffer, offset += columnLength, columnLength).asDoubleBuffer();
+    final DoubleBuffer lows = slice(buffer, offset += columnLength, columnLength).asDoubleBuffer();
+    final DoubleBuffer closes = slice(buffer, offset += columnLength, columnLength).asDoubleBuffer();
+    final LongBuffer volumes = slice(buffer, offset += columnLength, columnLength).asLongBuffer();
+
+    logger.debug("Mapped {} rows of {} from: {}", rows, header.symbol, file);
+    return new PriceSeries(header.symbol, dates, opens, highs, lows, closes, volumes);
+  }
+
+  private static final ByteBuffer slice(final ByteBuffer buffer, final int offset, final int length) {
+    final ByteBuffer duplicate = buffer.duplicate();
+    duplicate.limit(offset + length).position(offset);
+    return duplicate.slice().order(BYTE_ORDER);
+  }
+
+  public String symbol() {
+    return symbol;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index 0 being the most recent
+   * @return date as a YYYYMMDD integer
+   */
+  public int date(final int index) {
+    return dates.get(index);
+  }
+
+  public double open(final int index) {
+    return opens.get(index);
+  }
+
+  public double high(final int index) {
+    return highs.get(index);
+  }
+
+  public double low(final int index) {
+    return lows.get(index);
+  }
+
+  public double close(final int index) {
+    return closes.get(index);
+  }
+
+  public long volume(final int index) {
+    return volumes.get(index);
+  }
+
+  /**
+   * Searches for <code>date</code>.
+   *
+   * @param date YYYYMMDD
+   * @return index of <code>date</code>, if present; otherwise,
+   *         <code>(-(insertion point) - 1)</code>, where the insertion point is
+   *         the index of the first earlier date
+   */
+  public int indexOf(final int date) {
+    final int index = firstOnOrBefore(date);
+    return (index < size && dates.get(index) == date) ? index : -(index + 1);
+  }
+
+  /**
+   * Rows between <code>startDate</code> and <code>endDate</code>, both
+   * inclusive, sharing the mapping of this series.
+   *
+   * @param startDate YYYYMMDD
+   * @param endDate YYYYMMDD
+   * @return a price series, which may be empty
+   */
+  public PriceSeries range(final int startDate, final int endDate) {
+    if (startDate > endDate) {
+      throw new IllegalArgumentException("Start date (" + startDate + ") after end date (" + endDate + ")");
+    }
+    final int from = firstOnOrBefore(endDate);
+    final int to = firstOnOrBefore(startDate - 1);
+    return subSeries(from, to);
+  }
+
+  /**
+   * Rows from index <code>from</code>, inclusive, to index <code>to</code>,
+   * exclusive, sharing the mapping of this series.
+   *
+   * @param from
+   * @param to
+   * @return a price series, which may be empty
+   */
+  public PriceSeries subSeries(final int from, final int to) {
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", size: " + size);
+    }
+    return new PriceSeries(symbol,
+                           ((IntBuffer) dates.duplicate().limit(to).position(from)).slice(),
+                           slice(opens, from, to),
+                           slice(highs, from, to),
+                           slice(lows, from, to),
+                           slice(closes, from, to),
+                           ((LongBuffer) volumes.duplicate().limit(to).position(from)).slice());
+  }
+
+  private static final DoubleBuffer slice(final DoubleBuffer column, final int from, final int to) {
+    return ((DoubleBuffer) column.duplicate().limit(to).position(from)).slice();
+  }
+
+  /**
+   * @return read-only view of dates, for bulk scans
+   */
+  public IntBuffer dates() {
+    return dates.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return read-only view of opening prices, for bulk scans
+   */
+  public DoubleBuffer opens() {
+    return opens.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return read-only view of high prices, for bulk scans
+   */
+  public DoubleBuffer highs() {
+    return highs.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return read-only view of low prices, for bulk scans
+   */
+  public DoubleBuffer lows() {
+    return lows.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return read-only view of closing prices, for bulk scans
+   */
+  public DoubleBuffer closes() {
+    return closes.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return read-only view of volumes, for bulk scans
+   */
+  public LongBuffer volumes() {
+    return volumes.asReadOnlyBuffer();
+  }
+
+  /**
+   * Copies this series onto the heap.
+   *
+   * @return columns
+   */
+  public Prices toPrices() {
+    final int[] d = new int[size];
+    final double[] o = new double[size];
+    final double[] h = new double[size];
+    final double[] l = new double[size];
+    final double[] c = new double[size];
+    final long[] v = new long[size];
+    dates.duplicate().get(d);
+    opens.duplicate().get(o);
+    highs.duplicate().get(h);
+    lows.duplicate().get(l);
+    closes.duplicate().get(c);
+    volumes.duplicate().get(v);
+    return new Prices(symbol, d, o, h, l, c, v);
+  }
+
+  // binary search in reverse chronological order
+  private final int firstOnOrBefore(final int date) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (dates.get(middle) > date) {
+        low = middle + 1;
+      }
+      else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  @Override
+  public String toString() {
+    return symbol + " (" + size + " rows)";
+  }
+
+}
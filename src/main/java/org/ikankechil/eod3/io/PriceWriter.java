@@ -0,0 +1,38 @@
+/**
+ * PriceWriter.java  v0.1  18 October 2026 1:06:12 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Writes price and volume data of a symbol in a file format.
+ * <p>
+ * Implementations must have a public no-argument constructor to be
+ * selectable by class name.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public interface PriceWriter {
+
+  /**
+   * @return filename extension, including the leading dot, of files written
+   */
+  String fileExtension();
+
+  /**
+   * Writes MetaStock CSV lines (Symbol,YYYYMMDD,Open,High,Low,Close,Volume) to
+   * <code>destination</code>.
+   *
+   * @param lines the lines to be written, in reverse chronological order
+   * @param destination the destination <code>File</code>
+   * @throws IOException if an I/O error occurs
+   */
+  void write(final Collection<String> lines, final File destination) throws IOException;
+
+}
@@ -0,0 +1,90 @@
+/**
+ * Prices.java  v0.1  18 October 2026 1:14:30 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+/**
+ * Price and volume data of a symbol held in columns, in reverse chronological
+ * order.
+ * <p>
+ * Columns are exposed as is, without copying.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class Prices {
+
+  private final String   symbol;
+  private final int[]    dates;   // YYYYMMDD
+  private final double[] opens;
+  private final double[] highs;
+  private final double[] lows;
+  private final double[] closes;
+  private final long[]   volumes;
+
+  public Prices(final String symbol,
+                final int[] dates,
+                final double[] opens,
+                final double[] highs,
+                final double[] lows,
+                final double[] closes,
+                final long[] volumes) {
+    if (symbol == null) {
+      throw new NullPointerException("Null symbol");
+    }
+    final int size = dates.length;
+    if (opens.length != size ||
+        highs.length != size ||
+        lows.length != size ||
+        closes.length != size ||
+        volumes.length != size) {
+      throw new IllegalArgumentException("Columns of different lengths");
+    }
+
+    this.symbol = symbol;
+    this.dates = dates;
+    this.opens = opens;
+    this.highs = highs;
+    this.lows = lows;
+    this.closes = closes;
+    this.volumes = volumes;
+  }
+
+  public String symbol() {
+    return symbol;
+  }
+
+  public int size() {
+    return dates.length;
+  }
+
+  /**
+   * @return dates as YYYYMMDD integers
+   */
+  public int[] dates() {
+    return dates;
+  }
+
+  public double[] opens() {
+    return opens;
+  }
+
+  public double[] highs() {
+    return highs;
+  }
+
+  public double[] lows() {
+    return lows;
+  }
+
+  public double[] closes() {
+    return closes;
+  }
+
+  public long[] volumes() {
+    return volumes;
+  }
+
+}
@@ -0,0 +1,39 @@
+/**
+ * TextPriceWriter.java  v0.1  18 October 2026 1:09:47 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import org.ikankechil.eod3.FilenameConvention;
+import org.ikankechil.io.TextWriter;
+
+/**
+ * Writes price and volume data as MetaStock CSV text, the default format.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class TextPriceWriter implements PriceWriter {
+
+  private final TextWriter writer;
+
+  public TextPriceWriter() {
+    writer = new TextWriter();
+  }
+
+  @Override
+  public String fileExtension() {
+    return FilenameConvention.FILE_EXTENSION;
+  }
+
+  @Override
+  public void write(final Collection<String> lines, final File destination) throws IOException {
+    writer.write(lines, destination);
+  }
+
+}
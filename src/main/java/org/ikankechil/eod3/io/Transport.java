@@ -0,0 +1,47 @@
+/**
+ * Transport.java  v0.1  18 October 2026 4:05:16 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+/**
+ * Opens streams from URLs on behalf of a <code>Converter</code>.
+ * <p>
+ * Implementations must be thread-safe and have a public no-argument
+ * constructor to be selectable by class name.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public interface Transport {
+
+  /**
+   * Opens a stream from <code>url</code>.  Callers must close the stream, which
+   * may release the underlying connection for reuse.
+   *
+   * @param url
+   * @return an <code>InputStream</code>
+   * @throws IOException if an I/O error occurs
+   */
+  InputStream open(final URL url) throws IOException;
+
+  /**
+   * Opens a stream from <code>url</code>, waiting no longer than
+   * <code>timeout</code> to connect or for each read, so that a request cannot
+   * outlive the deadline of the task that made it.  The transport's own
+   * timeouts apply if shorter.
+   *
+   * @param url
+   * @param timeout milliseconds, positive
+   * @return an <code>InputStream</code>
+   * @throws IOException if an I/O error occurs, including a
+   *           <code>SocketTimeoutException</code> on timing out
+   */
+  InputStream open(final URL url, final int timeout) throws IOException;
+
+}
@@ -0,0 +1,41 @@
+/**
+ * URLTransport.java  v0.1  18 October 2026 4:08:40 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+
+import org.ikankechil.io.URLInputStreamFactory;
+
+/**
+ * Opens streams through <code>URLInputStreamFactory</code>, with no limits on
+ * connections.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class URLTransport implements Transport {
+
+  @Override
+  public InputStream open(final URL url) throws IOException {
+    return URLInputStreamFactory.newInputStream(url);
+  }
+
+  /**
+   * Opens <code>url</code> directly rather than through
+   * <code>URLInputStreamFactory</code>, which does not take timeouts.
+   */
+  @Override
+  public InputStream open(final URL url, final int timeout) throws IOException {
+    final URLConnection connection = url.openConnection();
+    connection.setConnectTimeout(timeout);
+    connection.setReadTimeout(timeout);
+    return connection.getInputStream();
+  }
+
+}
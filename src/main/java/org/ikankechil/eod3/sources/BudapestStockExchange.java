@@ -7,9 +7,8 @@ package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,12 +38,12 @@ class BudapestStockExchange extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
 
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
 
   }
 
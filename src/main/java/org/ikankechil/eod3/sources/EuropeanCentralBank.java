@@ -5,9 +5,8 @@
  */
 package org.ikankechil.eod3.sources;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 
 /**
@@ -36,12 +35,12 @@ class EuropeanCentralBank extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
 
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
 
   }
 
@@ -8,9 +8,8 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextReader;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
@@ -50,13 +49,13 @@ public class FXHistoricalData extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
@@ -72,12 +71,22 @@ public class FXHistoricalData extends Source {
     return new ZipTextReader();
   }
 
+  @Override
+  public boolean isPlainText() {
+    return false; // zipped
+  }
+
   @Override
   public TextTransformer newTransformer(final TextTransform transform) {
     // sort in descending / reverse chronological order
     return new TextTransformer(transform, ONE, true);
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // zipped and in chronological order
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
@@ -5,7 +5,6 @@
  */
 package org.ikankechil.eod3.sources;
 
-import static java.util.Calendar.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
@@ -16,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextReader;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
@@ -134,18 +134,18 @@ class Finam extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(START_DATE).append(start.get(DATE))
-       .append(START_MONTH).append(start.get(MONTH))
-       .append(START_YEAR).append(start.get(YEAR));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(START_DATE).append(start.day())
+       .append(START_MONTH).append(start.month() - ONE)
+       .append(START_YEAR).append(start.year());
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
-    url.append(END_DATE).append(end.get(DATE))
-       .append(END_MONTH).append(end.get(MONTH))
-       .append(END_YEAR).append(end.get(YEAR));
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
+    url.append(END_DATE).append(end.day())
+       .append(END_MONTH).append(end.month() - ONE)
+       .append(END_YEAR).append(end.year());
     logger.debug("End date: {}", url);
   }
 
@@ -163,6 +163,11 @@ class Finam extends Source {
     return new TextTransformer(transform, ONE, true);
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // in chronological order
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
@@ -5,20 +5,16 @@
  */
 package org.ikankechil.eod3.sources;
 
-import static java.util.Calendar.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.eod3.sources.FinancialContent.DateFormats.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.text.DateFormat;
 import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.EnumSet;
-import java.util.Locale;
 
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,7 +28,7 @@ import org.slf4j.LoggerFactory;
  */
 public class FinancialContent extends Source {
 
-  private final Calendar      today;
+  private final TradingDate   today;
 
   // Date-related URL parameters
   private static final String END_YEAR       = "&Year=";
@@ -57,7 +53,7 @@ public class FinancialContent extends Source {
       exchanges.put(exchange, EMPTY);
     }
 
-    today = Calendar.getInstance();
+    today = TradingDate.today();
   }
 
   @Override
@@ -71,12 +67,12 @@ public class FinancialContent extends Source {
 
   @Override
   void appendStartAndEndDates(final StringBuilder url,
-                              final Calendar start,
-                              final Calendar end) {
-    final int startMonth = start.get(MONTH) + ONE;
-    final int startYear = start.get(YEAR);
-    final int endMonth = end.get(MONTH) + ONE;
-    final int endYear = end.get(YEAR);
+                              final TradingDate start,
+                              final TradingDate end) {
+    final int startMonth = start.month();
+    final int startYear = start.year();
+    final int endMonth = end.month();
+    final int endYear = end.year();
     final int months = (endYear - startYear) * MONTHS_IN_YEAR + (endMonth - startMonth) + ONE;
     // e.g July 2000 - March 2001: (2001 - 2000) * 12 + (3 - 7) + 1
 
@@ -87,21 +83,21 @@ public class FinancialContent extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
 
   @Override
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     appendStartAndEndDates(url, DEFAULT_START, today);
     logger.debug("Default start and end dates appended: {}", url);
   }
@@ -116,10 +112,10 @@ public class FinancialContent extends Source {
     INPUT("MM/dd/yy"),
     OUTPUT("yyyyMMdd");
 
-    final DateFormat dateFormat;
+    final DateCodec dateCodec;
 
     DateFormats(final String pattern) {
-      dateFormat = new SimpleDateFormat(pattern, Locale.US);
+      dateCodec = new DateCodec(pattern);
     }
   }
 
@@ -144,18 +140,17 @@ public class FinancialContent extends Source {
         final int onePastFirstComma = ONE + findNth(COMMA, line, ONE, ZERO);
         if (onePastFirstComma > ZERO) {
           final ParsePosition pos = new ParsePosition(onePastFirstComma);
-          final Date date = INPUT.dateFormat.parse(line, pos);
-          if (date != null) {
+          final int date = INPUT.dateCodec.parse(line, pos);
+          if (date != DateCodec.UNPARSEABLE) {
             final int volumeComma = findNth(COMMA, line, SIX, pos.getIndex());
-            final char[] characters = new char[volumeComma - onePastFirstComma + ONE + symbol.length()];
+            final char[] characters = new char[volumeComma - pos.getIndex() + NINE + symbol.length()];
             // set row name, removing any hyphens (if any)
             int i = getChars(symbol, ZERO, symbol.length(), characters, ZERO);
             characters[i] = COMMA;
             // reformat and copy date
-            OUTPUT.dateFormat.format(date) // MM/dd/yy -> yyyyMMdd
-                             .getChars(ZERO, EIGHT, characters, ++i);
+            i = OUTPUT.dateCodec.format(date, characters, ++i); // MM/dd/yy -> yyyyMMdd
             // copy rest of line
-            line.getChars(pos.getIndex(), volumeComma, characters, i + EIGHT);
+            line.getChars(pos.getIndex(), volumeComma, characters, i);
             result = String.valueOf(characters);
           }
           else {
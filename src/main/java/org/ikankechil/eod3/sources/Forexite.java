@@ -8,9 +8,9 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.util.StringUtility.*;
 
 import java.net.MalformedURLException;
-import java.util.Calendar;
 
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextReader;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
@@ -58,13 +58,13 @@ class Forexite extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
@@ -79,11 +79,21 @@ class Forexite extends Source {
     return new ZipTextReader();
   }
 
+  @Override
+  public boolean isPlainText() {
+    return false; // zipped
+  }
+
   @Override
   public TextTransformer newTransformer(final TextTransform transform) {
     return new TextTransformer(transform, ONE, true);
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // zipped and in chronological order
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
@@ -5,9 +5,8 @@
  */
 package org.ikankechil.eod3.sources;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextReader;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.ZipTextReader;
@@ -31,13 +30,13 @@ class GainCapital extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // TODO Auto-generated method stub
 
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // TODO Auto-generated method stub
 
   }
@@ -53,6 +52,16 @@ class GainCapital extends Source {
     return new ZipTextReader();
   }
 
+  @Override
+  public boolean isPlainText() {
+    return false; // zipped
+  }
+
+  @Override
+  public boolean isStreamable() {
+    return false; // zipped
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     // TODO Auto-generated method stub
@@ -9,15 +9,12 @@ import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.eod3.sources.GoogleFinance.DateFormats.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.text.DateFormat;
 import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.EnumSet;
-import java.util.Locale;
 
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +31,7 @@ public class GoogleFinance extends Source {
   private static final String START_DATE        = "&startdate=";
   private static final String END_DATE          = "&enddate=";
 //  private static final String FREQUENCY         = "&histperiod=";
-  private static final String DEFAULT_START_STR = URL.dateFormat.format(DEFAULT_START.getTime());
+  private static final String DEFAULT_START_STR = URL.dateCodec.format(DEFAULT_START);
 
   // Exchange-related constants
   private static final String LON               = "LON:";
@@ -126,10 +123,10 @@ public class GoogleFinance extends Source {
     INPUT("d-MMM-yy"),
     OUTPUT("yyyyMMdd");
 
-    final DateFormat dateFormat;
+    final DateCodec dateCodec;
 
     DateFormats(final String pattern) {
-      dateFormat = new SimpleDateFormat(pattern, Locale.US);
+      dateCodec = new DateCodec(pattern);
     }
   }
 
@@ -143,21 +140,21 @@ public class GoogleFinance extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(START_DATE).append(URL.dateFormat.format(start.getTime()));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(START_DATE).append(URL.dateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
-    url.append(END_DATE).append(URL.dateFormat.format(end.getTime()));
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
+    url.append(END_DATE).append(URL.dateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
   @Override
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     // start date defaults to 1 January 1970
     url.append(START_DATE).append(DEFAULT_START_STR);
     logger.debug("Default start dates appended: {}", url);
@@ -187,22 +184,16 @@ public class GoogleFinance extends Source {
         String result = EMPTY;
 
         final ParsePosition pos = new ParsePosition(ZERO);
-        final Date date;
-        synchronized (INPUT.dateFormat) {
-          date = INPUT.dateFormat.parse(line, pos);
-        }
-        if (date != null) {
+        final int date = INPUT.dateCodec.parse(line, pos);
+        if (date != DateCodec.UNPARSEABLE) {
           final char[] characters = new char[symbol.length() + NINE + line.length() - pos.getIndex()];
           // set row name
           int i = getChars(symbol, ZERO, symbol.length(), characters, ZERO);
           characters[i] = COMMA;
           // reformat and copy date
-          synchronized (OUTPUT.dateFormat) {
-            OUTPUT.dateFormat.format(date) // d-MMM-yy -> yyyyMMdd
-                             .getChars(ZERO, EIGHT, characters, ++i);
-          }
+          i = OUTPUT.dateCodec.format(date, characters, ++i); // d-MMM-yy -> yyyyMMdd
           // copy rest of line
-          line.getChars(pos.getIndex(), line.length(), characters, i + EIGHT);
+          line.getChars(pos.getIndex(), line.length(), characters, i);
           result = String.valueOf(characters);
         }
         else {
@@ -7,12 +7,9 @@ package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Locale;
-
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +24,7 @@ import org.slf4j.LoggerFactory;
  */
 class Investopedia extends Source {
 
-  private final DateFormat    dateFormat = new SimpleDateFormat("MM/dd/yyyy", Locale.US);
+  private final DateCodec     dateCodec = new DateCodec("MM/dd/yyyy");
 
   // Date-related URL parameters
   private static final String START_DATE = "&StartDate=";
@@ -69,16 +66,16 @@ class Investopedia extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // &StartDate=01/01/2010
-    url.append(START_DATE).append(dateFormat.format(start.getTime()));
+    url.append(START_DATE).append(dateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // &EndDate=01/12/2016
-    url.append(END_DATE).append(dateFormat.format(end.getTime()));
+    url.append(END_DATE).append(dateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
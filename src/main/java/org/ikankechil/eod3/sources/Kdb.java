@@ -5,15 +5,13 @@
  */
 package org.ikankechil.eod3.sources;
 
-import static java.util.Calendar.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
-import org.ikankechil.io.TextTransformer;
 
 /**
  * A <code>Source</code> representing k-db.com.
@@ -52,12 +50,12 @@ public class Kdb extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(START_YEAR).append(start.get(YEAR));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(START_YEAR).append(start.year());
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // do nothing
   }
 
@@ -67,8 +65,8 @@ public class Kdb extends Source {
   }
 
   @Override
-  public TextTransformer newTransformer(final TextTransform transform) {
-    return new TextTransformer(transform, TWO, false);
+  public int skippedRows() {
+    return TWO;
   }
 
   @Override
@@ -104,4 +102,10 @@ public class Kdb extends Source {
     };
   }
 
+  @Override
+  public ByteTransform newByteTransform(final String symbol) {
+    // Date,Open,High,Low,Close,Volume,Value
+    return ByteTransform.isoDateColumns(symbol, FIVE);
+  }
+
 }
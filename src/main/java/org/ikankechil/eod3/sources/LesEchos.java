@@ -7,9 +7,8 @@ package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +21,7 @@ import org.slf4j.LoggerFactory;
  */
 class LesEchos extends Source {
 
-  private final Calendar      now;
+  private final TradingDate   now;
 
   // Date-related URL parameters
   private static final String START_OFFSET_MONTH = "&OFFSET_START_RANGE=-";
@@ -48,7 +47,7 @@ class LesEchos extends Source {
     exchanges.put(NYSE, XNYS);
     exchanges.put(PAR, XPAR);
 
-    now = Calendar.getInstance();
+    now = TradingDate.today();
 
     // e.g. http://bourse.lesechos.fr/bourse/details/donnees_histo.jsp?code=FR0000130007&place=XPAR&codif=ISIN&OFFSET_START_RANGE=-60&CODE_RESOLUTION=DAY
     //      http://bourse.lesechos.fr/bourse/details/donnees_histo.jsp?code=A&place=XNYS&codif=TICK&OFFSET_START_RANGE=-11&CODE_RESOLUTION=DAY
@@ -68,16 +67,16 @@ class LesEchos extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     final int offset =
-        ((now.get(Calendar.YEAR) - start.get(Calendar.YEAR)) * MONTHS_IN_YEAR) +
-        (now.get(Calendar.MONTH) - start.get(Calendar.MONTH));
+        ((now.year() - start.year()) * MONTHS_IN_YEAR) +
+        (now.month() - start.month());
     url.append(START_OFFSET_MONTH).append(offset);
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
@@ -7,12 +7,9 @@ package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Locale;
-
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +22,7 @@ import org.slf4j.LoggerFactory;
  */
 class MoneyControl extends Source {
 
-  private final DateFormat    urlDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+  private final DateCodec     urlDateCodec = new DateCodec("yyyy-MM-dd");
 
   // Date-related URL parameters
   private static final String START_DATE    = "&fdt=";
@@ -46,14 +43,14 @@ class MoneyControl extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(START_DATE).append(urlDateFormat.format(start.getTime()));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(START_DATE).append(urlDateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
-    url.append(END_DATE).append(urlDateFormat.format(end.getTime()));
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
+    url.append(END_DATE).append(urlDateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
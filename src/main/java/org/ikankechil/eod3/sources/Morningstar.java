@@ -8,15 +8,13 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Locale;
+import java.nio.ByteBuffer;
 
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
-import org.ikankechil.io.TextTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,7 +28,7 @@ import org.slf4j.LoggerFactory;
  */
 public class Morningstar extends Source {
 
-  private final DateFormat    dateFormat = new SimpleDateFormat("MM/dd/yyyy", Locale.US);
+  private final DateCodec     dateCodec = new DateCodec("MM/dd/yyyy");
   private final String        now;
 
   // Date-related URL parameters
@@ -89,6 +87,7 @@ public class Morningstar extends Source {
   private static final String XMEX       = "XMEX:";
 
   private static final String ZERO_STR   = "0";
+  private static final byte   ZERO_DIGIT = '0';
 
   private static final Logger logger     = LoggerFactory.getLogger(Morningstar.class);
 
@@ -146,7 +145,7 @@ public class Morningstar extends Source {
     exchanges.put(BCS, XSGO);
     exchanges.put(BMV, XMEX);
 
-    now = dateFormat.format(new Date());
+    now = dateCodec.format(TradingDate.today());
   }
 
   @Override
@@ -159,23 +158,23 @@ public class Morningstar extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // &sd=10/05/2014
-    url.append(START_DATE).append(dateFormat.format(start.getTime()));
+    url.append(START_DATE).append(dateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // &ed=12/25/2015
-    url.append(END_DATE).append(dateFormat.format(end.getTime()));
+    url.append(END_DATE).append(dateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
   @Override
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     appendStartDate(url, DEFAULT_START);
     url.append(END_DATE).append(now);
     logger.debug("Default start and end dates appended: {}", url);
@@ -190,8 +189,8 @@ public class Morningstar extends Source {
   }
 
   @Override
-  public TextTransformer newTransformer(final TextTransform transform) {
-    return new TextTransformer(transform, TWO, false);
+  public int skippedRows() {
+    return TWO;
   }
 
   @Override
@@ -248,4 +247,40 @@ public class Morningstar extends Source {
     };
   }
 
+  @Override
+  public ByteTransform newByteTransform(final String symbol) {
+    return new ByteTransform(symbol) {
+      @Override
+      public boolean transform(final byte[] line, final int from, final int to, final ByteBuffer output) {
+        // locate comma before volume
+        final int volumePosition = findNth(COMMA, line, FIVE, from + TEN, to) + ONE;
+        putSymbol(output);
+
+        // copy date
+        output.put(line, from + SIX, FOUR)   // year
+              .put(line, from, TWO)          // month
+              .put(line, from + THREE, TWO); // date
+
+        // copy OHLC
+        output.put(line, from + TEN, volumePosition - (from + TEN));
+
+        // copy volume
+        final int start = output.position();
+        for (int j = volumePosition; j < to; ++j) {
+          final byte b = line[j];
+          // filter double quotes (") and commas (,)
+          if ((b != DOUBLE_QUOTE) && (b != COMMA)) {
+            output.put(b);
+          }
+        }
+        // default to zero if volume is one or more non-digit characters
+        if ((output.position() == start) || !isDigit(output.get(start))) {
+          output.position(start);
+          output.put(ZERO_DIGIT);
+        }
+        return true;
+      }
+    };
+  }
+
 }
@@ -8,16 +8,14 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 import org.slf4j.Logger;
@@ -32,7 +30,7 @@ import org.slf4j.LoggerFactory;
  */
 public class MotleyFool extends Source {
 
-  private final DateFormat    urlDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+  private final DateCodec     urlDateCodec = new DateCodec("yyyy-MM-dd");
 
   // Date-related URL parameters
   private static final String START_DATE    = "&START_DATE=";
@@ -69,23 +67,23 @@ public class MotleyFool extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // &START_DATE=2014-06-01
-    url.append(START_DATE).append(urlDateFormat.format(start.getTime()));
+    url.append(START_DATE).append(urlDateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // &END_DATE=2014-06-03
-    url.append(END_DATE).append(urlDateFormat.format(end.getTime()));
+    url.append(END_DATE).append(urlDateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
   @Override
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     // start date defaults to 1 January 1970
     appendStartDate(url, DEFAULT_START);
     logger.debug("Default start and end dates appended: {}", url);
@@ -165,6 +163,11 @@ public class MotleyFool extends Source {
     };
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // HTML table rows span several lines
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
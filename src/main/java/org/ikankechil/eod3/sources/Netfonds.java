@@ -8,11 +8,13 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.util.Calendar;
+import java.nio.ByteBuffer;
 import java.util.EnumSet;
 import java.util.Set;
 
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -99,13 +101,13 @@ public class Netfonds extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
@@ -145,4 +147,22 @@ public class Netfonds extends Source {
     };
   }
 
+  @Override
+  public ByteTransform newByteTransform(final String symbol) {
+    return new ByteTransform(symbol) {
+      @Override
+      public boolean transform(final byte[] line, final int from, final int to, final ByteBuffer output) {
+        // locate last and third commas
+        final int last = findNthLast(COMMA, line, ONE, from, to);
+        final int third = findNth(COMMA, line, THREE, from + EIGHT, to);
+        putSymbol(output);
+        // copy date
+        output.put(line, from, EIGHT);
+        // copy OHLCV
+        output.put(line, third, last - third);
+        return true;
+      }
+    };
+  }
+
 }
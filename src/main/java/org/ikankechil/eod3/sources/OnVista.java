@@ -7,13 +7,11 @@ package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.List;
-import java.util.Locale;
 
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 import org.slf4j.Logger;
@@ -38,7 +36,7 @@ class OnVista extends Source {
     System.out.println(lines);
   }
 
-  private final DateFormat    dateFormat = new SimpleDateFormat("dd.MM.yyyy", Locale.US);
+  private final DateCodec     dateCodec = new DateCodec("dd.MM.yyyy");
 
   private static final String START_DATE = "&dateStart=";
 
@@ -60,14 +58,14 @@ class OnVista extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // &dateStart=15.01.2015
-    url.append(START_DATE).append(dateFormat.format(start.getTime()));
+    url.append(START_DATE).append(dateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // TODO Auto-generated method stub
 
   }
@@ -82,6 +80,11 @@ class OnVista extends Source {
     return new TextTransformer(transform, ONE, true);
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // in chronological order
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
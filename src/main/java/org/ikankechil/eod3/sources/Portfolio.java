@@ -7,9 +7,8 @@ package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
 
-import java.util.Calendar;
-
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 
@@ -37,13 +36,13 @@ class Portfolio extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // TODO Auto-generated method stub
 
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // TODO Auto-generated method stub
 
   }
@@ -60,6 +59,11 @@ class Portfolio extends Source {
     return new TextTransformer(transform, THREE, true);
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // in chronological order
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     // TODO Auto-generated method stub
@@ -8,12 +8,13 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Locale;
+import java.text.ParsePosition;
 
+import org.ikankechil.eod3.CorporateActions;
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,7 +38,7 @@ public class Quandl extends Source {
 
   private final String        authenticationToken;
   private final API           urlQueryKeys;
-  private final DateFormat    urlDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+  private final DateCodec     urlDateCodec = new DateCodec("yyyy-MM-dd");
 
   // Authentication token / API key property: org.ikankechil.eod3.sources.Quandl.apiKey
   private static final String AUTH_TOKEN    = System.getProperty(Quandl.class.getName() + ".apiKey");
@@ -130,14 +131,14 @@ public class Quandl extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(urlQueryKeys.startDate).append(urlDateFormat.format(start.getTime()));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(urlQueryKeys.startDate).append(urlDateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
-    url.append(urlQueryKeys.endDate).append(urlDateFormat.format(end.getTime()));
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
+    url.append(urlQueryKeys.endDate).append(urlDateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
@@ -193,4 +194,69 @@ public class Quandl extends Source {
     };
   }
 
+  @Override
+  public boolean hasCorporateActions() {
+    return true;
+  }
+
+  @Override
+  public TextTransform newTransform(final String symbol, final CorporateActions actions) {
+    final TextTransform transform = newTransform(symbol);
+    return new TextTransform() {
+      @Override
+      public String transform(final String line) {
+        recordCorporateActions(symbol, line, actions);
+        return transform.transform(line);
+      }
+    };
+  }
+
+  /**
+   * Records the Ex-Dividend and Split Ratio columns of <code>line</code>
+   * unless they are 0 and 1 respectively.
+   */
+  private static final void recordCorporateActions(final String symbol,
+                                                   final String line,
+                                                   final CorporateActions actions) {
+    // Date,Open,High,Low,Close,Volume,Ex-Dividend,Split Ratio,...
+    final int dividend = findNth(COMMA, line, SIX, TEN) + ONE;
+    final int split = line.indexOf(COMMA, dividend) + ONE;
+    if (dividend <= ZERO || split <= ZERO) {
+      return; // no corporate actions, e.g. FX
+    }
+    int end = line.indexOf(COMMA, split);
+    if (end < ZERO) {
+      end = line.length();
+    }
+
+    final double exDividend;
+    final double splitRatio;
+    try {
+      exDividend = Double.parseDouble(line.substring(dividend, split - ONE));
+      splitRatio = Double.parseDouble(line.substring(split, end));
+    }
+    catch (final NumberFormatException nfE) {
+      logger.warn("Corporate action with unparseable dividend or split ratio ignored: {}", line);
+      return;
+    }
+    if (splitRatio <= ZERO) {
+      logger.warn("Corporate action with invalid split ratio ignored: {}", line);
+      return;
+    }
+    if (exDividend != ZERO || splitRatio != ONE) {
+      final int date = DateCodec.ISO.parse(line, new ParsePosition(ZERO));
+      if (date == DateCodec.UNPARSEABLE) {
+        logger.warn("Corporate action with unparseable date ignored: {}", line);
+        return;
+      }
+      actions.record(symbol, TradingDate.valueOf(date), exDividend, splitRatio);
+    }
+  }
+
+  @Override
+  public ByteTransform newByteTransform(final String symbol) {
+    // Date,Open,High,Low,Close,Volume,Ex-Dividend,Split Ratio,...
+    return ByteTransform.isoDateColumns(symbol, FIVE);
+  }
+
 }
@@ -5,14 +5,15 @@
  */
 package org.ikankechil.eod3.sources;
 
-import static java.util.Calendar.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.util.Calendar;
+import java.nio.ByteBuffer;
 import java.util.EnumSet;
 
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -160,25 +161,25 @@ public class QuoteMedia extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(START_DATE).append(start.get(DATE))
-       .append(START_MONTH).append(start.get(MONTH) + 1)
-       .append(START_YEAR).append(start.get(YEAR));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(START_DATE).append(start.day())
+       .append(START_MONTH).append(start.month())
+       .append(START_YEAR).append(start.year());
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
-    url.append(END_DATE).append(end.get(DATE))
-       .append(END_MONTH).append(end.get(MONTH) + 1)
-       .append(END_YEAR).append(end.get(YEAR));
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
+    url.append(END_DATE).append(end.day())
+       .append(END_MONTH).append(end.month())
+       .append(END_YEAR).append(end.year());
     logger.debug("End date: {}", url);
   }
 
   @Override
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     url.append(MAX_YEARS);
     logger.debug("Maximum number of years requested: {}", url);
   }
@@ -218,4 +219,19 @@ public class QuoteMedia extends Source {
     };
   }
 
+  @Override
+  public ByteTransform newByteTransform(final String symbol) {
+    return new ByteTransform(symbol) {
+      @Override
+      public boolean transform(final byte[] line, final int from, final int to, final ByteBuffer output) {
+        final int comma = findNthLast(COMMA, line, FIVE, from, to);
+        putSymbol(output);
+        putISODate(line, from, output);
+        // copy OHLCV
+        output.put(line, from + TEN, comma - (from + TEN));
+        return true;
+      }
+    };
+  }
+
 }
@@ -21,7 +21,12 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
+import org.ikankechil.eod3.CorporateActions;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.Interval;
+import org.ikankechil.eod3.RateLimiter;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextReader;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
@@ -52,10 +57,15 @@ public abstract class Source {
   private final String                     base;
   private final boolean                    isRFC2396Compliant;
   final Map<Exchanges, String>             exchanges;
+  private final RateLimiter                rateLimiter;
 
   // Properties and constants
   private static final String              PROPERTIES_FILE   = "eod3.properties";
   private static final String              BASE_URL          = ".baseURL";
+  // e.g. org.ikankechil.eod3.sources.Quandl.requestsPerSecond=2
+  //      org.ikankechil.eod3.sources.Quandl.burst=5
+  private static final String              REQUESTS_PER_SEC  = ".requestsPerSecond";
+  private static final String              BURST             = ".burst";
 
   private static final String              UTF_8             = "UTF-8";
   static final String                      UNSUPPORTED       = "Unsupported operation";
@@ -93,21 +103,21 @@ public abstract class Source {
 
   static final char                        DEFAULT_FREQUENCY = Frequencies.DAILY.frequency();
   /**
-   * Start date defaults to 1 January 1970 00:00:00.000 GMT.
+   * Start date defaults to 1 January 1970 in every time zone.  It used to be
+   * 1 January 1970 00:00:00.000 GMT in the default time zone, i.e. 31 December
+   * 1969 west of GMT.
    */
-  static final Calendar                    DEFAULT_START     = Calendar.getInstance();
+  static final TradingDate                 DEFAULT_START     = TradingDate.EPOCH;
 
   private static final Map<String, String> BASE_URLS         = new HashMap<>();
+  private static final Properties          PROPERTIES        = new Properties();
 
   private static final Logger              logger            = LoggerFactory.getLogger(Source.class);
 
   static {
-    DEFAULT_START.setTimeInMillis(ZERO); // 1 January 1970 00:00:00.000 GMT
-
     // register source base URLs
     try (final InputStream is = new FileInputStream(PROPERTIES_FILE)) {
-      final Properties properties = new Properties();
-      properties.load(is);
+      PROPERTIES.load(is);
 
       for (final Class<? extends Source> source : Arrays.asList(FinancialContent.class,
                                                                 FXHistoricalData.class,
@@ -125,7 +135,7 @@ public abstract class Source {
                                                                 YahooFinance.class)) {
         final String sourceName = source.getName();
         final String key = sourceName + BASE_URL;
-        final String url = properties.getProperty(key, System.getProperty(key));
+        final String url = property(key);
 
         if (url != null && !url.isEmpty()) {
           BASE_URLS.put(sourceName, url);
@@ -151,6 +161,30 @@ public abstract class Source {
     this.base = base;
     isRFC2396Compliant = true;
     exchanges = new EnumMap<>(Exchanges.class);
+    rateLimiter = newRateLimiter(getClass().getName());
+  }
+
+  private static final RateLimiter newRateLimiter(final String sourceName) {
+    final String requestsPerSecond = property(sourceName + REQUESTS_PER_SEC);
+    if (requestsPerSecond == null || requestsPerSecond.isEmpty()) {
+      return null;
+    }
+
+    try {
+      final String burst = property(sourceName + BURST);
+      final RateLimiter rateLimiter = new RateLimiter(Double.parseDouble(requestsPerSecond),
+                                                      (burst == null || burst.isEmpty()) ? ONE : Integer.parseInt(burst));
+      logger.info("Rate limit for {}: {}", sourceName, rateLimiter);
+      return rateLimiter;
+    }
+    catch (final IllegalArgumentException iaE) { // including NumberFormatException
+      logger.warn("Bad rate limit for: {}", sourceName, iaE);
+      return null;
+    }
+  }
+
+  private static final String property(final String key) {
+    return PROPERTIES.getProperty(key, System.getProperty(key));
   }
 
   /**
@@ -193,6 +227,33 @@ public abstract class Source {
                  final Calendar start,
                  final Calendar end,
                  final Frequencies frequency) throws MalformedURLException {
+    return url(newURLBuilder(symbol, exchange),
+               TradingDate.of(start),
+               TradingDate.of(end),
+               frequency);
+  }
+
+  /**
+   * Builds a <code>URL</code> for the specified symbol over
+   * <code>interval</code>.  Named apart from the <code>url</code> overloads so
+   * that calls to <code>url(symbol, null, null)</code> remain unambiguous.
+   *
+   * @param symbol
+   * @param exchange
+   * @param interval
+   * @return
+   * @throws MalformedURLException if no protocol is specified, or an unknown protocol is found
+   */
+  public URL intervalUrl(final String symbol,
+                         final Exchanges exchange,
+                         final Interval interval) throws MalformedURLException {
+    return url(newURLBuilder(symbol, exchange),
+               interval.start(),
+               interval.end(),
+               interval.frequency());
+  }
+
+  private final StringBuilder newURLBuilder(final String symbol, final Exchanges exchange) {
     if (symbol.isEmpty() ||
         symbol.trim().isEmpty()) {
       throw new IllegalArgumentException("Empty symbol");
@@ -200,8 +261,14 @@ public abstract class Source {
     final StringBuilder urlBuilder = new StringBuilder(base);
     // symbol may not be RFC 2396-compliant
     appendSymbolAndExchange(urlBuilder, symbol, exchange);
+    return urlBuilder;
+  }
 
-    if (start != null && end != null && start.before(end)) {
+  private final URL url(final StringBuilder urlBuilder,
+                        final TradingDate start,
+                        final TradingDate end,
+                        final Frequencies frequency) throws MalformedURLException {
+    if (start != null && end != null && !start.isAfter(end)) {
       appendStartAndEndDates(urlBuilder, start, end);
     }
     else {
@@ -245,15 +312,15 @@ public abstract class Source {
   }
 
   void appendStartAndEndDates(final StringBuilder url,
-                              final Calendar start,
-                              final Calendar end) {
+                              final TradingDate start,
+                              final TradingDate end) {
     appendStartDate(url, start);
     appendEndDate(url, end);
   }
 
-  abstract void appendStartDate(final StringBuilder url, final Calendar start);
+  abstract void appendStartDate(final StringBuilder url, final TradingDate start);
 
-  abstract void appendEndDate(final StringBuilder url, final Calendar end);
+  abstract void appendEndDate(final StringBuilder url, final TradingDate end);
 
   /**
    * Appends default start and end dates if the data source requires it and none
@@ -264,8 +331,8 @@ public abstract class Source {
    * @param end
    */
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     // do nothing
     logger.debug(UNSUPPORTED);
   }
@@ -289,16 +356,92 @@ public abstract class Source {
     return Collections.unmodifiableSet(exchanges.keySet());
   }
 
+  /**
+   * Rate limit on requests to this source, configured in eod3.properties or as
+   * system properties by <code>&lt;source class&gt;.requestsPerSecond</code>
+   * and, optionally, <code>&lt;source class&gt;.burst</code> (default: 1).
+   *
+   * @return the rate limiter, or <code>null</code> if requests are not limited
+   */
+  public RateLimiter rateLimiter() {
+    return rateLimiter;
+  }
+
   public TextReader newReader() {
     return new TextReader();
   }
 
+  /**
+   * Indicates whether readers of this source read plain text, which can then
+   * be read from any stream, rather than decode data (e.g. unzip) from
+   * streams of their own.
+   *
+   * @return <code>true</code> by default
+   */
+  public boolean isPlainText() {
+    return true;
+  }
+
   public TextTransformer newTransformer(final TextTransform transform) {
-    return new TextTransformer(transform, ONE, false);
+    return new TextTransformer(transform, skippedRows(), false);
+  }
+
+  /**
+   * @return number of leading rows (e.g. column headings) preceding the data
+   */
+  public int skippedRows() {
+    return ONE;
+  }
+
+  /**
+   * Indicates whether data from this source can be transformed and written one
+   * line at a time as it is read, i.e. it is plain text with one row per line
+   * in reverse chronological order.
+   *
+   * @return <code>true</code> by default
+   */
+  public boolean isStreamable() {
+    return true;
   }
 
   public abstract TextTransform newTransform(final String symbol);
 
+  /**
+   * Indicates whether data from this source includes dividends and splits,
+   * which transforms from {@link #newTransform(String, CorporateActions)}
+   * record.
+   *
+   * @return <code>false</code> by default
+   */
+  public boolean hasCorporateActions() {
+    return false;
+  }
+
+  /**
+   * Creates a transform that also records the dividends and splits in each
+   * line it transforms.
+   *
+   * @param symbol
+   * @param actions where corporate actions are recorded
+   * @return {@link #newTransform(String)} by default, ignoring
+   *         <code>actions</code>
+   */
+  public TextTransform newTransform(final String symbol, final CorporateActions actions) {
+    return newTransform(symbol);
+  }
+
+  /**
+   * Creates a transform operating directly on the raw bytes read, avoiding
+   * decoding and per-line allocation when streaming.
+   *
+   * @param symbol
+   * @return a byte-level equivalent of {@link #newTransform(String)}, or
+   *         <code>null</code> if not supported
+   */
+  public ByteTransform newByteTransform(final String symbol) {
+    return null;
+  }
+
   public String directory() {
     return getClass().getSimpleName();
   }
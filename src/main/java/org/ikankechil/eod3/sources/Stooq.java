@@ -5,13 +5,12 @@
  */
 package org.ikankechil.eod3.sources;
 
-import static java.util.Calendar.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.util.Calendar;
-
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 import org.slf4j.Logger;
@@ -68,29 +67,19 @@ public class Stooq extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     appendDate(url, START_DATE, start);
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     appendDate(url, END_DATE, end);
     logger.debug("End date: {}", url);
   }
 
-  private static final void appendDate(final StringBuilder url, final String parameter, final Calendar calendar) {
-    url.append(parameter).append(calendar.get(YEAR));
-    final int month = calendar.get(MONTH) + ONE;
-    if (month < TEN) {
-      url.append(ZERO);
-    }
-    url.append(month);
-    final int date = calendar.get(DATE);
-    if (date < TEN) {
-      url.append(ZERO);
-    }
-    url.append(date);
+  private static final void appendDate(final StringBuilder url, final String parameter, final TradingDate date) {
+    DateCodec.YYYYMMDD.format(date.toInt(), url.append(parameter));
   }
 
   @Override
@@ -107,6 +96,11 @@ public class Stooq extends Source {
     return new TextTransformer(transform, ONE, true);
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // in chronological order
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
@@ -8,16 +8,14 @@ package org.ikankechil.eod3.sources;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.eod3.sources.WallStreetJournal.DateFormats.*;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Locale;
 
+import org.ikankechil.eod3.DateCodec;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 import org.slf4j.Logger;
@@ -166,10 +164,10 @@ public class WallStreetJournal extends Source {
     INPUT("MM/dd/yy"),
     OUTPUT("yyyyMMdd");
 
-    final DateFormat dateFormat;
+    final DateCodec dateCodec;
 
     DateFormats(final String pattern) {
-      dateFormat = new SimpleDateFormat(pattern, Locale.US);
+      dateCodec = new DateCodec(pattern);
     }
   }
 
@@ -195,25 +193,25 @@ public class WallStreetJournal extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
     // &startDate=01/18/1970
-    url.append(START_DATE).append(URL.dateFormat.format(start.getTime()));
+    url.append(START_DATE).append(URL.dateCodec.format(start));
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
     // &endDate=05/14/2014
-    url.append(END_DATE).append(URL.dateFormat.format(end.getTime()));
+    url.append(END_DATE).append(URL.dateCodec.format(end));
     logger.debug("End date: {}", url);
   }
 
   @Override
   void appendDefaultDates(final StringBuilder url,
-                          final Calendar start,
-                          final Calendar end) {
+                          final TradingDate start,
+                          final TradingDate end) {
     appendStartDate(url, DEFAULT_START);
-    appendEndDate(url, Calendar.getInstance());
+    appendEndDate(url, TradingDate.today());
     logger.debug("Default start and end dates appended: {}", url);
   }
 
@@ -268,6 +266,11 @@ public class WallStreetJournal extends Source {
     };
   }
 
+  @Override
+  public boolean isStreamable() {
+    return false; // HTML table rows span several lines
+  }
+
   @Override
   public TextTransform newTransform(final String symbol) {
     return new TextTransform() {
@@ -302,9 +305,8 @@ public class WallStreetJournal extends Source {
         // concatenate segments
         final StringBuilder builder = new StringBuilder(symbol).append(COMMA);
         try {
-          final String date = OUTPUT.dateFormat.format(INPUT.dateFormat.parse(line.substring(ds, de))); // MM/dd/yy -> yyyyMMdd
-          builder.append(date)
-                 .append(COMMA);
+          OUTPUT.dateCodec.format(INPUT.dateCodec.parse(line.subSequence(ds, de)), builder) // MM/dd/yy -> yyyyMMdd
+                          .append(COMMA);
           builder.append(line.substring(os, oe))                // open
                  .append(COMMA);
           builder.append(line.substring(hs, he))                // high
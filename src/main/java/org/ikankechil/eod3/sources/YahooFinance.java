@@ -5,14 +5,14 @@
  */
 package org.ikankechil.eod3.sources;
 
-import static java.util.Calendar.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.ikankechil.util.StringUtility.*;
 
-import java.util.Calendar;
 import java.util.EnumSet;
 
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -122,18 +122,18 @@ public class YahooFinance extends Source {
   }
 
   @Override
-  void appendStartDate(final StringBuilder url, final Calendar start) {
-    url.append(START_MONTH).append(start.get(MONTH))
-       .append(START_DATE).append(start.get(DATE))
-       .append(START_YEAR).append(start.get(YEAR));
+  void appendStartDate(final StringBuilder url, final TradingDate start) {
+    url.append(START_MONTH).append(start.month() - ONE)
+       .append(START_DATE).append(start.day())
+       .append(START_YEAR).append(start.year());
     logger.debug("Start date: {}", url);
   }
 
   @Override
-  void appendEndDate(final StringBuilder url, final Calendar end) {
-    url.append(END_MONTH).append(end.get(MONTH))
-       .append(END_DATE).append(end.get(DATE))
-       .append(END_YEAR).append(end.get(YEAR));
+  void appendEndDate(final StringBuilder url, final TradingDate end) {
+    url.append(END_MONTH).append(end.month() - ONE)
+       .append(END_DATE).append(end.day())
+       .append(END_YEAR).append(end.year());
     logger.debug("End date: {}", url);
   }
 
@@ -186,4 +186,10 @@ public class YahooFinance extends Source {
     };
   }
 
+  @Override
+  public ByteTransform newByteTransform(final String symbol) {
+    // Date,Open,High,Low,Close,Volume,Adj Close
+    return ByteTransform.isoDateColumns(symbol, FIVE);
+  }
+
 }
@@ -49,6 +49,8 @@ public class EOD3 { // TODO v1.2 allow -f with -u and -m
   private final OptionSpec<Void>        download;
   private final OptionSpec<Void>        update;
   private final OptionSpec<Void>        merge;
+  private final OptionSpec<Void>        resample;
+  private final OptionSpec<Void>        adjust;
 
   // parameters
   private final OptionSpec<File>        outputDir;
@@ -81,6 +83,8 @@ public class EOD3 { // TODO v1.2 allow -f with -u and -m
     // -x exchange
     // -u update
     // -m merge output files
+    // -r resample daily output files into weekly and monthly files
+    // -a adjust daily output files for dividends and splits
     parser = new OptionParser();
 
     // Configuring command-line options
@@ -93,10 +97,12 @@ public class EOD3 { // TODO v1.2 allow -f with -u and -m
     download = parser.accepts("d", "Download only, no conversion");
     update = parser.accepts("u", "Update");
     merge = parser.accepts("m", "Merge output files");
+    resample = parser.accepts("r", "Resample daily output files into weekly and monthly files");
+    adjust = parser.accepts("a", "Adjust daily output files for recorded dividends and splits");
 
     // parameters
     outputDir = parser.accepts("o", "Output directory")
-                      .requiredIf(update, merge)
+                      .requiredIf(update, merge, resample, adjust)
                       .withRequiredArg()
                       .ofType(File.class);
     endDate = parser.accepts("e", "Interval end date")
@@ -110,7 +116,7 @@ public class EOD3 { // TODO v1.2 allow -f with -u and -m
                       .withRequiredArg()
                       .ofType(Frequencies.class);
     exchange = parser.accepts("x", "Exchange " + Arrays.asList(Exchanges.values()))
-                     .requiredUnless(inputSymbolsFile, update, merge)
+                     .requiredUnless(inputSymbolsFile, update, merge, resample, adjust)
                      .withRequiredArg()
                      .ofType(Exchanges.class);
 
@@ -148,9 +154,11 @@ public class EOD3 { // TODO v1.2 allow -f with -u and -m
       final List<String> symbols = (List<String>) options.nonOptionArguments(); // symbols / files
 
       if (symbols.isEmpty()) {
-        // update and / or merge
+        // update and / or merge, then resample and / or adjust
         final boolean hasUpdate = options.has(update);
         final boolean hasMerge = options.has(merge);
+        final boolean hasResample = options.has(resample);
+        final boolean hasAdjust = options.has(adjust);
         if (hasUpdate && !hasMerge) {
           // -o <outputDir> -u
           // illegal: -i -d -s -e -f
@@ -172,14 +180,33 @@ public class EOD3 { // TODO v1.2 allow -f with -u and -m
           converter.update(outputParentDirectory);
           destinations.add(converter.merge(outputParentDirectory));
         }
-        else {
-          // neither update nor merge
+        else if (!hasResample && !hasAdjust) {
+          // neither update, merge, resample nor adjust
           throw new IllegalArgumentException("Missing symbol(s)");
         }
+
+        if (hasResample) {
+          // -o <outputDir> [-u] [-m] -r
+          // illegal: -i -d -s -e -f
+          checkIllegalOptions(options, inputSymbolsFile, download, startDate, endDate, frequency, exchange);
+          final File resampled = converter.resample(options.valueOf(outputDir));
+          if (destinations.isEmpty()) {
+            destinations.add(resampled);
+          }
+        }
+        if (hasAdjust) {
+          // -o <outputDir> [-u] [-m] [-r] -a
+          // illegal: -i -d -s -e -f
+          checkIllegalOptions(options, inputSymbolsFile, download, startDate, endDate, frequency, exchange);
+          final File adjusted = converter.adjust(options.valueOf(outputDir));
+          if (destinations.isEmpty()) {
+            destinations.add(adjusted);
+          }
+        }
       }
       else {
         // symbol files or symbols
-        checkIllegalOptions(options, update, merge);
+        checkIllegalOptions(options, update, merge, resample, adjust);
 
         final Interval interval = newInterval(options);
         final File outputDirectory = options.valueOf(outputDir);
@@ -0,0 +1,125 @@
+/**
+ * AdjusterTest.java  v0.1  18 October 2026 7:21:36 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.ikankechil.eod3.TestFiles.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>Adjuster</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class AdjusterTest {
+
+  @Rule
+  public TemporaryFolder            folder   = new TemporaryFolder();
+
+  private final Adjuster            adjuster = new Adjuster();
+  private CorporateActions          actions;
+
+  private static final String       SYMBOL   = "INTC";
+  private static final List<String> DAILY    = Arrays.asList("INTC,20151204,20,22,19,21,100",
+                                                             "INTC,20151203,40,42,38,40,50",
+                                                             "INTC,20151202,41,43,39,42,60");
+
+  @Before
+  public void setUp() throws Exception {
+    actions = CorporateActions.load(folder.getRoot().toPath());
+  }
+
+  @Test
+  public void skipSymbolsWithoutActions() throws Exception {
+    actions.record("AAPL", TradingDate.of(2015, 12, 3), 0, 7);
+    final File daily = write(folder, "INTC_d.csv", DAILY);
+    assertFalse(adjuster.isAdjustable(daily, actions));
+    assertEquals(daily, adjuster.adjust(daily, actions));
+    assertFalse(new File(folder.getRoot(), "INTC_d_adj.csv").exists());
+  }
+
+  @Test
+  public void copyEarlierRowsWithoutNewActions() throws Exception {
+    actions.record(SYMBOL, TradingDate.of(2015, 12, 3), 1, 1);
+    final File daily = write(folder, "INTC_d.csv", DAILY);
+    final File adjusted = adjuster.adjust(daily, actions);
+    assertEquals("INTC_d_adj.csv", adjusted.getName());
+    final List<String> earlier = read(adjusted);
+
+    final List<String> lines = new ArrayList<>();
+    lines.add("INTC,20151207,10,11,9,10,300");
+    lines.addAll(DAILY);
+    write(folder, daily.getName(), lines);
+    assertEquals(adjusted, adjuster.adjust(daily, actions));
+    final List<String> expected = new ArrayList<>();
+    expected.add("INTC,20151207,10,11,9,10,300");
+    expected.addAll(earlier);
+    assertEquals(expected, read(adjusted));
+  }
+
+  @Test
+  public void adjustForSplitsAndDividends() throws Exception {
+    actions.record(SYMBOL, TradingDate.of(2015, 12, 4), 0, 2);
+    actions.record(SYMBOL, TradingDate.of(2015, 12, 3), 1, 1);
+    actions.record("AAPL", TradingDate.of(2015, 12, 3), 0, 7);
+    assertEquals(Arrays.asList("INTC,20151204,20,22,19,21,100",
+                               "INTC,20151203,20,21,19,20,100",
+                               "INTC,20151202,20.011905,20.988095,19.035714,20.5,120"),
+                 read(adjuster.adjust(write(folder, "INTC_d.csv", DAILY), actions)));
+  }
+
+  @Test
+  public void adjustIncrementally() throws Exception {
+    actions.record(SYMBOL, TradingDate.of(2015, 12, 3), 1, 1);
+    final File daily = write(folder, "INTC_d.csv", DAILY);
+    final File adjusted = adjuster.adjust(daily, actions);
+    assertEquals(Arrays.asList("INTC,20151204,20,22,19,21,100",
+                               "INTC,20151203,40,42,38,40,50",
+                               "INTC,20151202,40.02381,41.97619,38.071429,41,60"),
+                 read(adjusted));
+
+    // only new actions rescale earlier rows, which are already rounded
+    final List<String> lines = new ArrayList<>();
+    lines.add("INTC,20151207,10,11,9,10,300");
+    lines.addAll(DAILY);
+    write(folder, daily.getName(), lines);
+    actions.record(SYMBOL, TradingDate.of(2015, 12, 7), 0, 2);
+    adjuster.adjust(daily, actions);
+    assertEquals(Arrays.asList("INTC,20151207,10,11,9,10,300",
+                               "INTC,20151204,10,11,9.5,10.5,200",
+                               "INTC,20151203,20,21,19,20,100",
+                               "INTC,20151202,20.011905,20.988095,19.035715,20.5,120"),
+                 read(adjusted));
+  }
+
+  @Test
+  public void deferActionsBeyondData() throws Exception {
+    actions.record(SYMBOL, TradingDate.of(2015, 12, 7), 0, 2);
+    final File daily = write(folder, "INTC_d.csv", DAILY);
+    assertEquals(DAILY, read(adjuster.adjust(daily, actions)));
+
+    final List<String> lines = new ArrayList<>();
+    lines.add("INTC,20151207,10,11,9,10,300");
+    lines.addAll(DAILY);
+    write(folder, daily.getName(), lines);
+    assertEquals(Arrays.asList("INTC,20151207,10,11,9,10,300",
+                               "INTC,20151204,10,11,9.5,10.5,200",
+                               "INTC,20151203,20,21,19,20,100",
+                               "INTC,20151202,20.5,21.5,19.5,21,120"),
+                 read(adjuster.adjust(daily, actions)));
+  }
+
+}
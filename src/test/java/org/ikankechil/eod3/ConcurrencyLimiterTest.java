@@ -0,0 +1,142 @@
+/**
+ * ConcurrencyLimiterTest.java  v0.1  18 October 2026 5:58:09 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.ikankechil.eod3.ConcurrencyLimiter.Outcome;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JUnit test for <code>ConcurrencyLimiter</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ConcurrencyLimiterTest {
+
+  @Rule
+  public ExpectedException  thrown        = ExpectedException.none();
+
+  private static final long LATENCY_LIMIT = 1000;  // milliseconds
+  private static final long FAST          = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW          = TimeUnit.MILLISECONDS.toNanos(LATENCY_LIMIT + 1);
+
+  @Test
+  public void cannotInstantiateWithNonPositiveMaxLimit() {
+    thrown.expect(IllegalArgumentException.class);
+    new ConcurrencyLimiter(1, 0, LATENCY_LIMIT);
+  }
+
+  @Test
+  public void cannotInstantiateWithNonPositiveLatencyLimit() {
+    thrown.expect(IllegalArgumentException.class);
+    new ConcurrencyLimiter(1, 1, 0);
+  }
+
+  @Test
+  public void initialLimitWithinBounds() {
+    assertEquals(1, new ConcurrencyLimiter(0, 10, LATENCY_LIMIT).limit());
+    assertEquals(10, new ConcurrencyLimiter(20, 10, LATENCY_LIMIT).limit());
+  }
+
+  @Test
+  public void increaseAdditivelyOnSuccess() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 4, LATENCY_LIMIT);
+    for (int i = 0; i < 10; ++i) {
+      limiter.acquire();
+      limiter.acquire();
+      limiter.release(FAST, Outcome.SUCCESS);
+      limiter.release(FAST, Outcome.SUCCESS);
+    }
+    assertEquals(4, limiter.limit());  // capped
+    assertEquals(0, limiter.inFlight());
+  }
+
+  @Test
+  public void doNotIncreaseWhenUnderused() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 16, LATENCY_LIMIT);
+    limiter.acquire();
+    limiter.release(FAST, Outcome.SUCCESS);
+    assertEquals(8, limiter.limit());
+  }
+
+  @Test
+  public void decreaseMultiplicativelyOnDrop() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 16, LATENCY_LIMIT);
+    limiter.acquire();
+    limiter.release(FAST, Outcome.DROPPED);
+    assertEquals(4, limiter.limit());
+
+    limiter.acquire();
+    limiter.release(SLOW, Outcome.SUCCESS);
+    assertEquals(2, limiter.limit());
+
+    for (int i = 0; i < 3; ++i) {
+      limiter.acquire();
+      limiter.release(FAST, Outcome.DROPPED);
+    }
+    assertEquals(1, limiter.limit());
+  }
+
+  @Test
+  public void decreaseOncePerRoundOfRequests() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 16, LATENCY_LIMIT);
+    for (int i = 0; i < 8; ++i) {
+      limiter.acquire();
+    }
+    // a burst of drops of requests sent under the same limit
+    for (int i = 0; i < 8; ++i) {
+      limiter.release(FAST, Outcome.DROPPED);
+    }
+    assertEquals(4, limiter.limit());
+
+    // requests sent after the decrease can decrease it again
+    limiter.acquire();
+    limiter.release(SLOW, Outcome.SUCCESS);
+    assertEquals(2, limiter.limit());
+  }
+
+  @Test
+  public void ignoreOtherFailures() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 4, LATENCY_LIMIT);
+    limiter.acquire();
+    limiter.release(FAST, Outcome.IGNORED);
+    assertEquals(2, limiter.limit());
+  }
+
+  @Test
+  public void waitForRequestsInFlight() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, LATENCY_LIMIT);
+    limiter.acquire();
+
+    final CountDownLatch acquired = new CountDownLatch(1);
+    final Thread waiter = new Thread() {
+      @Override
+      public void run() {
+        try {
+          limiter.acquire();
+          acquired.countDown();
+        }
+        catch (final InterruptedException iE) {
+          // do nothing
+        }
+      }
+    };
+    waiter.start();
+    assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+    limiter.release(FAST, Outcome.SUCCESS);
+    assertTrue(acquired.await(5, TimeUnit.SECONDS));
+    assertEquals(1, limiter.inFlight());
+  }
+
+}
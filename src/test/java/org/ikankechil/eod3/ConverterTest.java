@@ -0,0 +1,703 @@
+/**
+ * ConverterTest.java  v0.1  18 October 2026 12:04:27 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.ikankechil.eod3.TestFiles.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ikankechil.eod3.ConcurrencyLimiter.Outcome;
+import org.ikankechil.eod3.io.HttpResponseException;
+import org.ikankechil.eod3.io.SymbolsReader;
+import org.ikankechil.eod3.io.Transport;
+import org.ikankechil.eod3.sources.Exchanges;
+import org.ikankechil.eod3.sources.Quandl;
+import org.ikankechil.io.TextTransform;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>Converter</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ConverterTest {
+
+  @Rule
+  public ExpectedException          thrown = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder            folder = new TemporaryFolder();
+
+  private static Converter          converter;
+
+  private static final String       COMPACTION_THRESHOLD = Converter.class.getName() + ".compactionThreshold";
+  private static final String       RETRIES              = Converter.class.getName() + ".retries";
+  private static final String       RETRY_DELAY          = Converter.class.getName() + ".retryDelay";
+  private static final String       VIRTUAL_THREADS      = Converter.class.getName() + ".virtualThreads";
+  private static final String       TASK_TIMEOUT         = Converter.class.getName() + ".taskTimeout";
+  private static final String       TRACE                = Converter.class.getName() + ".trace";
+
+  private static final List<String> TARGET = Arrays.asList("INTC,20151204,34.11,35.03,34.00,34.94,24484400",
+                                                           "INTC,20151203,34.97,34.99,34.00,34.04,29829200",
+                                                           "INTC,20151202,35.09,35.41,34.81,34.83,18644100",
+                                                           "INTC,20151201,35.00,35.20,34.71,35.09,23352200");
+
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception {
+    converter = new Converter(new Quandl());
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception {
+    converter.stop();
+  }
+
+  @Test
+  public void cannotMergeEmptySource() throws Exception {
+    final File src = folder.newFile("INTC_20151207-20151208.csv");
+    final File target = write(folder, "INTC.csv", TARGET);
+
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Empty source file");
+    converter.merge(src, target);
+  }
+
+  @Test
+  public void mergeNewerLines() throws Exception {
+    final File src = write(folder, "INTC_20151207-20151208.csv",
+                                   Arrays.asList("INTC,20151208,33.50,34.00,33.40,33.90,20000000",
+                                                 "INTC,20151207,34.00,34.50,33.80,34.10,21000000"));
+    final File target = write(folder, "INTC.csv", TARGET);
+
+    assertEquals(target, converter.merge(src, target));
+    assertEquals(Arrays.asList("INTC,20151208,33.50,34.00,33.40,33.90,20000000",
+                               "INTC,20151207,34.00,34.50,33.80,34.10,21000000",
+                               TARGET.get(0),
+                               TARGET.get(1),
+                               TARGET.get(2),
+                               TARGET.get(3)),
+                 read(target));
+  }
+
+  @Test
+  public void mergeOverlappingLinesFavouringSource() throws Exception {
+    final File src = write(folder, "INTC_20151203-20151207.csv",
+                                   Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000",
+                                                 "",
+                                                 "INTC,20151204,34.11,35.03,34.00,34.94,24484401",
+                                                 "INTC,20151203,34.97,34.99,34.00,34.04,29829201"));
+    final File target = write(folder, "INTC.csv", TARGET);
+
+    converter.merge(src, target);
+    assertEquals(Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000",
+                               "INTC,20151204,34.11,35.03,34.00,34.94,24484401",
+                               "INTC,20151203,34.97,34.99,34.00,34.04,29829201",
+                               TARGET.get(2),
+                               TARGET.get(3)),
+                 read(target));
+  }
+
+  @Test
+  public void mergeInterleavedLines() throws Exception {
+    final File src = write(folder, "INTC_20151130-20151203.csv",
+                                   Arrays.asList("INTC,20151203,34.97,34.99,34.00,34.04,29829201",
+                                                 "INTC,20151130,34.55,34.90,34.43,34.77,20131700"));
+    final File target = write(folder, "INTC.csv", TARGET);
+
+    converter.merge(src, target);
+    assertEquals(Arrays.asList(TARGET.get(0),
+                               "INTC,20151203,34.97,34.99,34.00,34.04,29829201",
+                               TARGET.get(2),
+                               TARGET.get(3),
+                               "INTC,20151130,34.55,34.90,34.43,34.77,20131700"),
+                 read(target));
+  }
+
+  @Test
+  public void mergeUnsortedLines() throws Exception {
+    final File src = write(folder, "INTC_20151130-20151207.csv",
+                                   Arrays.asList("INTC,20151130,34.55,34.90,34.43,34.77,20131700",
+                                                 "INTC,20151207,34.00,34.50,33.80,34.10,21000000"));
+    final File target = write(folder, "INTC.csv", TARGET);
+
+    converter.merge(src, target);
+    assertEquals(Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000",
+                               TARGET.get(0),
+                               TARGET.get(1),
+                               TARGET.get(2),
+                               TARGET.get(3),
+                               "INTC,20151130,34.55,34.90,34.43,34.77,20131700"),
+                 read(target));
+  }
+
+  @Test
+  public void mergeLeavesNoTemporaryFiles() throws Exception {
+    final File src = write(folder, "INTC_20151207-20151207.csv",
+                                   Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000"));
+    final File target = write(folder, "INTC.csv", TARGET);
+
+    converter.merge(src, target);
+    assertEquals(2, folder.getRoot().list().length);
+  }
+
+  @Test
+  public void mergeDirectoryWithSeveralUpdateFiles() throws Exception {
+    final File target = write(folder, "INTC.csv", TARGET);
+    write(folder, "INTC_20151205-20151207.csv", Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000"));
+    write(folder, "INTC_20151207-20151208.csv", Arrays.asList("INTC,20151208,33.50,34.00,33.40,33.90,20000000",
+                                                              "INTC,20151207,34.00,34.50,33.80,34.10,21000001"));
+    write(folder, "CSCO_20151201-20151204.csv", Arrays.asList("CSCO,20151204,27.01,27.36,26.81,27.30,21000000"));
+
+    assertEquals(folder.getRoot(), converter.merge(folder.getRoot()));
+    assertEquals(Arrays.asList("INTC,20151208,33.50,34.00,33.40,33.90,20000000",
+                               "INTC,20151207,34.00,34.50,33.80,34.10,21000001",
+                               TARGET.get(0),
+                               TARGET.get(1),
+                               TARGET.get(2),
+                               TARGET.get(3)),
+                 read(target));
+    assertEquals(Arrays.asList("CSCO,20151204,27.01,27.36,26.81,27.30,21000000"),
+                 read(new File(folder.getRoot(), "CSCO.csv")));
+    assertEquals(2, folder.getRoot().list().length);
+  }
+
+  @Test
+  public void keepManifestCurrentOnMerge() throws Exception {
+    final File target = write(folder, "INTC.csv", TARGET);
+    final File update = write(folder, "INTC_20151205-20151207.csv",
+                                      Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000"));
+    final UpdateManifest manifest = UpdateManifest.load(folder.getRoot().toPath());
+    manifest.record(target.toPath(), TARGET.get(0), TARGET.size());
+    manifest.record(update.toPath(), "INTC,20151207,34.00,34.50,33.80,34.10,21000000", 1);
+    manifest.save();
+
+    converter.merge(folder.getRoot());
+    final UpdateManifest merged = UpdateManifest.load(folder.getRoot().toPath());
+    assertEquals(1, merged.size());
+    final UpdateManifest.Record record = merged.get(target.toPath());
+    assertEquals("20151207", record.date);
+    assertEquals(TARGET.size() + 1, record.rows);
+  }
+
+  @Test
+  public void deferMergeBelowCompactionThreshold() throws Exception {
+    final File target = write(folder, "INTC.csv", TARGET);
+    final File src = write(folder, "INTC_20151207-20151207.csv",
+                                   Arrays.asList("INTC,20151207,34.00,34.50,33.80,34.10,21000000"));
+
+    System.setProperty(COMPACTION_THRESHOLD, "2");
+    final Converter appender = new Converter(new Quandl());
+    try {
+      appender.merge(folder.getRoot());
+      assertTrue(src.exists());
+      assertEquals(TARGET, read(target));
+
+      write(folder, "INTC_20151208-20151208.csv", Arrays.asList("INTC,20151208,33.50,34.00,33.40,33.90,20000000"));
+      appender.merge(folder.getRoot());
+      assertFalse(src.exists());
+      assertEquals(TARGET.size() + 2, read(target).size());
+    }
+    finally {
+      System.clearProperty(COMPACTION_THRESHOLD);
+      appender.stop();
+    }
+  }
+
+  @Test
+  public void findUpdateFilesMostRecentFirst() throws Exception {
+    final File earlier = write(folder, "INTC_20151205-20151207.csv", TARGET);
+    final File later = write(folder, "INTC_20151208-20151209.csv", TARGET);
+    final File weekly = write(folder, "INTC_20151201-20151209_w.csv", TARGET);
+    write(folder, "INTC.csv", TARGET);
+
+    final Map<Path, List<Path>> updateFiles = Converter.findUpdateFiles(folder.getRoot().toPath());
+    assertEquals(2, updateFiles.size());
+    assertEquals(Arrays.asList(later.toPath(), earlier.toPath()),
+                 updateFiles.get(new File(folder.getRoot(), "INTC.csv").toPath()));
+    assertEquals(Arrays.asList(weekly.toPath()),
+                 updateFiles.get(new File(folder.getRoot(), "INTC_w.csv").toPath()));
+  }
+
+  @Test
+  public void updateByInterval() throws Exception {
+    final List<String> csco = Arrays.asList("CSCO,20151204,27.01,27.36,26.81,27.30,21000000");
+    final List<String> msft = Arrays.asList("MSFT,20151204,55.79,56.23,55.38,56.23,25000000");
+    final List<String> aapl = Arrays.asList("AAPL,20151204,115.29,119.25,115.11,119.03,57000000");
+    final File nasdaq = folder.newFolder("NASDAQ");
+    Files.write(new File(nasdaq, "INTC_d.csv").toPath(), TARGET, StandardCharsets.UTF_8);
+    Files.write(new File(nasdaq, "CSCO_d.csv").toPath(), csco, StandardCharsets.UTF_8);
+    Files.write(new File(nasdaq, "MSFT_d.csv").toPath(), msft, StandardCharsets.UTF_8);
+    Files.write(new File(nasdaq, "AAPL_d.csv").toPath(),
+                Arrays.asList("AAPL,20151203,116.55,116.79,114.22,115.20,41000000"),
+                StandardCharsets.UTF_8);
+
+    // every response carries the requested symbol only
+    final FlakyTransport transport = new FlakyTransport(0, 0) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        requests.incrementAndGet();
+        final StringBuilder lines = new StringBuilder("Symbol,Date,Open,High,Low,Close,Volume\n");
+        for (final String line : Arrays.asList(TARGET.get(0), csco.get(0), msft.get(0), aapl.get(0))) {
+          if (url.toString().contains(line.substring(0, line.indexOf(',')))) {
+            lines.append(line).append('\n');
+          }
+        }
+        return new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8));
+      }
+    };
+    final Converter updater = new Converter(new Quandl() {
+      @Override
+      public TextTransform newTransform(final String symbol) {
+        return new TextTransform() {
+          @Override
+          public String transform(final String line) {
+            return line;
+          }
+        };
+      }
+    }, null, null, transport);
+    try {
+      updater.update(folder.getRoot());
+      // INTC, CSCO and MSFT share an interval, AAPL has its own, but each
+      // symbol is requested on its own
+      assertEquals(4, transport.requests.get());
+
+      final Map<Path, List<Path>> updateFiles = Converter.findUpdateFiles(folder.getRoot().toPath());
+      assertEquals(4, updateFiles.size());
+      assertEquals(csco, read(updateFiles.get(new File(nasdaq, "CSCO_d.csv").toPath()).get(0).toFile()));
+      assertEquals(msft, read(updateFiles.get(new File(nasdaq, "MSFT_d.csv").toPath()).get(0).toFile()));
+      assertEquals(aapl, read(updateFiles.get(new File(nasdaq, "AAPL_d.csv").toPath()).get(0).toFile()));
+      assertEquals(TARGET.subList(0, 1), read(updateFiles.get(new File(nasdaq, "INTC_d.csv").toPath()).get(0).toFile()));
+    }
+    finally {
+      updater.stop();
+    }
+  }
+
+  @Test
+  public void retryTransientFailures() throws Exception {
+    final FlakyTransport transport = new FlakyTransport(2, 503);
+    final Converter retrier = newRetrier(transport);
+    try {
+      final List<File> files = retrier.download(Arrays.asList("INTC"), Exchanges.NASDAQ, Interval.SINCE_INCEPTION, folder.getRoot());
+      assertEquals(1, files.size());
+      assertEquals(TARGET, read(files.get(0)));
+      assertEquals(3, transport.requests.get());
+    }
+    finally {
+      retrier.stop();
+    }
+  }
+
+  @Test
+  public void doNotRetryPermanentFailures() throws Exception {
+    final FlakyTransport transport = new FlakyTransport(Integer.MAX_VALUE, 404);
+    final Converter retrier = newRetrier(transport);
+    try {
+      assertTrue(retrier.download(Arrays.asList("INTC"), Exchanges.NASDAQ, Interval.SINCE_INCEPTION, folder.getRoot()).isEmpty());
+      assertEquals(1, transport.requests.get());
+    }
+    finally {
+      retrier.stop();
+    }
+  }
+
+  @Test
+  public void measureRequests() throws Exception {
+    final FlakyTransport transport = new FlakyTransport(2, 503) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        if (url.toString().contains("CSCO")) {
+          throw new HttpResponseException(404, url);
+        }
+        return super.open(url);
+      }
+    };
+    final Converter retrier = newRetrier(transport);
+    try {
+      retrier.download(Arrays.asList("INTC", "CSCO"), Exchanges.NASDAQ, Interval.SINCE_INCEPTION, folder.getRoot());
+      final Metrics.Scope scope = retrier.metrics().scope(new Quandl().directory(), Exchanges.NASDAQ);
+      assertEquals(2, scope.counter("retries"));
+      assertEquals(1, scope.counter("requests"));
+      long bytes = 0;
+      for (final String line : TARGET) {
+        bytes += line.length() + 1;
+      }
+      assertEquals(bytes, scope.counter("bytes"));
+      assertEquals(1, scope.counter("failures.HTTP 404"));
+      assertEquals(2, scope.histogram("queueWait").count());
+      assertEquals(1, scope.histogram("timeToFirstByte").count());
+    }
+    finally {
+      retrier.stop();
+    }
+  }
+
+  @Test
+  public void traceTasks() throws Exception {
+    final File symbols = write(folder, "Symbols.csv", Arrays.asList("NASDAQ,CSCO,INTC"));
+    System.setProperty(TRACE, Boolean.TRUE.toString());
+    final Converter tracer;
+    try {
+      tracer = newRetrier(new FlakyTransport(0, 0));
+    }
+    finally {
+      System.clearProperty(TRACE);
+    }
+    try {
+      final File directory = tracer.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      final String trace = new String(Files.readAllBytes(new File(directory, Tracer.FILENAME).toPath()),
+                                      StandardCharsets.UTF_8);
+      for (final String span : Arrays.asList("queued", "url", "limitWait", "request", "transfer", "CSCO", "INTC")) {
+        assertTrue(span, trace.contains("{\"name\":\"" + span + "\""));
+      }
+    }
+    finally {
+      tracer.stop();
+    }
+  }
+
+  @Test
+  public void recordFailuresByExchange() throws Exception {
+    final File symbols = write(folder, "Symbols.csv", Arrays.asList("NASDAQ,INTC", "LSE,INTC"));
+    final Converter retrier = newRetrier(new FlakyTransport(0, 0) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        if (url.toString().contains("LSE")) {
+          throw new HttpResponseException(404, url);
+        }
+        return super.open(url);
+      }
+    });
+    try {
+      final File directory = retrier.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      assertEquals(Collections.singletonMap("LSE", Collections.singleton("INTC")),
+                   new SymbolsReader().read(new File(directory, Converter.FAILURES)));
+    }
+    finally {
+      retrier.stop();
+    }
+  }
+
+  @Test
+  public void recordFailuresForResumption() throws Exception {
+    final File symbols = write(folder, "Symbols.csv", Arrays.asList("NASDAQ,CSCO,INTC"));
+    final Converter retrier = newRetrier(new FlakyTransport(Integer.MAX_VALUE, 404) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        return url.toString().contains("INTC") ? super.open(url) : new ByteArrayInputStream(new byte[] { '1' });
+      }
+    });
+    try {
+      final File directory = retrier.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      final File failures = new File(directory, Converter.FAILURES);
+      assertEquals(Collections.singletonMap("NASDAQ", Collections.singleton("INTC")),
+                   new SymbolsReader().read(failures));
+
+      // resume
+      write(folder, "Symbols.csv", Arrays.asList("NASDAQ,CSCO"));
+      retrier.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      assertFalse(failures.exists());
+    }
+    finally {
+      retrier.stop();
+    }
+  }
+
+  @Test
+  public void tempFilesHaveDefaultPermissions() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    Assume.assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null);
+    final Set<PosixFilePermission> defaults = Files.getPosixFilePermissions(Files.createFile(directory.resolve("INTC_d.csv")));
+    final Path tmp = Converter.newTempFile(directory.resolve("INTC_d.csv"));
+    assertEquals(defaults, Files.getPosixFilePermissions(tmp));
+    assertTrue(tmp.getFileName().toString().startsWith("INTC_d.csv."));
+    assertNotEquals(tmp, Converter.newTempFile(directory.resolve("INTC_d.csv")));
+  }
+
+  @Test
+  public void discardJournalOfCompletedRuns() throws Exception {
+    final File symbols = write(folder, "Symbols.csv", Arrays.asList("NASDAQ,CSCO,INTC,MSFT"));
+    final Converter failing = newRetrier(new FlakyTransport(Integer.MAX_VALUE, 404) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        return url.toString().contains("INTC") ? super.open(url) : new FlakyTransport(0, 0).open(url);
+      }
+    });
+    final File directory;
+    try {
+      directory = failing.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+    }
+    finally {
+      failing.stop();
+    }
+    // permanent failures are recorded for re-runs rather than journalled
+    assertFalse(new File(directory, RunJournal.FILENAME).exists());
+    assertTrue(new File(directory, Converter.FAILURES).exists());
+
+    // redo every symbol
+    final FlakyTransport transport = new FlakyTransport(0, 0);
+    final Converter rerunning = newRetrier(transport);
+    try {
+      rerunning.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      assertEquals(3, transport.requests.get());
+    }
+    finally {
+      rerunning.stop();
+    }
+  }
+
+  @Test
+  public void resumeFromJournal() throws Exception {
+    final File symbols = write(folder, "Symbols.csv", Arrays.asList("NASDAQ,CSCO,INTC,MSFT"));
+    final File directory = new File(folder.getRoot(), new Quandl().directory());
+    final File journal = new File(directory, RunJournal.FILENAME);
+
+    // the run is cut short while INTC is in progress, once the other symbols
+    // are journalled
+    final Thread runner = Thread.currentThread();
+    System.setProperty(RETRIES, "20");
+    final Converter interrupted;
+    try {
+      interrupted = newRetrier(new FlakyTransport(0, 0) {
+        @Override
+        public InputStream open(final URL url) throws IOException {
+          if (url.toString().contains("INTC")) {
+            // header and the other symbols, else retry later
+            if (Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8).size() < 3) {
+              throw new HttpResponseException(503, url);
+            }
+            runner.interrupt();
+            // fail only once the runner has been interrupted while waiting
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (runner.isInterrupted() && System.nanoTime() < deadline) {
+              Thread.yield();
+            }
+            throw new IOException("Cut short");
+          }
+          return super.open(url);
+        }
+      });
+    }
+    finally {
+      System.clearProperty(RETRIES);
+    }
+    try {
+      interrupted.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      fail("Not cut short");
+    }
+    catch (final InterruptedException iE) {
+      // expected
+    }
+    finally {
+      Thread.interrupted();
+      interrupted.stop();
+    }
+    assertTrue(journal.exists());
+
+    // redo only the symbol not written
+    final FlakyTransport transport = new FlakyTransport(0, 0);
+    final Converter resuming = newRetrier(transport);
+    try {
+      resuming.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      assertEquals(1, transport.requests.get());
+      assertFalse(journal.exists());
+      // and leave no temporary files behind
+      assertEquals(new HashSet<>(Arrays.asList("CSCO_d.csv", "INTC_d.csv", "MSFT_d.csv")),
+                   new HashSet<>(Arrays.asList(new File(directory, "NASDAQ").list())));
+    }
+    finally {
+      resuming.stop();
+    }
+  }
+
+  @Test
+  public void timeOutStuckSymbolsOnly() throws Exception {
+    final File symbols = write(folder, "Symbols.csv", Arrays.asList("NASDAQ,CSCO,INTC,MSFT"));
+
+    System.setProperty(TASK_TIMEOUT, "200");
+    final Converter converter = newRetrier(new FlakyTransport(0, 0) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        if (url.toString().contains("INTC")) {
+          try {
+            TimeUnit.MINUTES.sleep(1);  // hung connection
+          }
+          catch (final InterruptedException iE) {
+            throw new InterruptedIOException();
+          }
+        }
+        return super.open(url);
+      }
+    });
+    try {
+      final long start = System.nanoTime();
+      final File directory = converter.download(symbols, Interval.SINCE_INCEPTION, folder.getRoot());
+      assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+
+      assertEquals(Collections.singletonMap("NASDAQ", Collections.singleton("INTC")),
+                   new SymbolsReader().read(new File(directory, Converter.FAILURES)));
+      assertEquals(new HashSet<>(Arrays.asList("CSCO_d.csv", "MSFT_d.csv")),
+                   new HashSet<>(Arrays.asList(new File(directory, "NASDAQ").list(new FilenameFilter() {
+                     @Override
+                     public boolean accept(final File dir, final String name) {
+                       return name.endsWith(".csv");
+                     }
+                   }))));
+    }
+    finally {
+      System.clearProperty(TASK_TIMEOUT);
+      converter.stop();
+    }
+  }
+
+  @Test
+  public void downloadOnVirtualThreads() throws Exception {
+    final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+    final List<String> symbols = Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H");
+
+    System.setProperty(VIRTUAL_THREADS, "true");
+    final Converter converter = newRetrier(new FlakyTransport(0, 0) {
+      @Override
+      public InputStream open(final URL url) throws IOException {
+        threads.add(Thread.currentThread().toString());
+        return super.open(url);
+      }
+    });
+    try {
+      assertEquals(symbols.size(),
+                   converter.download(symbols, Exchanges.NASDAQ, Interval.SINCE_INCEPTION, folder.getRoot()).size());
+      if (VirtualThreads.isSupported()) {
+        for (final String thread : threads) {
+          assertTrue(thread, thread.startsWith("VirtualThread"));
+        }
+      }
+    }
+    finally {
+      System.clearProperty(VIRTUAL_THREADS);
+      converter.stop();
+    }
+  }
+
+  @Test
+  public void backoffExponentiallyWithJitter() throws Exception {
+    final Converter retrier = newRetrier(new FlakyTransport(0, 0));
+    try {
+      for (int retry = 0; retry < 5; ++retry) {
+        final long ceiling = 1L << retry;
+        final long backoff = retrier.backoff(retry);
+        assertTrue(backoff >= ceiling / 2 && backoff <= ceiling);
+      }
+      assertTrue(retrier.backoff(Integer.MAX_VALUE) <= TimeUnit.MINUTES.toMillis(1));
+    }
+    finally {
+      retrier.stop();
+    }
+  }
+
+  @Test
+  public void retryable() throws Exception {
+    final URL url = new URL("http://localhost/INTC");
+    assertTrue(Converter.isRetryable(new HttpResponseException(500, url)));
+    assertTrue(Converter.isRetryable(new SocketTimeoutException()));
+    assertTrue(Converter.isRetryable(new SocketException("Connection reset")));
+    assertTrue(Converter.isRetryable(new IOException("Empty URL: " + url)));
+    assertFalse(Converter.isRetryable(new HttpResponseException(404, url)));
+    assertFalse(Converter.isRetryable(new FileNotFoundException(url.toString())));
+  }
+
+  @Test
+  public void classifyFailures() throws Exception {
+    final URL url = new URL("http://localhost/INTC");
+    assertEquals(Outcome.DROPPED, Converter.classify(new HttpResponseException(429, url)));
+    assertEquals(Outcome.DROPPED, Converter.classify(new HttpResponseException(503, url)));
+    assertEquals(Outcome.DROPPED, Converter.classify(new SocketTimeoutException()));
+    assertEquals(Outcome.DROPPED, Converter.classify(new IOException("Server returned HTTP response code: 502 for URL: " + url)));
+    assertEquals(Outcome.IGNORED, Converter.classify(new HttpResponseException(404, url)));
+    assertEquals(Outcome.IGNORED, Converter.classify(new IOException("Empty URL: " + url)));
+  }
+
+  @Test
+  public void compareDates() {
+    assertTrue(Converter.compareDates(TARGET.get(0), TARGET.get(1)) > 0);
+    assertTrue(Converter.compareDates(TARGET.get(1), TARGET.get(0)) < 0);
+    assertEquals(0, Converter.compareDates(TARGET.get(0), "A,20151204"));
+  }
+
+  private static final Converter newRetrier(final Transport transport) {
+    System.setProperty(RETRY_DELAY, "1");
+    try {
+      return new Converter(new Quandl(), null, null, transport);
+    }
+    finally {
+      System.clearProperty(RETRY_DELAY);
+    }
+  }
+
+  /**
+   * Fails the first few requests before serving <code>TARGET</code>.
+   */
+  private static class FlakyTransport implements Transport {
+
+    final AtomicInteger requests = new AtomicInteger();
+    private final int   failures;
+    private final int   responseCode;
+
+    FlakyTransport(final int failures, final int responseCode) {
+      this.failures = failures;
+      this.responseCode = responseCode;
+    }
+
+    @Override
+    public InputStream open(final URL url) throws IOException {
+      if (requests.getAndIncrement() < failures) {
+        throw new HttpResponseException(responseCode, url);
+      }
+      final StringBuilder lines = new StringBuilder();
+      for (final String line : TARGET) {
+        lines.append(line).append('\n');
+      }
+      return new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public InputStream open(final URL url, final int timeout) throws IOException {
+      return open(url);
+    }
+
+  }
+
+}
@@ -0,0 +1,80 @@
+/**
+ * CorporateActionsTest.java  v0.1  18 October 2026 7:05:12 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.ikankechil.eod3.CorporateActions.Action;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>CorporateActions</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class CorporateActionsTest {
+
+  @Rule
+  public TemporaryFolder           folder = new TemporaryFolder();
+
+  private static final TradingDate DATE   = TradingDate.of(2015, 12, 4);
+
+  @Test
+  public void emptyWithoutFile() throws Exception {
+    final CorporateActions actions = CorporateActions.load(folder.getRoot().toPath());
+    assertEquals(0, actions.size());
+    actions.save();
+    assertFalse(Files.exists(folder.getRoot().toPath().resolve(CorporateActions.FILENAME)));
+  }
+
+  @Test
+  public void saveAndLoad() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    CorporateActions actions = CorporateActions.load(directory);
+    actions.record("INTC", DATE, 0.24, 1);
+    actions.record("INTC", DATE.plusDays(-90), 0, 2);
+    actions.record("AAPL", DATE, 0, 7);
+    actions.save();
+
+    actions = CorporateActions.load(directory);
+    assertEquals(3, actions.size());
+    final List<Action> intc = actions.between("INTC", null, DATE);
+    assertEquals(2, intc.size());
+    assertEquals(DATE, intc.get(0).date);
+    assertEquals(0.24, intc.get(0).dividend, 0);
+    assertEquals(1, intc.get(0).split, 0);
+    assertEquals(2, intc.get(1).split, 0);
+  }
+
+  @Test
+  public void replaceActionsOnSameDate() {
+    final CorporateActions actions = CorporateActions.load(folder.getRoot().toPath());
+    actions.record("INTC", DATE, 0.24, 1);
+    actions.record("INTC", DATE, 0.26, 1);
+    assertEquals(1, actions.size());
+    assertEquals(0.26, actions.between("INTC", null, DATE).get(0).dividend, 0);
+  }
+
+  @Test
+  public void betweenDates() {
+    final CorporateActions actions = CorporateActions.load(folder.getRoot().toPath());
+    actions.record("INTC", DATE.plusDays(-2), 0.24, 1);
+    actions.record("INTC", DATE, 0, 2);
+    actions.record("INTC", DATE.plusDays(2), 0.26, 1);
+    assertEquals(1, actions.between("INTC", DATE.plusDays(-2), DATE).size());
+    assertEquals(2, actions.between("INTC", null, DATE).size());
+    assertEquals(0, actions.between("INTC", DATE, DATE).size());
+    assertEquals(0, actions.between("AAPL", null, DATE).size());
+  }
+
+}
@@ -0,0 +1,108 @@
+/**
+ * DateCodecTest.java  v0.1  18 October 2026 1:48:09 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JUnit test for <code>DateCodec</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class DateCodecTest {
+
+  @Rule
+  public ExpectedException       thrown   = ExpectedException.none();
+
+  private static final int       DATE     = 20151204;
+  private static final String[]  PATTERNS = { "yyyyMMdd", "yyyy-MM-dd", "MM/dd/yyyy", "MM/dd/yy",
+                                              "dd.MM.yyyy", "dd+MMM+yyyy", "d-MMM-yy" };
+
+  @Test
+  public void cannotInstantiateWithUnsupportedPattern() {
+    thrown.expect(IllegalArgumentException.class);
+    new DateCodec("yyyyMMdd HH:mm");
+  }
+
+  @Test
+  public void formatAsSimpleDateFormat() throws Exception {
+    final Calendar calendar = DateCodec.toCalendar(DATE);
+    for (final String pattern : PATTERNS) {
+      assertEquals(pattern,
+                   new SimpleDateFormat(pattern, Locale.US).format(calendar.getTime()),
+                   new DateCodec(pattern).format(DATE));
+    }
+    assertEquals("7-Jan-09", new DateCodec("d-MMM-yy").format(20090107));
+  }
+
+  @Test
+  public void appendToBuilder() {
+    final StringBuilder builder = new StringBuilder();
+    for (final String pattern : PATTERNS) {
+      builder.setLength(0);
+      final DateCodec codec = new DateCodec(pattern);
+      assertEquals(pattern, codec.format(DATE), codec.format(DATE, builder.append(',')).substring(1));
+    }
+    assertEquals("INTC,7-Jan-09", new DateCodec("d-MMM-yy").format(20090107, new StringBuilder("INTC,")).toString());
+  }
+
+  @Test
+  public void parseAsSimpleDateFormat() throws Exception {
+    for (final String pattern : PATTERNS) {
+      final String text = new SimpleDateFormat(pattern, Locale.US).format(DateCodec.toCalendar(DATE).getTime());
+      assertEquals(pattern, DATE, new DateCodec(pattern).parse(text));
+    }
+    assertEquals(20090107, new DateCodec("d-MMM-yy").parse("7-JAN-09"));
+  }
+
+  @Test
+  public void parseFromPosition() {
+    final String line = "INTC,12/04/15,34.11";
+    final ParsePosition position = new ParsePosition(5);
+    assertEquals(DATE, new DateCodec("MM/dd/yy").parse(line, position));
+    assertEquals(13, position.getIndex());
+  }
+
+  @Test
+  public void cannotParseInvalidDates() {
+    final DateCodec codec = DateCodec.YYYYMMDD;
+    for (final String text : new String[] { "20151304", "20151232", "20150229", "2015120", "2015-12-04" }) {
+      final ParsePosition position = new ParsePosition(0);
+      assertEquals(text, DateCodec.UNPARSEABLE, codec.parse(text, position));
+      assertEquals(text, 0, position.getIndex());
+      assertTrue(text, position.getErrorIndex() >= 0);
+    }
+    assertEquals(20160229, codec.parse("20160229", new ParsePosition(0)));
+  }
+
+  @Test
+  public void cannotParseTrailingText() throws Exception {
+    thrown.expect(ParseException.class);
+    DateCodec.YYYYMMDD.parse("20151204,");
+  }
+
+  @Test
+  public void convertCalendars() {
+    final Calendar calendar = DateCodec.toCalendar(DATE);
+    assertEquals(2015, calendar.get(Calendar.YEAR));
+    assertEquals(Calendar.DECEMBER, calendar.get(Calendar.MONTH));
+    assertEquals(4, calendar.get(Calendar.DATE));
+    assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+    assertEquals(DATE, DateCodec.toInt(calendar));
+  }
+
+}
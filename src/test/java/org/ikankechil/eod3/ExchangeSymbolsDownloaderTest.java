@@ -9,6 +9,7 @@ import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.junit.Assert.*;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +27,9 @@ import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import org.ikankechil.eod3.ExchangeSymbolsDownloader.SymbolsTaskHelper;
 import org.ikankechil.eod3.ExchangeSymbolsDownloader.SymbolsTransform;
 import org.ikankechil.eod3.io.SymbolsReader;
@@ -162,6 +166,23 @@ public class ExchangeSymbolsDownloaderTest {
     final ExchangeSymbolsDownloader esd = new ExchangeSymbolsDownloader(new File(EMPTY));
   }
 
+  @Test
+  public void unregisterMetricsOnStop() throws Exception {
+    final ObjectName name = new ObjectName("org.ikankechil.eod3:type=ExchangeSymbolsDownloader,name=" +
+                                           ObjectName.quote("Unregistered.csv"));
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    System.setProperty(Metrics.class.getName() + ".jmx", "true");
+    try {
+      final ExchangeSymbolsDownloader esd = new ExchangeSymbolsDownloader(new File(DIRECTORY, "Unregistered.csv"));
+      assertTrue(server.isRegistered(name));
+      esd.stop();
+      assertFalse(server.isRegistered(name));
+    }
+    finally {
+      System.clearProperty(Metrics.class.getName() + ".jmx");
+    }
+  }
+
   @Test
   public void cannotInstantiateWithWhitespaceFile() {
     thrown.expect(IllegalArgumentException.class);
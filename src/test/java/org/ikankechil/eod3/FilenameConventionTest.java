@@ -334,6 +334,22 @@ public class FilenameConventionTest {
                                                            EXPECTED_FREQUENCY)));
   }
 
+  @Test
+  public void filenameFromSymbolIntervalAndFileExtension() throws Exception {
+    final Interval interval = new Interval(null, null, EXPECTED_FREQUENCY);
+    assertEquals(FILENAME_WITH_FREQUENCY,
+                 getFilename(EXPECTED_SYMBOL, interval, FILE_EXTENSION));
+    assertEquals(FILENAME_WITH_FREQUENCY.replace(FILE_EXTENSION, ".eod"),
+                 getFilename(EXPECTED_SYMBOL, interval, ".eod"));
+  }
+
+  @Test
+  public void adjustedFilename() {
+    final String adjusted = getAdjustedFilename(FILENAME_WITH_FREQUENCY);
+    assertEquals(FILENAME_WITH_FREQUENCY.replace(FILE_EXTENSION, "_adj" + FILE_EXTENSION), adjusted);
+    assertFalse(adjusted.matches(FILENAME_REGEX));
+  }
+
   @Test
   public void regex() {
     assertEquals(FILENAME_REGEX, FilenameConvention.FILENAME_REGEX);
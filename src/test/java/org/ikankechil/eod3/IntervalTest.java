@@ -69,7 +69,7 @@ public class IntervalTest {
   public void instantiateWithNullEndAndFrequency() throws Exception {
     interval = new Interval(start, null, null);
 
-    assertEquals(start, interval.start());
+    assertEquals(TradingDate.of(start), interval.start());
     checkDates(end, interval.end());
     assertNull(interval.frequency());
   }
@@ -78,7 +78,7 @@ public class IntervalTest {
   public void instantiateWithNullEnd() throws Exception {
     interval = new Interval(start, null, Frequencies.WEEKLY);
 
-    assertEquals(start, interval.start());
+    assertEquals(TradingDate.of(start), interval.start());
     checkDates(end, interval.end());
     assertEquals(Frequencies.WEEKLY, interval.frequency());
   }
@@ -87,8 +87,8 @@ public class IntervalTest {
   public void instantiateWithNullFrequency() throws Exception {
     interval = new Interval(start, end, null);
 
-    assertEquals(start, interval.start());
-    assertEquals(end, interval.end());
+    assertEquals(TradingDate.of(start), interval.start());
+    assertEquals(TradingDate.of(end), interval.end());
     assertNull(interval.frequency());
   }
 
@@ -96,8 +96,8 @@ public class IntervalTest {
   public void instantiateWithMonthlyFrequency() throws Exception {
     interval = new Interval(start, end, Frequencies.MONTHLY);
 
-    assertEquals(start, interval.start());
-    assertEquals(end, interval.end());
+    assertEquals(TradingDate.of(start), interval.start());
+    assertEquals(TradingDate.of(end), interval.end());
     assertEquals(Frequencies.MONTHLY, interval.frequency());
   }
 
@@ -110,15 +110,25 @@ public class IntervalTest {
 
     interval = new Interval(smallStart, smallEnd, null);
 
-    assertEquals(smallStart, interval.start());
-    assertEquals(smallEnd, interval.end());
+    assertEquals(TradingDate.of(smallStart), interval.start());
+    assertEquals(TradingDate.of(smallEnd), interval.end());
     assertNull(interval.frequency());
   }
 
-  private static final void checkDates(final Calendar expected, final Calendar actual) {
-    assertEquals(expected.get(YEAR), actual.get(YEAR));
-    assertEquals(expected.get(MONTH), actual.get(MONTH));
-    assertEquals(expected.get(DATE), actual.get(DATE));
+  @Test
+  public void instantiateWithTradingDates() throws Exception {
+    final TradingDate date = TradingDate.of(2015, 12, 4);
+    interval = Interval.of(date, date, Frequencies.DAILY);
+
+    assertEquals(date, interval.start());
+    assertEquals(date, interval.end());
+    assertEquals(Frequencies.DAILY, interval.frequency());
+  }
+
+  private static final void checkDates(final Calendar expected, final TradingDate actual) {
+    assertEquals(expected.get(YEAR), actual.year());
+    assertEquals(expected.get(MONTH) + 1, actual.month());
+    assertEquals(expected.get(DATE), actual.day());
   }
 
   @Test
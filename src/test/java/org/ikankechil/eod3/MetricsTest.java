@@ -0,0 +1,80 @@
+/**
+ * MetricsTest.java  v0.1  18 October 2026 10:41:07 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.ikankechil.eod3.Metrics.Histogram;
+import org.ikankechil.eod3.sources.Exchanges;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>Metrics</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class MetricsTest {
+
+  @Rule
+  public TemporaryFolder folder  = new TemporaryFolder();
+
+  private final Metrics  metrics = new Metrics();
+
+  @Test
+  public void countPerScope() {
+    metrics.scope("Yahoo", Exchanges.NASDAQ).count("rows", 3);
+    metrics.scope("Yahoo/NASDAQ").count("rows", 2);
+    metrics.scope("Yahoo", null).count("rows", 1);
+    assertEquals(5, metrics.scope("Yahoo", Exchanges.NASDAQ).counter("rows"));
+    assertEquals(1, metrics.scope("Yahoo").counter("rows"));
+    assertEquals(0, metrics.scope("Yahoo").counter("bytes"));
+    assertEquals(Long.valueOf(5), metrics.getCounters().get("Yahoo/NASDAQ/rows"));
+  }
+
+  @Test
+  public void percentilesWithinFactorOfTwo() {
+    final Metrics.Scope scope = metrics.scope("Yahoo");
+    for (int millis = 1; millis <= 100; ++millis) {
+      scope.time("write", TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+    final Histogram histogram = scope.histogram("write");
+    assertEquals(100, histogram.count());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.max());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(5050), histogram.sum());
+    final long p50 = histogram.quantile(0.5);
+    assertTrue(p50 >= TimeUnit.MILLISECONDS.toNanos(50) && p50 < TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals(histogram.max(), histogram.quantile(0.99));  // capped by the maximum
+    assertEquals(50.5, metrics.getLatencies().get("Yahoo/write.mean"), 1e-9);
+  }
+
+  @Test
+  public void emptyHistogram() {
+    assertEquals(0, new Histogram().quantile(0.99));
+  }
+
+  @Test
+  public void writeSummary() throws Exception {
+    metrics.scope("Yahoo", Exchanges.NASDAQ).count("rows", 3);
+    metrics.scope("Yahoo", Exchanges.NASDAQ).time("write", 0);
+    final Path file = metrics.write(folder.getRoot().toPath());
+    assertEquals(Metrics.FILENAME, file.getFileName().toString());
+    assertEquals(Collections.singletonList("{\"Yahoo/NASDAQ\":{\"counters\":{\"rows\":3}," +
+                                           "\"latencies\":{\"write\":{\"count\":1,\"totalMs\":0.0,\"meanMs\":0.0," +
+                                           "\"p50Ms\":0.0,\"p90Ms\":0.0,\"p99Ms\":0.0,\"maxMs\":0.0}}}}"),
+                 Files.readAllLines(file, StandardCharsets.UTF_8));
+    assertEquals(1, folder.getRoot().list().length);  // no temporary files left behind
+  }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * RateLimiterTest.java  v0.1  18 October 2026 6:47:13 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ikankechil.eod3.sources.Quandl;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JUnit test for <code>RateLimiter</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class RateLimiterTest {
+
+  @Rule
+  public ExpectedException    thrown            = ExpectedException.none();
+
+  private static final String REQUESTS_PER_SEC  = Quandl.class.getName() + ".requestsPerSecond";
+  private static final String BURST             = Quandl.class.getName() + ".burst";
+
+  @Test
+  public void cannotInstantiateWithNonPositiveRate() {
+    thrown.expect(IllegalArgumentException.class);
+    new RateLimiter(0, 1);
+  }
+
+  @Test
+  public void cannotInstantiateWithNaNRate() {
+    thrown.expect(IllegalArgumentException.class);
+    new RateLimiter(Double.NaN, 1);
+  }
+
+  @Test
+  public void cannotInstantiateWithNonPositiveBurst() {
+    thrown.expect(IllegalArgumentException.class);
+    new RateLimiter(1, 0);
+  }
+
+  @Test
+  public void burstWithoutWaiting() throws Exception {
+    final RateLimiter rateLimiter = new RateLimiter(1, 3);
+    assertTrue(rateLimiter.tryAcquire());
+    assertTrue(rateLimiter.tryAcquire());
+    assertTrue(rateLimiter.tryAcquire());
+    assertFalse(rateLimiter.tryAcquire());
+  }
+
+  @Test
+  public void waitForTokens() throws Exception {
+    final RateLimiter rateLimiter = new RateLimiter(50, 1);  // one every 20ms
+    final long start = System.nanoTime();
+    for (int i = 0; i < 6; ++i) {
+      rateLimiter.acquire();
+    }
+    final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    assertTrue("Elapsed: " + elapsed, elapsed >= 95);
+  }
+
+  @Test
+  public void refundTokensOnInterrupt() throws Exception {
+    final RateLimiter rateLimiter = new RateLimiter(10, 1);  // one every 100ms
+    rateLimiter.acquire();
+    final Thread waiting = new Thread() {
+      @Override
+      public void run() {
+        try {
+          rateLimiter.acquire();
+        }
+        catch (final InterruptedException iE) {
+          // do nothing
+        }
+      }
+    };
+    waiting.start();
+    waiting.interrupt();
+    waiting.join();
+
+    Thread.sleep(150);  // enough for one token, had the interrupted one not been reserved
+    assertTrue(rateLimiter.tryAcquire());
+  }
+
+  @Test
+  public void rateLimitFromProperties() throws Exception {
+    assertNull(new Quandl().rateLimiter());
+
+    System.setProperty(REQUESTS_PER_SEC, "2.5");
+    System.setProperty(BURST, "4");
+    try {
+      final RateLimiter rateLimiter = new Quandl().rateLimiter();
+      assertEquals(2.5, rateLimiter.requestsPerSecond(), 1e-9);
+      assertEquals(4, rateLimiter.burst());
+
+      System.setProperty(BURST, "many");
+      assertNull(new Quandl().rateLimiter());
+    }
+    finally {
+      System.clearProperty(REQUESTS_PER_SEC);
+      System.clearProperty(BURST);
+    }
+  }
+
+}
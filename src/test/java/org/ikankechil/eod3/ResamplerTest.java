@@ -0,0 +1,104 @@
+/**
+ * ResamplerTest.java  v0.1  18 October 2026 5:02:47 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.ikankechil.eod3.TestFiles.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>Resampler</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ResamplerTest {
+
+  @Rule
+  public ExpectedException          thrown    = ExpectedException.none();
+  @Rule
+  public TemporaryFolder            folder    = new TemporaryFolder();
+
+  private final Resampler           resampler = new Resampler();
+
+  private static final List<String> DAILY     = Arrays.asList("INTC,20151207,34.80,35.10,34.60,35.00,500",
+                                                              "INTC,20151204,34.11,35.03,34.00,34.94,100",
+                                                              "INTC,20151203,34.97,34.99,34.00,34.04,200",
+                                                              "INTC,20151201,33.50,34.50,33.40,34.20,300",
+                                                              "INTC,20151130,34.00,34.10,33.00,33.80,400");
+
+  @Test
+  public void cannotResampleToDaily() {
+    thrown.expect(IllegalArgumentException.class);
+    resampler.resample(DAILY, Frequencies.DAILY);
+  }
+
+  @Test
+  public void resampleWeekly() {
+    assertEquals(Arrays.asList("INTC,20151207,34.80,35.10,34.60,35.00,500",
+                               "INTC,20151130,34.00,35.03,33.00,34.94,1000"),
+                 resampler.resample(DAILY, Frequencies.WEEKLY));
+  }
+
+  @Test
+  public void resampleMonthly() {
+    assertEquals(Arrays.asList("INTC,20151201,33.50,35.10,33.40,35.00,1100",
+                               "INTC,20151130,34.00,34.10,33.00,33.80,400"),
+                 resampler.resample(DAILY, Frequencies.MONTHLY));
+  }
+
+  @Test
+  public void resampleWithoutVolume() {
+    assertEquals(Arrays.asList("INTC,20151203,34.97,35.03,34.00,34.94"),
+                 resampler.resample(Arrays.asList("INTC,20151204,34.11,35.03,34.00,34.94",
+                                                  "INTC,20151203,34.97,34.99,34.00,34.04"),
+                                    Frequencies.WEEKLY));
+  }
+
+  @Test
+  public void resampleFractionalVolume() {
+    assertEquals(Arrays.asList("INTC,20151203,34.97,35.03,34.00,34.94,1100.75"),
+                 resampler.resample(Arrays.asList("INTC,20151204,34.11,35.03,34.00,34.94,1000",
+                                                  "INTC,20151203,34.97,34.99,34.00,34.04,100.75"),
+                                    Frequencies.WEEKLY));
+  }
+
+  @Test
+  public void resampleFilesIncrementally() throws Exception {
+    final File daily = write(folder, "INTC_d.csv", DAILY.subList(1, DAILY.size()));
+    final File weekly = resampler.resample(daily, Frequencies.WEEKLY);
+    assertEquals("INTC_w.csv", weekly.getName());
+    assertEquals(Arrays.asList("INTC,20151130,34.00,35.03,33.00,34.94,1000"), read(weekly));
+
+    // the latest week is recomputed while earlier weeks are kept
+    final List<String> lines = new ArrayList<>(DAILY);
+    lines.add("INTC,20151127,33.00,33.50,32.50,33.20,600");
+    write(folder, daily.getName(), lines);
+    write(folder, weekly.getName(), Arrays.asList("INTC,20151130,34.00,34.99,33.00,34.04,900",
+                                                  "INTC,20151123,1,2,0,1,1"));
+    resampler.resample(daily, Frequencies.WEEKLY);
+    assertEquals(Arrays.asList("INTC,20151207,34.80,35.10,34.60,35.00,500",
+                               "INTC,20151130,34.00,35.03,33.00,34.94,1000",
+                               "INTC,20151123,1,2,0,1,1"),
+                 read(weekly));
+
+    final File monthly = resampler.resample(daily, Frequencies.MONTHLY);
+    assertEquals("INTC_m.csv", monthly.getName());
+    assertEquals(Arrays.asList("INTC,20151201,33.50,35.10,33.40,35.00,1100",
+                               "INTC,20151127,33.00,34.10,32.50,33.80,1000"),
+                 read(monthly));
+  }
+
+}
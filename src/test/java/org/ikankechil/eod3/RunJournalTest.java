@@ -0,0 +1,89 @@
+/**
+ * RunJournalTest.java  v0.1  18 October 2026 9:12:50 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>RunJournal</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class RunJournalTest {
+
+  @Rule
+  public TemporaryFolder      folder = new TemporaryFolder();
+
+  private static final String RUN    = "Convert,Symbols.csv,_d.csv";
+
+  @Test
+  public void resumeWrittenSymbols() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    RunJournal journal = RunJournal.open(directory, RUN);
+    journal.record("NASDAQ", "CSCO");
+    journal.close();
+
+    journal = RunJournal.open(directory, RUN);
+    assertTrue(journal.isWritten("NASDAQ", "CSCO"));
+    assertFalse(journal.isWritten("NASDAQ", "INTC"));
+    assertFalse(journal.isWritten("NASDAQ", "MSFT"));
+    assertFalse(journal.isWritten("NYSE", "CSCO"));
+    assertEquals(1, journal.size());
+    journal.close();
+  }
+
+  @Test
+  public void ignoreTornRecords() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    RunJournal journal = RunJournal.open(directory, RUN);
+    journal.record("NASDAQ", "CSCO");
+    journal.close();
+    final Path file = directory.resolve(RunJournal.FILENAME);
+    Files.write(file, "NASDAQ,INT".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+    journal = RunJournal.open(directory, RUN);
+    assertTrue(journal.isWritten("NASDAQ", "CSCO"));
+    assertFalse(journal.isWritten("NASDAQ", "INT"));
+    journal.record("NASDAQ", "INTC");
+    journal.close();
+
+    assertEquals(Arrays.asList("Run," + RUN, "NASDAQ,CSCO", "NASDAQ,INTC"),
+                 Files.readAllLines(file, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void discardJournalsOfOtherRuns() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    RunJournal journal = RunJournal.open(directory, RUN);
+    journal.record("NASDAQ", "CSCO");
+    journal.close();
+
+    journal = RunJournal.open(directory, "Download,Symbols.csv,_d.csv");
+    assertFalse(journal.isWritten("NASDAQ", "CSCO"));
+    journal.close();
+  }
+
+  @Test
+  public void deleteOnCompletion() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    final RunJournal journal = RunJournal.open(directory, RUN);
+    journal.record("NASDAQ", "CSCO");
+    journal.delete();
+    assertFalse(Files.exists(directory.resolve(RunJournal.FILENAME)));
+  }
+
+}
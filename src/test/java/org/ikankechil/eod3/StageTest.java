@@ -0,0 +1,166 @@
+/**
+ * StageTest.java  v0.1  18 October 2026 8:21:54 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JUnit test for <code>Stage</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class StageTest {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void cannotInstantiateWithNonPositiveWorkers() {
+    thrown.expect(IllegalArgumentException.class);
+    new Stage("test", 0, 1);
+  }
+
+  @Test
+  public void cannotInstantiateWithNonPositiveCapacity() {
+    thrown.expect(IllegalArgumentException.class);
+    new Stage("test", 1, 0);
+  }
+
+  @Test
+  public void executeOnWorker() throws Exception {
+    final Stage stage = new Stage("test", 1, 1);
+    try {
+      final String worker = stage.execute(new Stage.Task<String>() {
+        @Override
+        public String call() {
+          return Thread.currentThread().getName();
+        }
+      });
+      assertEquals("test-1", worker);
+    }
+    finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void submitWithoutWaiting() throws Exception {
+    final Stage stage = new Stage("test", 1, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      final Future<String> future = stage.submit(new Stage.Task<String>() {
+        @Override
+        public String call() throws IOException {
+          try {
+            release.await();
+          }
+          catch (final InterruptedException iE) {
+            throw new InterruptedIOException();
+          }
+          return Thread.currentThread().getName();
+        }
+      });
+      assertFalse(future.isDone());
+
+      release.countDown();
+      assertEquals("test-1", Stage.get(future));
+    }
+    finally {
+      release.countDown();
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void rethrowFailures() throws Exception {
+    final Stage stage = new Stage("test", 1, 1);
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Failed");
+    try {
+      stage.execute(new Stage.Task<Void>() {
+        @Override
+        public Void call() throws IOException {
+          throw new IOException("Failed");
+        }
+      });
+    }
+    finally {
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void waitForRoomWhenFull() throws Exception {
+    final Stage stage = new Stage("test", 1, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch completed = new CountDownLatch(3);
+    final Stage.Task<Void> blocked = new Stage.Task<Void>() {
+      @Override
+      public Void call() throws IOException {
+        try {
+          release.await();
+        }
+        catch (final InterruptedException iE) {
+          throw new InterruptedIOException();
+        }
+        return null;
+      }
+    };
+
+    // one running, one queued and one waiting for room in the queue
+    for (int i = 0; i < 3; ++i) {
+      new Thread() {
+        @Override
+        public void run() {
+          try {
+            stage.execute(blocked);
+            completed.countDown();
+          }
+          catch (final IOException ioE) {
+            // do nothing
+          }
+        }
+      }.start();
+    }
+    try {
+      assertFalse(completed.await(200, TimeUnit.MILLISECONDS));
+      assertEquals(1, stage.queued());
+
+      release.countDown();
+      assertTrue(completed.await(5, TimeUnit.SECONDS));
+      assertEquals(0, stage.queued());
+    }
+    finally {
+      release.countDown();
+      stage.stop();
+    }
+  }
+
+  @Test
+  public void cannotExecuteWhenStopped() throws Exception {
+    final Stage stage = new Stage("test", 1, 1);
+    stage.stop();
+    thrown.expect(IOException.class);
+    stage.execute(new Stage.Task<Void>() {
+      @Override
+      public Void call() {
+        return null;
+      }
+    });
+  }
+
+}
@@ -0,0 +1,35 @@
+/**
+ * TestFiles.java  v0.1  19 October 2026 10:14:36 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes and reads UTF-8 test fixtures in a <code>TemporaryFolder</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+final class TestFiles {
+
+  private TestFiles() { /* do not instantiate */ }
+
+  static final File write(final TemporaryFolder folder, final String filename, final List<String> lines)
+      throws IOException {
+    return Files.write(folder.getRoot().toPath().resolve(filename), lines, StandardCharsets.UTF_8).toFile();
+  }
+
+  static final List<String> read(final File file) throws IOException {
+    return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+  }
+
+}
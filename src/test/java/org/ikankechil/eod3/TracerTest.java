@@ -0,0 +1,82 @@
+/**
+ * TracerTest.java  v0.1  18 October 2026 11:36:52 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>Tracer</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class TracerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void disabledRecordsNothing() throws Exception {
+    final Tracer tracer = new Tracer(false);
+    assertNull(tracer.start("transform", "INTC"));
+    Tracer.end(null);
+    tracer.complete("write", "INTC", 0, 1);
+    assertNull(tracer.write(folder.getRoot().toPath()));
+    assertEquals(0, folder.getRoot().list().length);
+  }
+
+  @Test
+  public void writeTraceEvents() throws Exception {
+    final Tracer tracer = new Tracer(true);
+    final long start = System.nanoTime();
+    tracer.async("queued", "INTC", start, start + 2000);
+    Tracer.end(tracer.start("transform", "IN\"TC"));
+    tracer.complete("write", "INTC", start + 3000, start + 5000);
+
+    final Path file = tracer.write(folder.getRoot().toPath());
+    assertEquals(Tracer.FILENAME, file.getFileName().toString());
+    final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    final String thread = String.valueOf(Thread.currentThread().getId());
+    assertEquals("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[", lines.get(0));
+    assertTrue(lines.get(1).startsWith("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread));
+    assertTrue(lines.get(2).matches("\\{\"name\":\"queued\",\"cat\":\"eod3\",\"ph\":\"b\",\"ts\":\\d+,\"id\":1,.*\"args\":\\{\"task\":\"INTC\"\\}\\},"));
+    assertTrue(lines.get(3).matches("\\{\"name\":\"queued\",.*\"ph\":\"e\",.*\"id\":1,.*"));
+    assertTrue(lines.get(4).contains("\"name\":\"transform\",\"cat\":\"eod3\",\"ph\":\"X\""));
+    assertTrue(lines.get(4).contains("\"args\":{\"task\":\"IN\\\"TC\"}"));
+    assertTrue(lines.get(5).matches("\\{\"name\":\"write\",.*\"ph\":\"X\",.*\"dur\":2,\"pid\":1,\"tid\":" + thread + ",.*"));
+    assertEquals("]}", lines.get(6));
+
+    // spans accumulate across writes
+    tracer.complete("merge", "INTC", start, start);
+    assertEquals(8, Files.readAllLines(tracer.write(folder.getRoot().toPath()), StandardCharsets.UTF_8).size());
+    assertEquals(1, folder.getRoot().list().length);  // no temporary files left behind
+  }
+
+  @Test
+  public void dropSpansOnceFull() throws Exception {
+    final Tracer tracer = new Tracer(true, 2);
+    final long start = System.nanoTime();
+    tracer.complete("transform", "INTC", start, start);
+    tracer.async("queued", "INTC", start, start);  // pairs are recorded whole
+    tracer.complete("write", "INTC", start, start);
+    tracer.complete("merge", "INTC", start, start);
+
+    final List<String> lines = Files.readAllLines(tracer.write(folder.getRoot().toPath()), StandardCharsets.UTF_8);
+    assertEquals(5, lines.size());
+    assertTrue(lines.get(2).contains("\"name\":\"transform\""));
+    assertTrue(lines.get(3).contains("\"name\":\"write\""));
+  }
+
+}
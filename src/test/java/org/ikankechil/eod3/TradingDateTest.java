@@ -0,0 +1,119 @@
+/**
+ * TradingDateTest.java  v0.1  18 October 2026 3:41:22 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.junit.Assert.*;
+
+import java.text.ParseException;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JUnit test for <code>TradingDate</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class TradingDateTest {
+
+  @Rule
+  public ExpectedException         thrown = ExpectedException.none();
+
+  private static final TradingDate DATE   = TradingDate.of(2015, 12, 4);
+
+  @Test
+  public void cannotCreateInvalidDates() {
+    thrown.expect(IllegalArgumentException.class);
+    TradingDate.valueOf(20150229);
+  }
+
+  @Test
+  public void cannotParseInvalidDates() throws Exception {
+    thrown.expect(ParseException.class);
+    TradingDate.parse("20151232");
+  }
+
+  @Test
+  public void packedAsYYYYMMDD() throws Exception {
+    assertEquals(20151204, DATE.toInt());
+    assertEquals("20151204", DATE.toString());
+    assertEquals(DATE, TradingDate.parse("20151204"));
+    assertEquals(DATE, TradingDate.valueOf(20151204));
+    assertEquals(2015, DATE.year());
+    assertEquals(12, DATE.month());
+    assertEquals(4, DATE.day());
+  }
+
+  @Test
+  public void epochDaysMatchCalendar() {
+    assertEquals(0, TradingDate.EPOCH.toEpochDay());
+    final Calendar calendar = new GregorianCalendar(1900, Calendar.JANUARY, 1);
+    while (calendar.get(Calendar.YEAR) < 2100) {
+      final TradingDate date = TradingDate.of(calendar);
+      final long epochDay = date.toEpochDay();
+      assertEquals(date, TradingDate.ofEpochDay(epochDay));
+      assertEquals(DateCodec.toInt(calendar), TradingDate.ofEpochDay(epochDay).toInt());
+      assertEquals((calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7 + 1, date.dayOfWeek());
+      calendar.add(Calendar.DATE, 13);
+      assertEquals(epochDay + 13, TradingDate.of(calendar).toEpochDay());
+    }
+  }
+
+  @Test
+  public void addDaysWeeksAndMonths() {
+    assertEquals(TradingDate.of(2016, 1, 1), TradingDate.of(2015, 12, 31).plusDays(1));
+    assertEquals(TradingDate.of(2016, 2, 29), TradingDate.of(2016, 3, 1).plusDays(-1));
+    assertEquals(TradingDate.of(2015, 12, 11), DATE.plusWeeks(1));
+    assertEquals(TradingDate.of(2016, 2, 29), TradingDate.of(2016, 1, 31).plusMonths(1));
+    assertEquals(TradingDate.of(2015, 2, 28), TradingDate.of(2014, 12, 31).plusMonths(2));
+    assertEquals(TradingDate.of(2014, 11, 30), TradingDate.of(2015, 1, 30).plusMonths(-2));
+    assertSame(DATE, DATE.plusDays(0));
+  }
+
+  @Test
+  public void nextAtFrequency() {
+    assertEquals(TradingDate.of(2015, 12, 5), DATE.next(Frequencies.DAILY));
+    assertEquals(TradingDate.of(2015, 12, 5), DATE.next(null));
+    assertEquals(TradingDate.of(2015, 12, 11), DATE.next(Frequencies.WEEKLY));
+    assertEquals(TradingDate.of(2016, 1, 1), DATE.next(Frequencies.MONTHLY));
+    assertEquals(TradingDate.of(2016, 3, 1), TradingDate.of(2016, 2, 29).next(Frequencies.MONTHLY));
+  }
+
+  @Test
+  public void startOfPeriod() {
+    assertSame(DATE, DATE.startOf(Frequencies.DAILY));
+    assertSame(DATE, DATE.startOf(null));
+    assertEquals(TradingDate.of(2015, 11, 30), DATE.startOf(Frequencies.WEEKLY));
+    assertEquals(TradingDate.of(2015, 11, 30), TradingDate.of(2015, 12, 6).startOf(Frequencies.WEEKLY));
+    assertEquals(TradingDate.of(2015, 12, 7), TradingDate.of(2015, 12, 7).startOf(Frequencies.WEEKLY));
+    assertEquals(TradingDate.of(2015, 12, 1), DATE.startOf(Frequencies.MONTHLY));
+  }
+
+  @Test
+  public void compareChronologically() {
+    final TradingDate later = DATE.plusDays(1);
+    assertTrue(DATE.isBefore(later));
+    assertTrue(later.isAfter(DATE));
+    assertFalse(DATE.isAfter(DATE));
+    assertTrue(DATE.compareTo(later) < 0);
+    assertEquals(0, DATE.compareTo(TradingDate.valueOf(20151204)));
+    assertEquals(DATE.hashCode(), TradingDate.valueOf(20151204).hashCode());
+  }
+
+  @Test
+  public void convertCalendars() {
+    assertNull(TradingDate.of((Calendar) null));
+    final Calendar calendar = DATE.toCalendar();
+    assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+    assertEquals(DATE, TradingDate.of(calendar));
+    assertEquals(TradingDate.of(Calendar.getInstance()), TradingDate.today());
+  }
+
+}
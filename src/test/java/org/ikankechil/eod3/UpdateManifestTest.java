@@ -0,0 +1,96 @@
+/**
+ * UpdateManifestTest.java  v0.1  18 October 2026 10:52:26 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3;
+
+import static org.ikankechil.eod3.TestFiles.*;
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>UpdateManifest</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class UpdateManifestTest {
+
+  @Rule
+  public TemporaryFolder            folder = new TemporaryFolder();
+
+  private static final List<String> LINES  = Arrays.asList("INTC,20151204,34.11,35.03,34.00,34.94,24484400",
+                                                           "INTC,20151203,34.97,34.99,34.00,34.04,29829200");
+
+  @Test
+  public void emptyWithoutManifestFile() throws Exception {
+    final UpdateManifest manifest = UpdateManifest.load(folder.getRoot().toPath());
+    assertEquals(0, manifest.size());
+    manifest.save();
+    assertFalse(Files.exists(folder.getRoot().toPath().resolve(UpdateManifest.FILENAME)));
+  }
+
+  @Test
+  public void saveAndLoad() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    final Path file = write(folder, "INTC.csv", LINES).toPath();
+    UpdateManifest manifest = UpdateManifest.load(directory);
+    manifest.record(file, LINES.get(0), LINES.size());
+    manifest.save();
+
+    manifest = UpdateManifest.load(directory);
+    assertEquals(1, manifest.size());
+    final UpdateManifest.Record record = manifest.get(file);
+    assertEquals("INTC", record.symbol);
+    assertEquals("20151204", record.date);
+    assertEquals(LINES.size(), record.rows);
+  }
+
+  @Test
+  public void ignoreChangedFiles() throws Exception {
+    final Path file = write(folder, "INTC.csv", LINES).toPath();
+    final UpdateManifest manifest = UpdateManifest.load(folder.getRoot().toPath());
+    manifest.record(file, LINES.get(0), LINES.size());
+    assertNotNull(manifest.get(file));
+
+    write(folder, "INTC.csv", LINES.subList(1, 2));
+    assertNull(manifest.get(file));
+    assertNull(manifest.get(write(folder, "CSCO.csv", LINES).toPath()));
+  }
+
+  @Test
+  public void skipMalformedLines() throws Exception {
+    final Path file = write(folder, "INTC.csv", LINES).toPath();
+    write(folder, UpdateManifest.FILENAME, Arrays.asList("INTC.csv,INTC,20151204",
+                                                         "CSCO.csv,CSCO,20151204,2,x,0",
+                                                         "INTC.csv,INTC,20151204,2," + Files.size(file) + ',' +
+                                                         Files.getLastModifiedTime(file).toMillis()));
+
+    final UpdateManifest manifest = UpdateManifest.load(folder.getRoot().toPath());
+    assertEquals(1, manifest.size());
+    assertEquals("20151204", manifest.get(file).date);
+  }
+
+  @Test
+  public void remove() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    final Path file = write(folder, "INTC.csv", LINES).toPath();
+    UpdateManifest manifest = UpdateManifest.load(directory);
+    manifest.record(file, LINES.get(0), UpdateManifest.UNKNOWN);
+    manifest.save();
+
+    manifest.remove(file);
+    manifest.save();
+    assertEquals(0, UpdateManifest.load(directory).size());
+  }
+
+}
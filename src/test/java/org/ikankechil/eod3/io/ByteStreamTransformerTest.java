@@ -0,0 +1,119 @@
+/**
+ * ByteStreamTransformerTest.java  v0.1  17 October 2026 10:05:31 PM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JUnit test for <code>ByteStreamTransformer</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ByteStreamTransformerTest {
+
+  @Rule
+  public ExpectedException           thrown    = ExpectedException.none();
+
+  private static final String        SYMBOL    = "INTC";
+  private static final String        LS        = System.lineSeparator();
+
+  private static final ByteTransform TRANSFORM = new ByteTransform(SYMBOL) {
+    @Override
+    public boolean transform(final byte[] line, final int from, final int to, final ByteBuffer output) {
+      // drop comments
+      if (line[from] == '#') {
+        return false;
+      }
+      putSymbol(output);
+      putISODate(line, from, output);
+      output.put(line, from + 10, to - (from + 10));
+      return true;
+    }
+  };
+
+  private static final String        SOURCE    = "Date,Open,High,Low,Close,Volume\r\n"
+                                               + "2015-12-04,34.11,35.03,34.00,34.94,24484400\r\n"
+                                               + "\r\n"
+                                               + "# comment\r\n"
+                                               + "2015-12-03,34.97,34.99,34.00,34.04,29829200\r\n";
+
+  private static final String        EXPECTED  = "INTC,20151204,34.11,35.03,34.00,34.94,24484400" + LS
+                                               + "INTC,20151203,34.97,34.99,34.00,34.04,29829200" + LS;
+
+  @Test
+  public void cannotInstantiateWithNonPositiveBufferSize() {
+    thrown.expect(IllegalArgumentException.class);
+    new ByteStreamTransformer(0);
+  }
+
+  @Test
+  public void transform() throws Exception {
+    assertTransformed(EXPECTED, 2, new ByteStreamTransformer(), SOURCE, 1);
+  }
+
+  @Test
+  public void transformWithoutCarriageReturns() throws Exception {
+    assertTransformed(EXPECTED, 2, new ByteStreamTransformer(), SOURCE.replace("\r", ""), 1);
+  }
+
+  @Test
+  public void transformLastLineWithoutLineSeparator() throws Exception {
+    final String source = SOURCE.substring(0, SOURCE.length() - 2);
+    assertTransformed(EXPECTED, 2, new ByteStreamTransformer(), source, 1);
+  }
+
+  @Test
+  public void transformWithBuffersSmallerThanLines() throws Exception {
+    assertTransformed(EXPECTED, 2, new ByteStreamTransformer(3), SOURCE, 1);
+  }
+
+  @Test
+  public void reuseAcrossStreams() throws Exception {
+    final ByteStreamTransformer transformer = new ByteStreamTransformer(16);
+    assertTransformed(EXPECTED, 2, transformer, SOURCE, 1);
+    assertTransformed(EXPECTED, 2, transformer, SOURCE, 1);
+  }
+
+  @Test
+  public void skipAllRows() throws Exception {
+    assertTransformed("", 0, new ByteStreamTransformer(), SOURCE, 5);
+  }
+
+  @Test
+  public void transformEmptyStream() throws Exception {
+    assertTransformed("", 0, new ByteStreamTransformer(), "", 1);
+  }
+
+  private static final void assertTransformed(final String expected,
+                                              final long expectedRows,
+                                              final ByteStreamTransformer transformer,
+                                              final String source,
+                                              final int skippedRows)
+      throws IOException {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    final long rows;
+    try (final InputStream is = new ByteArrayInputStream(source.getBytes(StandardCharsets.US_ASCII))) {
+      rows = transformer.transform(is, skippedRows, TRANSFORM, Channels.newChannel(baos));
+    }
+
+    assertEquals(expectedRows, rows);
+    assertEquals(expected, new String(baos.toByteArray(), StandardCharsets.US_ASCII));
+  }
+
+}
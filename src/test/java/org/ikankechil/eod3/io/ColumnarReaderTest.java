@@ -0,0 +1,123 @@
+/**
+ * ColumnarReaderTest.java  v0.1  18 October 2026 2:17:40 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>ColumnarReader</code> and <code>ColumnarWriter</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class ColumnarReaderTest {
+
+  @Rule
+  public ExpectedException            thrown  = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder              folder  = new TemporaryFolder();
+
+  private final ColumnarReader        reader  = new ColumnarReader();
+
+  private static final double         DELTA   = 0;
+
+  private static final List<String>   LINES   = Arrays.asList("INTC,20151204,34.11,35.03,34.00,34.94,24484400",
+                                                              "INTC,20151203,34.97,34.99,34.00,34.04,29829200",
+                                                              "INTC,20151202,35.09,35.41,34.81,34.83,18644100",
+                                                              "INTC,19800317,0.33,0.34,0.33,0.33,10924800");
+
+  @Test
+  public void readWhatWasWritten() throws Exception {
+    final File file = write(new ColumnarWriter(false), LINES);
+    assertPrices(reader.read(file));
+  }
+
+  @Test
+  public void readWhatWasWrittenWithDeltaEncoding() throws Exception {
+    final File file = write(new ColumnarWriter(true), LINES.subList(0, 3));
+    final Prices prices = reader.read(file);
+    assertArrayEquals(new int[] { 20151204, 20151203, 20151202 }, prices.dates());
+    assertEquals(34.83, prices.closes()[2], DELTA);
+
+    // delta-encoded dates take up less space
+    assertTrue(file.length() < write(new ColumnarWriter(false), LINES.subList(0, 3)).length());
+  }
+
+  @Test
+  public void fallBackWhenDeltasOverflow() throws Exception {
+    assertPrices(reader.read(write(new ColumnarWriter(true), LINES)));
+  }
+
+  @Test
+  public void readWithoutVolumes() throws Exception {
+    final File file = write(new ColumnarWriter(),
+                            Arrays.asList("^GSPC,20151204,2051.24,2093.84,2051.24,2091.69",
+                                          "^GSPC,20151203,2080.71,2085.00,2042.35,2049.62"));
+    final Prices prices = reader.read(file);
+    assertEquals("^GSPC", prices.symbol());
+    assertArrayEquals(new long[2], prices.volumes());
+    assertEquals(2091.69, prices.closes()[0], DELTA);
+  }
+
+  @Test
+  public void readEmpty() throws Exception {
+    final Prices prices = reader.read(write(new ColumnarWriter(), Collections.<String>emptyList()));
+    assertEquals(0, prices.size());
+  }
+
+  @Test
+  public void cannotReadText() throws Exception {
+    final File file = folder.newFile("INTC.csv");
+    Files.write(file.toPath(), LINES, StandardCharsets.UTF_8);
+
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Not in columnar format");
+    reader.read(file);
+  }
+
+  @Test
+  public void cannotReadTruncated() throws Exception {
+    final File file = write(new ColumnarWriter(), LINES);
+    final byte[] bytes = Files.readAllBytes(file.toPath());
+    Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Truncated");
+    reader.read(file);
+  }
+
+  private final File write(final ColumnarWriter writer, final List<String> lines) throws IOException {
+    final File file = folder.newFile();
+    writer.write(lines, file);
+    return file;
+  }
+
+  private static final void assertPrices(final Prices prices) {
+    assertEquals("INTC", prices.symbol());
+    assertEquals(LINES.size(), prices.size());
+    assertArrayEquals(new int[] { 20151204, 20151203, 20151202, 19800317 }, prices.dates());
+    assertArrayEquals(new double[] { 34.11, 34.97, 35.09, 0.33 }, prices.opens(), DELTA);
+    assertArrayEquals(new double[] { 35.03, 34.99, 35.41, 0.34 }, prices.highs(), DELTA);
+    assertArrayEquals(new double[] { 34.00, 34.00, 34.81, 0.33 }, prices.lows(), DELTA);
+    assertArrayEquals(new double[] { 34.94, 34.04, 34.83, 0.33 }, prices.closes(), DELTA);
+    assertArrayEquals(new long[] { 24484400, 29829200, 18644100, 10924800 }, prices.volumes());
+  }
+
+}
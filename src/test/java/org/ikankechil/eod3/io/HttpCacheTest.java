@@ -0,0 +1,113 @@
+/**
+ * HttpCacheTest.java  v0.1  18 October 2026 9:48:05 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>HttpCache</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class HttpCacheTest {
+
+  @Rule
+  public ExpectedException    thrown        = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder      folder        = new TemporaryFolder();
+
+  private static final byte[] BODY          = new byte[100];
+  private static final String ETAG          = "\"v1\"";
+  private static final String LAST_MODIFIED = "Fri, 04 Dec 2015 21:00:00 GMT";
+
+  @Test
+  public void cannotInstantiateWithNonPositiveMaxSize() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    new HttpCache(folder.getRoot(), 0);
+  }
+
+  @Test
+  public void storeAndLookUpValidators() throws Exception {
+    final HttpCache cache = new HttpCache(folder.getRoot(), 1000);
+    final URL url = new URL("http://localhost/INTC");
+    assertNull(cache.lookUp(url));
+
+    cache(cache, url, ETAG, LAST_MODIFIED);
+    final HttpCache.Validators validators = cache.lookUp(url);
+    assertEquals(ETAG, validators.etag());
+    assertEquals(LAST_MODIFIED, validators.lastModified());
+    assertArrayEquals(BODY, read(cache.open(validators)));
+    assertEquals(BODY.length, cache.bytes());
+    assertEquals(2, folder.getRoot().list().length);  // body and validators, no temporary files
+  }
+
+  @Test
+  public void doNotStoreResponsesWithoutValidators() throws Exception {
+    final HttpCache cache = new HttpCache(folder.getRoot(), 1000);
+    final URL url = new URL("http://localhost/INTC");
+    final InputStream response = new ByteArrayInputStream(BODY);
+    assertSame(response, cache.store(url, null, null, response));
+    assertNull(cache.lookUp(url));
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() throws Exception {
+    final HttpCache cache = new HttpCache(folder.getRoot(), 250);
+    final URL a = new URL("http://localhost/A");
+    final URL b = new URL("http://localhost/B");
+    final URL c = new URL("http://localhost/C");
+    cache(cache, a, ETAG, null);
+    cache(cache, b, ETAG, null);
+    read(cache.open(cache.lookUp(a)));  // a more recently used than b
+    cache(cache, c, ETAG, null);
+
+    assertEquals(2, cache.size());
+    assertNotNull(cache.lookUp(a));
+    assertNull(cache.lookUp(b));
+    assertNotNull(cache.lookUp(c));
+  }
+
+  @Test
+  public void restoreFromDirectory() throws Exception {
+    final URL url = new URL("http://localhost/INTC");
+    cache(new HttpCache(folder.getRoot(), 1000), url, null, LAST_MODIFIED);
+
+    final HttpCache cache = new HttpCache(folder.getRoot(), 1000);
+    assertEquals(1, cache.size());
+    assertEquals(LAST_MODIFIED, cache.lookUp(url).lastModified());
+  }
+
+  private static final void cache(final HttpCache cache, final URL url, final String etag, final String lastModified)
+      throws IOException {
+    assertArrayEquals(BODY, read(cache.store(url, etag, lastModified, new ByteArrayInputStream(BODY))));
+  }
+
+  private static final byte[] read(final InputStream stream) throws IOException {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (final InputStream is = stream) {
+      final byte[] buffer = new byte[64];
+      int n;
+      while ((n = is.read(buffer)) > 0) {
+        baos.write(buffer, 0, n);
+      }
+    }
+    return baos.toByteArray();
+  }
+
+}
@@ -0,0 +1,324 @@
+/**
+ * PooledHttpTransportTest.java  v0.1  18 October 2026 4:52:33 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * JUnit test for <code>PooledHttpTransport</code>, against a local server.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class PooledHttpTransportTest {
+
+  @Rule
+  public ExpectedException    thrown        = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder      folder        = new TemporaryFolder();
+
+  private HttpServer          server;
+  private ExecutorService     executor;
+  private URL                 prices;
+  private URL                 missing;
+  private URL                 cacheable;
+
+  private final Set<String>   clients       = Collections.synchronizedSet(new HashSet<String>());
+  private final AtomicInteger fullResponses = new AtomicInteger();
+  private final AtomicInteger compressed    = new AtomicInteger();
+
+  private static final String ETAG          = "\"v1\"";
+  private static final byte[] BODY          = "Date,Open,High,Low,Close,Volume\n2015-12-04,34.11,35.03,34.00,34.94,24484400\n".getBytes(StandardCharsets.US_ASCII);
+
+  @Before
+  public void setUp() throws Exception {
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/", new HttpHandler() {
+      @Override
+      public void handle(final HttpExchange exchange) throws IOException {
+        clients.add(exchange.getRemoteAddress().toString());
+        if (exchange.getRequestURI().getPath().equals("/SLOW")) {
+          try {
+            TimeUnit.SECONDS.sleep(2);  // hung server
+          }
+          catch (final InterruptedException iE) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        if (exchange.getRequestURI().getPath().equals("/CACHED")) {
+          if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+          }
+          fullResponses.incrementAndGet();
+          exchange.getResponseHeaders().set("ETag", ETAG);
+        }
+        final String path = exchange.getRequestURI().getPath();
+        final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        final boolean gzip = path.equals("/GZIP");
+        if ((gzip || path.equals("/DEFLATE")) &&
+            acceptEncoding != null && acceptEncoding.contains(gzip ? "gzip" : "deflate")) {
+          final ByteArrayOutputStream body = new ByteArrayOutputStream();
+          try (final OutputStream os = gzip ? new GZIPOutputStream(body) : new DeflaterOutputStream(body)) {
+            os.write(BODY);
+          }
+          compressed.incrementAndGet();
+          exchange.getResponseHeaders().set("Content-Encoding", gzip ? "gzip" : "deflate");
+          exchange.sendResponseHeaders(200, body.size());
+          try (final OutputStream os = exchange.getResponseBody()) {
+            body.writeTo(os);
+          }
+          return;
+        }
+        if (path.equals("/CORRUPT")) {
+          exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+          exchange.sendResponseHeaders(200, BODY.length);
+          try (final OutputStream os = exchange.getResponseBody()) {
+            os.write(BODY);
+          }
+          return;
+        }
+        final boolean found = !path.equals("/MISSING");
+        final byte[] body = found ? BODY : new byte[] { '?' };
+        exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+        try (final OutputStream os = exchange.getResponseBody()) {
+          os.write(body);
+        }
+      }
+    });
+    server.start();
+
+    final String base = "http://localhost:" + server.getAddress().getPort();
+    prices = new URL(base + "/INTC");
+    missing = new URL(base + "/MISSING");
+    cacheable = new URL(base + "/CACHED");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void cannotInstantiateWithNonPositiveMaxConnections() {
+    thrown.expect(IllegalArgumentException.class);
+    new PooledHttpTransport(0, 0, 0);
+  }
+
+  @Test
+  public void reuseConnections() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(2, 5000, 5000);
+    for (int i = 0; i < 5; ++i) {
+      assertArrayEquals(BODY, read(transport.open(prices)));
+    }
+    assertEquals(1, clients.size());
+    assertEquals(2, transport.availableConnections(prices));
+  }
+
+  @Test
+  public void reuseConnectionsAfterErrors() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000);
+    try {
+      transport.open(missing);
+      fail();
+    }
+    catch (final IOException ioE) {
+      assertTrue(ioE.getMessage().startsWith("HTTP 404"));
+    }
+    assertEquals(1, transport.availableConnections(missing));
+    assertArrayEquals(BODY, read(transport.open(prices)));
+  }
+
+  @Test
+  public void waitForConnection() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000);
+    final InputStream first = transport.open(prices);
+    assertEquals(0, transport.availableConnections(prices));
+
+    final Future<byte[]> second = executor.submit(new Callable<byte[]>() {
+      @Override
+      public byte[] call() throws Exception {
+        return read(transport.open(prices));
+      }
+    });
+    try {
+      second.get(200, TimeUnit.MILLISECONDS);
+      fail();
+    }
+    catch (final TimeoutException tE) {
+      // expected as the only connection is taken
+    }
+
+    first.close();
+    assertArrayEquals(BODY, second.get(5, TimeUnit.SECONDS));
+    assertEquals(1, transport.availableConnections(prices));
+  }
+
+  @Test
+  public void timeOutWaitingForConnection() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000);
+    try (final InputStream first = transport.open(prices)) {
+      transport.open(prices, 200);
+      fail();
+    }
+    catch (final SocketTimeoutException stE) {
+      assertTrue(stE.getMessage().startsWith("Timed out waiting for a connection"));
+    }
+    assertEquals(1, transport.availableConnections(prices));
+  }
+
+  @Test
+  public void timeOutWithinDeadline() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 60000);
+    final URL slow = new URL("http://localhost:" + server.getAddress().getPort() + "/SLOW");
+    final long start = System.nanoTime();
+    try {
+      transport.open(slow, 200);
+      fail();
+    }
+    catch (final SocketTimeoutException stE) {
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+    }
+    assertEquals(1, transport.availableConnections(slow));
+  }
+
+  @Test
+  public void closeOnceOnly() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000);
+    final InputStream is = transport.open(prices);
+    is.close();
+    is.close();
+    assertEquals(1, transport.availableConnections(prices));
+  }
+
+  @Test
+  public void serveNotModifiedFromCache() throws Exception {
+    final HttpCache cache = new HttpCache(folder.getRoot(), 1 << 20);
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000, cache);
+    for (int i = 0; i < 3; ++i) {
+      assertArrayEquals(BODY, read(transport.open(cacheable)));
+    }
+    assertEquals(1, fullResponses.get());
+    assertEquals(1, cache.size());
+    assertEquals(1, transport.availableConnections(cacheable));
+
+    // responses without validators are not cached
+    assertArrayEquals(BODY, read(transport.open(prices)));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void doNotCachePartiallyReadResponses() throws Exception {
+    final HttpCache cache = new HttpCache(folder.getRoot(), 1 << 20);
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000, cache);
+    try (final InputStream is = transport.open(cacheable)) {
+      assertEquals(BODY[0], is.read());
+    }
+    assertEquals(0, cache.size());
+
+    assertArrayEquals(BODY, read(transport.open(cacheable)));
+    assertEquals(2, fullResponses.get());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void decompressResponses() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000);
+    final String base = "http://localhost:" + server.getAddress().getPort();
+    for (int i = 0; i < 2; ++i) {
+      assertArrayEquals(BODY, read(transport.open(new URL(base + "/GZIP"))));
+      assertArrayEquals(BODY, read(transport.open(new URL(base + "/DEFLATE"))));
+    }
+    assertEquals(4, compressed.get());
+    assertEquals(1, clients.size());
+    assertEquals(1, transport.availableConnections(prices));
+  }
+
+  @Test
+  public void decodeRawDeflate() throws Exception {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (final OutputStream os = new DeflaterOutputStream(compressed, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+      os.write(BODY);
+    }
+    assertArrayEquals(BODY, read(PooledHttpTransport.decode(new ByteArrayInputStream(compressed.toByteArray()), "deflate")));
+    assertArrayEquals(BODY, read(PooledHttpTransport.decode(new ByteArrayInputStream(BODY), "identity")));
+  }
+
+  @Test
+  public void decodeEmptyResponses() throws Exception {
+    assertEquals(0, read(PooledHttpTransport.decode(new ByteArrayInputStream(new byte[0]), "gzip")).length);
+    assertEquals(0, read(PooledHttpTransport.decode(new ByteArrayInputStream(new byte[0]), "deflate")).length);
+  }
+
+  @Test
+  public void releaseConnectionsOfCorruptResponses() throws Exception {
+    final PooledHttpTransport transport = new PooledHttpTransport(1, 5000, 5000);
+    final URL corrupt = new URL("http://localhost:" + server.getAddress().getPort() + "/CORRUPT");
+    try {
+      transport.open(corrupt);
+      fail();
+    }
+    catch (final ZipException zE) {
+      // expected as the response is not gzip compressed
+    }
+    assertEquals(1, transport.availableConnections(corrupt));
+    assertArrayEquals(BODY, read(transport.open(prices)));
+  }
+
+  private static final byte[] read(final InputStream stream) throws IOException {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (final InputStream is = stream) {
+      final byte[] buffer = new byte[256];
+      int n;
+      while ((n = is.read(buffer)) > 0) {
+        baos.write(buffer, 0, n);
+      }
+    }
+    return baos.toByteArray();
+  }
+
+}
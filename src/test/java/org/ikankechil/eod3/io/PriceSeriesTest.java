@@ -0,0 +1,129 @@
+/**
+ * PriceSeriesTest.java  v0.1  18 October 2026 3:31:08 AM
+ *
+ * Copyright © 2026 Daniel Kuan.  All rights reserved.
+ */
+package org.ikankechil.eod3.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * JUnit test for <code>PriceSeries</code>.
+ *
+ * @author Daniel Kuan
+ * @version 0.1
+ */
+public class PriceSeriesTest {
+
+  @Rule
+  public ExpectedException          thrown = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder            folder = new TemporaryFolder();
+
+  private static final double       DELTA  = 0;
+
+  private static final List<String> LINES  = Arrays.asList("INTC,20151204,34.11,35.03,34.00,34.94,24484400",
+                                                            "INTC,20151203,34.97,34.99,34.00,34.04,29829200",
+                                                            "INTC,20151202,35.09,35.41,34.81,34.83,18644100",
+                                                            "INTC,20151201,35.00,35.20,34.71,35.09,23352200",
+                                                            "INTC,20151130,34.55,34.90,34.43,34.77,20131700");
+
+  @Test
+  public void accessByIndex() throws Exception {
+    for (final boolean deltaEncoding : new boolean[] { false, true }) {
+      final PriceSeries series = open(new ColumnarWriter(deltaEncoding));
+      assertEquals("INTC", series.symbol());
+      assertEquals(LINES.size(), series.size());
+      assertEquals(20151204, series.date(0));
+      assertEquals(20151130, series.date(4));
+      assertEquals(34.97, series.open(1), DELTA);
+      assertEquals(35.41, series.high(2), DELTA);
+      assertEquals(34.71, series.low(3), DELTA);
+      assertEquals(34.77, series.close(4), DELTA);
+      assertEquals(24484400, series.volume(0));
+    }
+  }
+
+  @Test
+  public void indexOf() throws Exception {
+    final PriceSeries series = open(new ColumnarWriter());
+    assertEquals(0, series.indexOf(20151204));
+    assertEquals(3, series.indexOf(20151201));
+    assertEquals(-1, series.indexOf(20151207));  // after the latest
+    assertEquals(-5, series.indexOf(20151131));  // between 20151201 and 20151130
+    assertEquals(-6, series.indexOf(20151127));  // before the earliest
+  }
+
+  @Test
+  public void range() throws Exception {
+    final PriceSeries series = open(new ColumnarWriter(false));
+
+    final PriceSeries range = series.range(20151201, 20151203);
+    assertEquals(3, range.size());
+    assertEquals(20151203, range.date(0));
+    assertEquals(20151201, range.date(2));
+    assertEquals(35.09, range.close(2), DELTA);
+    assertEquals(29829200, range.volume(0));
+
+    assertEquals(LINES.size(), series.range(19700101, 20991231).size());
+    assertEquals(0, series.range(20151205, 20151206).size());
+  }
+
+  @Test
+  public void bulkScan() throws Exception {
+    final PriceSeries series = open(new ColumnarWriter()).subSeries(1, 3);
+    final double[] closes = new double[series.size()];
+    series.closes().get(closes);
+    assertArrayEquals(new double[] { 34.04, 34.83 }, closes, DELTA);
+  }
+
+  @Test
+  public void toPrices() throws Exception {
+    final File file = folder.newFile();
+    new ColumnarWriter().write(LINES, file);
+    final Prices expected = new ColumnarReader().read(file);
+    final Prices actual = PriceSeries.open(file).toPrices();
+    assertArrayEquals(expected.dates(), actual.dates());
+    assertArrayEquals(expected.highs(), actual.highs(), DELTA);
+    assertArrayEquals(expected.volumes(), actual.volumes());
+  }
+
+  @Test
+  public void cannotRangeBackwards() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    open(new ColumnarWriter()).range(20151204, 20151201);
+  }
+
+  @Test
+  public void cannotSubSeriesOutOfBounds() throws Exception {
+    thrown.expect(IndexOutOfBoundsException.class);
+    open(new ColumnarWriter()).subSeries(2, LINES.size() + 1);
+  }
+
+  @Test
+  public void cannotOpenText() throws Exception {
+    final File file = folder.newFile();
+    new TextPriceWriter().write(LINES, file);
+
+    thrown.expect(IOException.class);
+    PriceSeries.open(file);
+  }
+
+  private final PriceSeries open(final ColumnarWriter writer) throws IOException {
+    final File file = folder.newFile();
+    writer.write(LINES, file);
+    return PriceSeries.open(file);
+  }
+
+}
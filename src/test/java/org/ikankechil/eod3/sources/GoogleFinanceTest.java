@@ -185,8 +185,7 @@ public class GoogleFinanceTest extends SourceTest {
   @Test
   public final void dateFormatPatterns() throws Exception {
     for (final DateFormats df : DateFormats.values()) {
-      assertTrue(df.dateFormat instanceof SimpleDateFormat);
-      final String actual = ((SimpleDateFormat) df.dateFormat).toPattern();
+      final String actual = df.dateCodec.toPattern();
 
       switch (df) {
         case URL:
@@ -6,6 +6,7 @@
 package org.ikankechil.eod3.sources;
 
 import static org.ikankechil.eod3.sources.Exchanges.*;
+import static org.junit.Assert.*;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -13,9 +14,16 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Locale;
 
+import org.ikankechil.eod3.CorporateActions;
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.io.TextTransform;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * JUnit test for <code>Quandl</code>.
@@ -50,6 +58,9 @@ public class QuandlTest extends SourceTest {
 
   private final DateFormat    urlDateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
 
+  @Rule
+  public TemporaryFolder      folder        = new TemporaryFolder();
+
   public QuandlTest() {
     exchanges.put(NYSE, WIKI);
     exchanges.put(NASDAQ, WIKI);
@@ -73,6 +84,26 @@ public class QuandlTest extends SourceTest {
                                           "INTC,20151130,34.55,34.9,34.43,34.77,19570154.0"));
   }
 
+  @Test
+  public void recordCorporateActions() throws Exception {
+    final CorporateActions actions = CorporateActions.load(folder.getRoot().toPath());
+    final TextTransform transform = source.newTransform(SYMBOL, actions);
+    assertEquals(transformedLines.get(0), transform.transform(originalLines.get(1)));
+    assertEquals("INTC,20151105,33.48,33.62,32.97,33.5,21245893.0",
+                 transform.transform("2015-11-05,33.48,33.62,32.97,33.5,21245893.0,0.24,1.0,33.24,33.38,32.73,33.26,21245893.0"));
+    transform.transform("2014-06-09,92.7,93.88,91.75,93.7,75414997.0,0.0,7.0,12.66,12.82,12.53,12.79,527904979.0");
+    // malformed actions are skipped, not fatal
+    transform.transform("2014-05-05,92.7,93.88,91.75,93.7,75414997.0,N/A,1.0,12.66,12.82,12.53,12.79,527904979.0");
+    transform.transform("2014-04-07,92.7,93.88,91.75,93.7,75414997.0,0.0,0.0,12.66,12.82,12.53,12.79,527904979.0");
+
+    final List<CorporateActions.Action> recorded = actions.between(SYMBOL, null, TradingDate.of(2015, 12, 4));
+    assertEquals(2, recorded.size());
+    assertEquals(TradingDate.of(2015, 11, 5), recorded.get(0).date);
+    assertEquals(0.24, recorded.get(0).dividend, 0);
+    assertEquals(TradingDate.of(2014, 6, 9), recorded.get(1).date);
+    assertEquals(7, recorded.get(1).split, 0);
+  }
+
   @Override
   protected URL expectedURL(final String symbol) throws MalformedURLException {
     return new URL(BASE + SLASH + symbol + CSV + SUFFIX);
@@ -11,6 +11,8 @@ import static org.ikankechil.eod3.Interval.*;
 import static org.ikankechil.eod3.sources.Exchanges.*;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -18,6 +20,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -28,6 +32,10 @@ import java.util.Map;
 import java.util.Properties;
 
 import org.ikankechil.eod3.Frequencies;
+import org.ikankechil.eod3.Interval;
+import org.ikankechil.eod3.TradingDate;
+import org.ikankechil.eod3.io.ByteStreamTransformer;
+import org.ikankechil.eod3.io.ByteTransform;
 import org.ikankechil.io.TextTransform;
 import org.ikankechil.io.TextTransformer;
 import org.junit.After;
@@ -75,6 +83,7 @@ public abstract class SourceTest {
   protected static final String            DOLLAR           = "$";
   protected static final char              QUESTION         = '?';
   protected static final char              HYPHEN           = '-';
+  private static final String              CRLF             = "\r\n";
 
   public static final String               EMPTY_SYMBOL     = "Empty symbol";
 
@@ -163,25 +172,25 @@ public abstract class SourceTest {
   @Test
   public final void cannotCreateURLWithNullSymbol3() throws Exception {
     thrown.expect(NullPointerException.class);
-    source.url(null, SINCE_INCEPTION.start(), SINCE_INCEPTION.end());
+    source.url(null, YESTERDAY, TODAY);
   }
 
   @Test
   public final void cannotCreateURLWithNullSymbol4() throws Exception {
     thrown.expect(NullPointerException.class);
-    source.url(null, SINCE_INCEPTION.start(), SINCE_INCEPTION.end(), DAILY);
+    source.url(null, YESTERDAY, TODAY, DAILY);
   }
 
   @Test
   public final void cannotCreateURLWithNullSymbol5() throws Exception {
     thrown.expect(NullPointerException.class);
-    source.url(null, NYSE, SINCE_INCEPTION.start(), SINCE_INCEPTION.end());
+    source.url(null, NYSE, YESTERDAY, TODAY);
   }
 
   @Test
   public final void cannotCreateURLWithNullSymbol6() throws Exception {
     thrown.expect(NullPointerException.class);
-    source.url(null, FX, SINCE_INCEPTION.start(), SINCE_INCEPTION.end(), DAILY);
+    source.url(null, FX, YESTERDAY, TODAY, DAILY);
   }
 
   @Test
@@ -202,28 +211,28 @@ public abstract class SourceTest {
   public final void cannotCreateURLWithEmptySymbol3() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(EMPTY, SINCE_INCEPTION.start(), SINCE_INCEPTION.end());
+    source.url(EMPTY, YESTERDAY, TODAY);
   }
 
   @Test
   public final void cannotCreateURLWithEmptySymbol4() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(EMPTY, SINCE_INCEPTION.start(), SINCE_INCEPTION.end(), DAILY);
+    source.url(EMPTY, YESTERDAY, TODAY, DAILY);
   }
 
   @Test
   public final void cannotCreateURLWithEmptySymbol5() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(EMPTY, NYSE, SINCE_INCEPTION.start(), SINCE_INCEPTION.end());
+    source.url(EMPTY, NYSE, YESTERDAY, TODAY);
   }
 
   @Test
   public final void cannotCreateURLWithEmptySymbol6() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(EMPTY, FX, SINCE_INCEPTION.start(), SINCE_INCEPTION.end(), DAILY);
+    source.url(EMPTY, FX, YESTERDAY, TODAY, DAILY);
   }
 
   @Test
@@ -244,28 +253,28 @@ public abstract class SourceTest {
   public final void cannotCreateURLWithSpaceSymbol3() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(SPACE, SINCE_INCEPTION.start(), SINCE_INCEPTION.end());
+    source.url(SPACE, YESTERDAY, TODAY);
   }
 
   @Test
   public final void cannotCreateURLWithSpaceSymbol4() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(SPACE, SINCE_INCEPTION.start(), SINCE_INCEPTION.end(), DAILY);
+    source.url(SPACE, YESTERDAY, TODAY, DAILY);
   }
 
   @Test
   public final void cannotCreateURLWithSpaceSymbol5() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(SPACE, NYSE, SINCE_INCEPTION.start(), SINCE_INCEPTION.end());
+    source.url(SPACE, NYSE, YESTERDAY, TODAY);
   }
 
   @Test
   public final void cannotCreateURLWithSpaceSymbol6() throws Exception {
     thrown.expect(IllegalArgumentException.class);
     thrown.expectMessage(EMPTY_SYMBOL);
-    source.url(SPACE, FX, SINCE_INCEPTION.start(), SINCE_INCEPTION.end(), DAILY);
+    source.url(SPACE, FX, YESTERDAY, TODAY, DAILY);
   }
 
   @Test
@@ -355,6 +364,15 @@ public abstract class SourceTest {
     }
   }
 
+  @Test
+  public void urlWithInterval() throws Exception {
+    for (final Exchanges exchange : exchanges.keySet()) {
+      assertEquals(source.url(SYMBOL, exchange, YESTERDAY, TODAY, WEEKLY),
+                   source.intervalUrl(SYMBOL, exchange, new Interval(YESTERDAY, TODAY, WEEKLY)));
+    }
+    assertEquals(source.url(SYMBOL, null, null, null, DAILY), source.intervalUrl(SYMBOL, null, SINCE_INCEPTION));
+  }
+
   @Test
   public void nullDatesImmaterialForURL() throws Exception {
     final URL expected = source.url(SYMBOL);
@@ -423,6 +441,44 @@ public abstract class SourceTest {
     assertArrayEquals(transformedLines.toArray(), actuals.toArray());
   }
 
+  @Test
+  public void streamLines() throws Exception {
+    if (source.isStreamable()) {
+      final TextTransform xfrm = source.newTransform(SYMBOL);
+
+      // transform one line at a time, as when streaming
+      final List<String> actuals = new ArrayList<>();
+      for (final String line : originalLines.subList(source.skippedRows(), originalLines.size())) {
+        final String actual = xfrm.transform(line);
+        if (!actual.isEmpty()) {
+          actuals.add(actual);
+        }
+      }
+
+      assertArrayEquals(transformedLines.toArray(), actuals.toArray());
+    }
+  }
+
+  @Test
+  public void transformBytes() throws Exception {
+    final ByteTransform xfrm = source.newByteTransform(SYMBOL);
+    if (source.isStreamable() && xfrm != null) {
+      final StringBuilder original = new StringBuilder();
+      for (final String line : originalLines) {
+        original.append(line).append(CRLF);
+      }
+
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      new ByteStreamTransformer().transform(new ByteArrayInputStream(original.toString().getBytes(StandardCharsets.UTF_8)),
+                                            source.skippedRows(),
+                                            xfrm,
+                                            Channels.newChannel(baos));
+      final String[] actuals = new String(baos.toByteArray(), StandardCharsets.UTF_8).split(System.lineSeparator());
+
+      assertArrayEquals(transformedLines.toArray(), actuals);
+    }
+  }
+
   @Test
   public void connectivity() throws Exception {
     final String symbol;
@@ -465,13 +521,13 @@ public abstract class SourceTest {
     }
 
     @Override
-    protected void appendEndDate(final StringBuilder url, final Calendar end)  { /* do nothing */ }
+    protected void appendEndDate(final StringBuilder url, final TradingDate end)  { /* do nothing */ }
 
     @Override
     protected void appendFrequency(final StringBuilder url, final Frequencies frequency) { /* do nothing */ }
 
     @Override
-    protected void appendStartDate(final StringBuilder url, final Calendar start) { /* do nothing */ }
+    protected void appendStartDate(final StringBuilder url, final TradingDate start) { /* do nothing */ }
 
     @Override
     public TextTransform newTransform(final String symbol) {